@@ -0,0 +1,73 @@
+package org.example.realengine.control;
+
+import org.example.realengine.entity.Player;
+
+/**
+ * Enum representing the logical player inputs, independent of the device that produces them.
+ * Both {@link RControl} and {@link ProgrammaticController} translate their input into these actions.
+ */
+public enum EInput {
+    /**
+     * Move left.
+     */
+    LEFT,
+    /**
+     * Move right.
+     */
+    RIGHT,
+    /**
+     * Jump, or climb up a ladder.
+     */
+    UP,
+    /**
+     * Climb down a ladder.
+     */
+    DOWN,
+    /**
+     * Short jump.
+     */
+    BUNNY_JUMP;
+
+    /**
+     * Applies the effect of pressing this input to the player.
+     *
+     * @param player The player to control.
+     */
+    public void press(Player player) {
+        switch (this) {
+            case LEFT -> player.setMovingLeft(true);
+            case RIGHT -> player.setMovingRight(true);
+            case UP -> {
+                player.jump();
+                player.setClimbingUp(true);
+            }
+            case DOWN -> {
+                player.setMovingDown(true);
+                player.setClimbingDown(true);
+            }
+            case BUNNY_JUMP -> player.bunnyJump();
+        }
+    }
+
+    /**
+     * Applies the effect of releasing this input to the player.
+     *
+     * @param player The player to control.
+     */
+    public void release(Player player) {
+        switch (this) {
+            case LEFT -> player.setMovingLeft(false);
+            case RIGHT -> player.setMovingRight(false);
+            case UP -> {
+                player.setMovingUp(false);
+                player.setClimbingUp(false);
+            }
+            case DOWN -> {
+                player.setMovingDown(false);
+                player.setClimbingDown(false);
+            }
+            case BUNNY_JUMP -> {
+            }
+        }
+    }
+}
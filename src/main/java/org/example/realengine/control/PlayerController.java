@@ -0,0 +1,18 @@
+package org.example.realengine.control;
+
+import org.example.realengine.entity.Player;
+
+/**
+ * A source of player input that is polled by the {@link org.example.realengine.game.World} once per tick,
+ * on the simulation thread.
+ */
+@FunctionalInterface
+public interface PlayerController {
+    /**
+     * Applies this controller's input to the player before the tick is simulated.
+     *
+     * @param player The player to control.
+     * @param tick   The number of the tick about to be simulated.
+     */
+    void apply(Player player, long tick);
+}
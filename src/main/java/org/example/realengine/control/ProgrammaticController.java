@@ -0,0 +1,85 @@
+package org.example.realengine.control;
+
+import org.example.realengine.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * A {@link PlayerController} driven from code instead of a keyboard, for headless simulation and benchmarks.
+ * <p>Inputs are held with {@link #press(EInput)} and let go with {@link #release(EInput)}. Changes are
+ * applied to the player at the start of the next tick, exactly as the corresponding key presses would be.</p>
+ */
+public final class ProgrammaticController implements PlayerController {
+    /**
+     * The input state requested by the caller, indexed by {@link EInput#ordinal()}.
+     */
+    private final boolean[] held = new boolean[EInput.values().length];
+    /**
+     * The input state last applied to the player, indexed by {@link EInput#ordinal()}.
+     */
+    private final boolean[] applied = new boolean[EInput.values().length];
+    /**
+     * Inputs pressed with {@link #tap(EInput)} that are released again after one tick.
+     */
+    private final boolean[] tapped = new boolean[EInput.values().length];
+
+    /**
+     * Holds down the given input from the next tick on.
+     *
+     * @param input The input to press.
+     */
+    public void press(EInput input) {
+        held[input.ordinal()] = true;
+    }
+
+    /**
+     * Lets go of the given input from the next tick on.
+     *
+     * @param input The input to release.
+     */
+    public void release(EInput input) {
+        held[input.ordinal()] = false;
+    }
+
+    /**
+     * Presses the input for a single tick: it is pressed on the next tick and released on the one after.
+     *
+     * @param input The input to tap.
+     */
+    public void tap(EInput input) {
+        held[input.ordinal()] = true;
+        applied[input.ordinal()] = false;
+        tapped[input.ordinal()] = true;
+    }
+
+    /**
+     * Releases all inputs.
+     */
+    public void releaseAll() {
+        Arrays.fill(held, false);
+        Arrays.fill(tapped, false);
+    }
+
+    /**
+     * Fires press and release actions for every input whose state changed since the last tick.
+     *
+     * @param player The player to control.
+     * @param tick   The number of the tick about to be simulated.
+     */
+    @Override
+    public void apply(Player player, long tick) {
+        final EInput[] inputs = EInput.values();
+        for (int i = 0; i < inputs.length; i++) {
+            if (held[i] && !applied[i]) {
+                inputs[i].press(player);
+            } else if (!held[i] && applied[i]) {
+                inputs[i].release(player);
+            }
+            applied[i] = held[i];
+            if (tapped[i]) {
+                held[i] = false;
+                tapped[i] = false;
+            }
+        }
+    }
+}
@@ -2,7 +2,7 @@ package org.example.realengine.control;
 
 import org.example.realengine.demo.GamePanel;
 import org.example.realengine.entity.Player;
-import org.example.realengine.graphics.Render;
+import org.example.realengine.graphics.Camera;
 import org.jetbrains.annotations.NotNull;
 
 import java.awt.event.KeyEvent;
@@ -31,37 +31,44 @@ public final class RControl implements KeyListener {
 
     /**
      * Invoked when a key has been pressed. Handles movement, jumping, climbing,
-     * bunny jumping, opening the map menu, and reversing textures.
+     * bunny jumping, opening the map menu, reversing textures, toggling the frame timing overlay (F3),
+     * toggling the minimap (M) and zooming the camera in (+), out (-) or back to 1 (0).
+     * The time of the input is recorded for input-to-present latency.
      *
      * @param e the event to be processed
      */
     @Override
     public void keyPressed(KeyEvent e) {
-        int code = e.getKeyCode();
-        if (code == KeyEvent.VK_LEFT || code == KeyEvent.VK_A) {
-            controlledPlayer.setMovingLeft(true);
+        if (e.getComponent() instanceof GamePanel gamePanel) {
+            gamePanel.getPresentStats().markInput();
         }
-        if (code == KeyEvent.VK_RIGHT || code == KeyEvent.VK_D) {
-            controlledPlayer.setMovingRight(true);
-        }
-        if (code == KeyEvent.VK_UP || code == KeyEvent.VK_W || code == KeyEvent.VK_SPACE) {
-            controlledPlayer.jump();
-            controlledPlayer.setClimbingUp(true);
-        }
-        if (code == KeyEvent.VK_DOWN || code == KeyEvent.VK_S) {
-            controlledPlayer.setMovingDown(true);
-            controlledPlayer.setClimbingDown(true);
-        }
-        if (code == KeyEvent.VK_SHIFT) {
-            controlledPlayer.bunnyJump();
+        final EInput input = toInput(e.getKeyCode());
+        if (input != null) {
+            input.press(controlledPlayer);
         }
         if (e.getKeyCode() == KeyEvent.VK_L) {
             GamePanel gamePanel = (GamePanel) e.getComponent();
             gamePanel.getAudio().stopMusic();
             gamePanel.showMapMenu();
         }
-        if (e.getKeyCode() == KeyEvent.VK_P) {
-            Render.reverseTexturesOn();
+        if (e.getKeyCode() == KeyEvent.VK_P && e.getComponent() instanceof GamePanel gamePanel) {
+            gamePanel.getRender().reverseTexturesOn();
+        }
+        if (e.getKeyCode() == KeyEvent.VK_F3 && e.getComponent() instanceof GamePanel gamePanel) {
+            gamePanel.toggleProfilerOverlay();
+        }
+        if (e.getKeyCode() == KeyEvent.VK_M && e.getComponent() instanceof GamePanel gamePanel) {
+            gamePanel.toggleMinimap();
+        }
+        if (e.getComponent() instanceof GamePanel gamePanel) {
+            final Camera camera = gamePanel.getWorld().getCamera();
+            switch (e.getKeyCode()) {
+                case KeyEvent.VK_EQUALS, KeyEvent.VK_PLUS, KeyEvent.VK_ADD -> camera.setZoom(camera.getRequestedZoom() * 2);
+                case KeyEvent.VK_MINUS, KeyEvent.VK_SUBTRACT -> camera.setZoom(camera.getRequestedZoom() / 2);
+                case KeyEvent.VK_0, KeyEvent.VK_NUMPAD0 -> camera.setZoom(1);
+                default -> {
+                }
+            }
         }
     }
 
@@ -72,20 +79,29 @@ public final class RControl implements KeyListener {
      */
     @Override
     public void keyReleased(KeyEvent e) {
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_A, KeyEvent.VK_LEFT -> controlledPlayer.setMovingLeft(false);
-            case KeyEvent.VK_D, KeyEvent.VK_RIGHT -> controlledPlayer.setMovingRight(false);
-            case KeyEvent.VK_SPACE, KeyEvent.VK_W, KeyEvent.VK_UP -> {
-                controlledPlayer.setMovingUp(false);
-                controlledPlayer.setClimbingUp(false);
-            }
-            case KeyEvent.VK_S, KeyEvent.VK_DOWN -> {
-                controlledPlayer.setMovingDown(false);
-                controlledPlayer.setClimbingDown(false);
-            }
+        final EInput input = toInput(e.getKeyCode());
+        if (input != null) {
+            input.release(controlledPlayer);
         }
     }
 
+    /**
+     * Maps a key code to the logical input it triggers.
+     *
+     * @param keyCode The key code of the event.
+     * @return The corresponding {@link EInput}, or {@code null} if the key is not a player input.
+     */
+    private static EInput toInput(int keyCode) {
+        return switch (keyCode) {
+            case KeyEvent.VK_LEFT, KeyEvent.VK_A -> EInput.LEFT;
+            case KeyEvent.VK_RIGHT, KeyEvent.VK_D -> EInput.RIGHT;
+            case KeyEvent.VK_UP, KeyEvent.VK_W, KeyEvent.VK_SPACE -> EInput.UP;
+            case KeyEvent.VK_DOWN, KeyEvent.VK_S -> EInput.DOWN;
+            case KeyEvent.VK_SHIFT -> EInput.BUNNY_JUMP;
+            default -> null;
+        };
+    }
+
     /**
      * Invoked when a key has been typed. Not used in this implementation.
      *
@@ -0,0 +1,113 @@
+package org.example.realengine.demo;
+
+import org.example.realengine.graphics.PresentStats;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * <p>A heavyweight {@code Canvas} that is drawn directly from the game thread through a {@link BufferStrategy}.</p>
+ * <p>This bypasses {@code repaint()} and the event dispatch thread, which merges repaint requests
+ * and adds a thread hop of latency. Lost or restored buffer contents are handled by redrawing the frame.</p>
+ */
+public class ActiveRenderCanvas extends Canvas {
+    /**
+     * The number of buffers requested for the buffer strategy.
+     */
+    private static final int BUFFER_COUNT = 2;
+    /**
+     * Draws one complete frame into the graphics context of the back buffer.
+     */
+    private final FramePainter painter;
+    /**
+     * Collects presented frame rate and input latency.
+     */
+    private final PresentStats presentStats;
+    /**
+     * Flag indicating if {@code Toolkit.sync()} is called after each presented frame.
+     */
+    private final boolean vsync;
+    /**
+     * The buffer strategy, created lazily once the canvas is displayable.
+     */
+    private volatile BufferStrategy strategy;
+
+    /**
+     * Constructs a new {@code ActiveRenderCanvas}.
+     *
+     * @param painter      The callback drawing a complete frame.
+     * @param presentStats The statistics updated after every presented frame.
+     * @param vsync        If true, {@code Toolkit.sync()} is called after each frame.
+     */
+    public ActiveRenderCanvas(FramePainter painter, PresentStats presentStats, boolean vsync) {
+        this.painter = painter;
+        this.presentStats = presentStats;
+        this.vsync = vsync;
+        this.setIgnoreRepaint(true);
+        this.setFocusable(false);
+    }
+
+    /**
+     * Drops the buffer strategy when the native peer is destroyed, e.g. when the game panel
+     * is swapped out for the map menu. It is recreated on the next {@link #renderFrame()}.
+     */
+    @Override
+    public void removeNotify() {
+        strategy = null;
+        super.removeNotify();
+    }
+
+    /**
+     * Draws and presents one frame from the calling thread.
+     * Does nothing if the canvas is not displayable or has no size yet.
+     *
+     * @return {@code true} if a frame was presented, {@code false} otherwise.
+     */
+    public boolean renderFrame() {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        try {
+            BufferStrategy bufferStrategy = strategy;
+            if (bufferStrategy == null) {
+                createBufferStrategy(BUFFER_COUNT);
+                bufferStrategy = getBufferStrategy();
+                strategy = bufferStrategy;
+            }
+            do {
+                do {
+                    final Graphics2D g = (Graphics2D) bufferStrategy.getDrawGraphics();
+                    try {
+                        g.setColor(getBackground());
+                        g.fillRect(0, 0, getWidth(), getHeight());
+                        painter.paintFrame(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (bufferStrategy.contentsRestored());
+                bufferStrategy.show();
+            } while (bufferStrategy.contentsLost());
+        } catch (IllegalStateException _) {
+            strategy = null;
+            return false;
+        }
+        if (vsync) {
+            Toolkit.getDefaultToolkit().sync();
+        }
+        presentStats.markPresented();
+        return true;
+    }
+
+    /**
+     * Callback that draws one complete frame.
+     */
+    @FunctionalInterface
+    public interface FramePainter {
+        /**
+         * Draws a frame into the given graphics context.
+         *
+         * @param g The graphics context of the back buffer.
+         */
+        void paintFrame(Graphics2D g);
+    }
+}
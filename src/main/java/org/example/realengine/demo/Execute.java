@@ -1,6 +1,12 @@
 package org.example.realengine.demo;
 
+import org.example.realengine.game.GameClock;
+
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * <p>The {@code Execute} class is responsible for launching the main application window and initializing the game panel.</p>
@@ -12,6 +18,25 @@ public final class Execute {
      * <p>A {@code Runnable} instance that sets up and starts the main game window.</p>
      * <p>This includes creating the {@code JFrame}, setting its properties (e.g., full screen, undecorated),
      * initializing the {@code GamePanel}, adding it to the frame, and starting the game thread.</p>
+     * <p>The target frame rate can be set with {@code -Drealengine.fps=<n>}; {@code 0} runs uncapped.
+     * The simulation rate is set independently with {@code -Drealengine.tickRate=<n>}.</p>
+     * <p>{@code -Drealengine.activeRendering=true} draws frames from the game thread through a
+     * {@code BufferStrategy} instead of {@code repaint()}; {@code -Drealengine.vsync=true} adds {@code Toolkit.sync()}.</p>
+     * <p>{@code -Drealengine.adaptiveQuality=false} keeps full quality even when frames go over budget.</p>
+     * <p>{@code -Drealengine.chunkCache=true} draws the map from pre-rendered chunks instead of tile by tile. It is off
+     * by default because blending the translucent chunk images is slower than drawing the tiles in the software
+     * pipeline (see {@code RasterBenchmark}).</p>
+     * <p>{@code -Drealengine.dirtyRegions=false} redraws the whole frame even while the camera does not move.</p>
+     * <p>{@code -Drealengine.autoTiling=false} draws every tile with its plain texture, without edges and corners.</p>
+     * <p>{@code -Drealengine.lighting=false} draws cave levels without darkness and light from glowing tiles.</p>
+     * <p>{@code -Drealengine.minimap=true} shows the minimap from the start; it is toggled with M.</p>
+     * <p>{@code -Drealengine.logicalResolution=<width>x<height>} (e.g. {@code 640x360}) draws the scene at a fixed
+     * resolution and scales it to the screen by an integer factor.</p>
+     * <p>{@code -Drealengine.softwareRaster=true} draws the background and the map into an {@code int[]} framebuffer
+     * on {@code -Drealengine.rasterThreads=<n>} threads (all processors by default) instead of with Java2D. Off by
+     * default, because it is slower than Java2D on a single core.</p>
+     * <p>Frame phase timings are written to a CSV file in {@code -Drealengine.profileDir=<dir>}
+     * (default {@code profiles}) when the application exits; an empty value disables the export.</p>
      */
     public final static Runnable run = () -> {
         final JFrame frame = new JFrame();
@@ -20,11 +45,47 @@ public final class Execute {
         frame.setResizable(false);
         GamePanel gamePanel;
         gamePanel = new GamePanel(frame);
+        gamePanel.getFramePacer().setTargetFps(Integer.getInteger("realengine.fps", GamePanel.DEFAULT_FPS));
+        gamePanel.setTickRate(Integer.getInteger("realengine.tickRate", GameClock.DEFAULT_TICK_RATE));
+        gamePanel.setAdaptiveQuality(Boolean.parseBoolean(System.getProperty("realengine.adaptiveQuality", "true")));
+        gamePanel.getRender().setChunkCacheEnabled(Boolean.parseBoolean(System.getProperty("realengine.chunkCache", "false")));
+        if (Boolean.getBoolean("realengine.softwareRaster")) {
+            gamePanel.getRender().setSoftwareRasterizer(Integer.getInteger("realengine.rasterThreads",
+                    Runtime.getRuntime().availableProcessors()));
+        }
+        final String logicalResolution = System.getProperty("realengine.logicalResolution", "");
+        if (!logicalResolution.isEmpty()) {
+            try {
+                final String[] size = logicalResolution.split("x", 2);
+                gamePanel.setLogicalResolution(Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()));
+            } catch (RuntimeException e) {
+                System.out.println("WARN: Ignoring logical resolution " + logicalResolution + ": " + e.getMessage());
+            }
+        }
+        gamePanel.setDirtyRegions(Boolean.parseBoolean(System.getProperty("realengine.dirtyRegions", "true")));
+        gamePanel.getRender().setAutoTiling(Boolean.parseBoolean(System.getProperty("realengine.autoTiling", "true")));
+        gamePanel.getRender().setLightingEnabled(Boolean.parseBoolean(System.getProperty("realengine.lighting", "true")));
+        gamePanel.setMinimap(Boolean.getBoolean("realengine.minimap"));
+        if (Boolean.getBoolean("realengine.activeRendering")) {
+            gamePanel.enableActiveRendering(Boolean.getBoolean("realengine.vsync"));
+        }
         frame.add(gamePanel);
         frame.pack();
         frame.setLocationRelativeTo(null);
         frame.setVisible(true);
         gamePanel.startGameThread();
+        final String profileDir = System.getProperty("realengine.profileDir", "profiles");
+        if (!profileDir.isEmpty()) {
+            final Path file = Path.of(profileDir, "frame-times-"
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    gamePanel.getProfiler().exportCsv(file);
+                } catch (IOException e) {
+                    System.out.println("WARN: could not export frame times to " + file + ": " + e.getMessage());
+                }
+            }));
+        }
     };
 
     /**
@@ -2,79 +2,90 @@ package org.example.realengine.demo;
 
 import org.example.realengine.control.RControl;
 import org.example.realengine.demo.mapmenu.MapMenuPanel;
-import org.example.realengine.entity.EntityManager;
-import org.example.realengine.entity.Player;
-import org.example.realengine.graphics.Camera;
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.EQualityLevel;
+import org.example.realengine.game.FramePacer;
+import org.example.realengine.game.FrameProfiler;
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.QualityGovernor;
+import org.example.realengine.game.World;
+import org.example.realengine.graphics.DirtyRegionTracker;
+import org.example.realengine.graphics.Minimap;
+import org.example.realengine.graphics.PresentStats;
+import org.example.realengine.graphics.ProfilerOverlay;
 import org.example.realengine.graphics.Render;
+import org.example.realengine.graphics.RenderSnapshot;
+import org.example.realengine.graphics.RenderSnapshotBuffer;
+import org.example.realengine.graphics.hud.HudCompositor;
+import org.example.realengine.graphics.hud.TextWidget;
 import org.example.realengine.map.RMap;
-import org.example.realengine.object.EObject;
-import org.example.realengine.object.ObjectManager;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 
-import static org.example.realengine.game.GameConstants.TILE_SIZE;
-
 /**
- * <p>The main game panel responsible for rendering, game logic, and managing the game loop.</p>
+ * <p>The main game panel responsible for rendering, input, and managing the game loop.</p>
  * <p>Extends {@code JPanel} and implements {@code Runnable} to run the game loop in a separate thread.</p>
- * <p>Manages the game map, player, camera, and input processing.</p>
+ * <p>The simulation itself lives in a headless {@link World}; this panel is a Swing frontend on top of it
+ * that adds rendering, keyboard input, audio, and the level timer.</p>
  */
 public class GamePanel extends JPanel implements Runnable {
     /**
-     * The maximum number of world columns.
-     */
-    public static final int MAX_WORLD_COL = 180;
-    /**
-     * The maximum number of world rows.
+     * Default number of rendered frames per second.
      */
-    public static final int MAX_WORLD_ROW = 14;
+    public static final int DEFAULT_FPS = 60;
     /**
-     * Delay for box gravity application.
+     * Frame rate used while the game is paused or the window is not focused.
      */
-    private static final int BOX_GRAVITY_DELAY = 6;
+    private static final int IDLE_FPS = 15;
     /**
-     * Frames per second for the game loop.
+     * The maximum number of simulation ticks run in a single frame before excess time is discarded.
      */
-    private static final int FPS = 60;
+    private static final int MAX_CATCH_UP_TICKS = 5;
     /**
-     * The width of the game world in pixels.
+     * The distance of the minimap from the top and right edges of the screen.
      */
-    public static int WORLD_WIDTH = TILE_SIZE * MAX_WORLD_COL;
+    private static final int MINIMAP_MARGIN = 10;
     /**
-     * The height of the game world in pixels.
+     * The font of the HUD text.
      */
-    public static int WORLD_HEIGHT = TILE_SIZE * MAX_WORLD_ROW;
+    private static final Font HUD_FONT = new Font("Arial", Font.BOLD, 20);
     /**
      * The renderer responsible for drawing game elements.
      */
     private final Render render;
     /**
-     * The camera controlling the view of the game world.
+     * The simulated game world.
      */
-    private final Camera camera;
-    /**
-     * The player entity.
-     */
-    private final Player player;
+    private final World world;
     /**
      * The main JFrame of the application.
      */
     private final JFrame frame;
-    /**
-     * Manages all entities in the game.
-     */
-    private final EntityManager entityManager;
     /**
      * Records and manages best times for game maps.
      */
     private final RecordTime recordTime = new RecordTime("resources\\saves\\best_times.csv");
     /**
-     * Manages all objects in the game.
+     * Paces the game loop and counts overshoot and dropped ticks.
+     */
+    private final FramePacer framePacer = new FramePacer(DEFAULT_FPS, IDLE_FPS);
+    /**
+     * Presented frame rate and input-to-present latency, for both rendering paths.
      */
-    private final ObjectManager objectManager;
+    private final PresentStats presentStats = new PresentStats();
+    /**
+     * Times the simulation and render phases of every frame.
+     */
+    private final FrameProfiler profiler = new FrameProfiler(true);
+    /**
+     * The canvas drawn from the game thread in active rendering mode, or {@code null} when
+     * frames go through {@code repaint()} and {@link #paintComponent(Graphics)}.
+     */
+    private ActiveRenderCanvas activeCanvas;
     /**
      * The current screen width.
      */
@@ -84,25 +95,77 @@ public class GamePanel extends JPanel implements Runnable {
      */
     private int screenHeight;
     /**
-     * The current game map.
+     * The thread running the game loop.
      */
-    private RMap map;
+    private Thread gameThread;
     /**
-     * The player's spawn point on the map.
+     * Flag indicating if the game is paused.
      */
-    private Point spawnPoint;
+    private volatile boolean isPaused = false;
     /**
-     * The thread running the game loop.
+     * Hands the game state captured by the game thread to whichever thread draws the frame.
      */
-    private Thread gameThread;
+    private final RenderSnapshotBuffer snapshots = new RenderSnapshotBuffer();
     /**
-     * Flag indicating if the game is paused.
+     * Draws the HUD from cached widget images.
+     */
+    private final HudCompositor hud = new HudCompositor();
+    /**
+     * Flag indicating if the frame timing overlay is drawn.
+     */
+    private volatile boolean profilerOverlay = false;
+    /**
+     * Draws the overview of the whole map in the top-right corner.
      */
-    private boolean isPaused = false;
+    private final Minimap minimap = new Minimap();
     /**
-     * Tick counter for box gravity.
+     * The bounds of the minimap in the last retained frame.
      */
-    private int boxGravityTick = 0;
+    private final Rectangle minimapBounds = new Rectangle();
+    /**
+     * Flag indicating if the minimap is drawn.
+     */
+    private volatile boolean minimapEnabled = false;
+    /**
+     * Lowers the quality when frames go over budget, or {@code null} if the quality is fixed.
+     */
+    private QualityGovernor governor = new QualityGovernor();
+    /**
+     * The quality level used for drawing the next frame.
+     */
+    private volatile EQualityLevel quality = EQualityLevel.FULL;
+    /**
+     * The time spent in the last {@link #drawFrame(Graphics2D)} call, in nanoseconds.
+     */
+    private volatile long lastDrawNanos = 0;
+    /**
+     * The off-screen image the scene is drawn into when the render scale is below 1, created on demand.
+     */
+    private BufferedImage sceneBuffer;
+    /**
+     * The fixed resolution the scene is drawn at before it is scaled to the panel, or 0 to draw at the panel size.
+     */
+    private volatile int logicalWidth, logicalHeight;
+    /**
+     * The off-screen image of {@link #logicalWidth} by {@link #logicalHeight} the scene is drawn into, created on demand.
+     */
+    private BufferedImage logicalFrame;
+    /**
+     * Finds the regions of {@link #retainedFrame} to redraw while the camera is static.
+     */
+    private final DirtyRegionTracker dirtyRegions = new DirtyRegionTracker();
+    /**
+     * The previous frame, of which only dirty regions are redrawn, or {@code null} before the first frame.
+     */
+    private BufferedImage retainedFrame;
+    /**
+     * Flag indicating if frames are redrawn only in dirty regions while the camera is static.
+     */
+    private volatile boolean dirtyRegionsEnabled = true;
+    /**
+     * The drawing state {@link #retainedFrame} was drawn with, see {@link #drawState(EQualityLevel)}.
+     */
+    private int retainedState = -1;
     /**
      * The current audio being played.
      */
@@ -118,8 +181,7 @@ public class GamePanel extends JPanel implements Runnable {
 
     /**
      * <p>Constructs a new {@code GamePanel}.</p>
-     * <p>Initializes game components such as the renderer, map, player, camera, and entity/object managers.</p>
-     * <p>Attempts to load the default map and find the player spawn point.</p>
+     * <p>Creates the renderer and a {@link World} on the default map, and subscribes to its level-end event.</p>
      *
      * @param frame The parent {@code JFrame} for this panel.
      * @throws RuntimeException if the default map cannot be loaded.
@@ -128,25 +190,13 @@ public class GamePanel extends JPanel implements Runnable {
         this.frame = frame;
         this.render = new Render();
         try {
-            this.map = RMap.loadFromPng("resources\\maps\\defaultmap.png");
-            WORLD_WIDTH = map.getWidth() * TILE_SIZE;
-            WORLD_HEIGHT = map.getHeight() * TILE_SIZE;
+            this.world = World.load("resources\\maps\\defaultmap.png", 1, 1, new GameClock(GameClock.DEFAULT_TICK_RATE));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        this.spawnPoint = findSpawnPoint(map);
-        if (spawnPoint == null) {
-            System.out.println("WARN: PLAYER_SPAWN not found, using default spawn position.");
-            spawnPoint = new Point(2 * TILE_SIZE, (MAX_WORLD_ROW - 5) * TILE_SIZE);
-        }
-        this.player = new Player(spawnPoint.x, spawnPoint.y, this);
-        this.player.setWidth(TILE_SIZE);
-        this.player.setHeight(TILE_SIZE);
-        this.map.addEntity(player);
-        this.camera = new Camera(1, 1, WORLD_WIDTH, WORLD_HEIGHT);
-        this.camera.follow(player);
-        this.entityManager = new EntityManager(map, camera, player);
-        this.objectManager = new ObjectManager();
+        world.setProfiler(profiler);
+        render.setProfiler(profiler);
+        this.world.setListener(_ -> endLevel());
         this.init();
     }
 
@@ -161,10 +211,13 @@ public class GamePanel extends JPanel implements Runnable {
 
     /**
      * Ends the current level, saves the player's time, and displays the map menu.
+     * Called from the game thread; the game is paused immediately and the menu is shown on the event dispatch thread.
      */
     public void endLevel() {
-        recordTime.saveTime(map.getPath(), time);
-        showMapMenu();
+        if (isPaused) return;
+        recordTime.saveTime(world.getMap().getPath(), time);
+        pauseGame();
+        SwingUtilities.invokeLater(this::showMapMenu);
     }
 
     /**
@@ -174,28 +227,146 @@ public class GamePanel extends JPanel implements Runnable {
         this.setBackground(new Color(25, 25, 40));
         this.setDoubleBuffered(true);
         this.setAudio();
-        this.addKeyListener(new RControl(player));
+        this.addKeyListener(new RControl(world.getPlayer()));
         this.setFocusable(true);
         this.setFullScreen();
+        this.initHud();
         this.timer.start();
     }
 
     /**
-     * Retrieves the {@code EntityManager} instance responsible for managing game entities.
+     * Adds the default HUD widgets: the static instructions, the level time, the best time and the frame statistics.
+     */
+    private void initHud() {
+        hud.add(TextWidget.of(10, 30, HUD_FONT, Color.WHITE,
+                "Use arrow or wsad to move and jump and use shift for mini jump"));
+        hud.add(new TextWidget(10, 60, HUD_FONT, Color.WHITE,
+                v -> "Time: " + v[0] + " seconds", () -> time));
+        hud.add(new TextWidget(10, 90, HUD_FONT, Color.WHITE,
+                v -> "Best time: " + v[0], () -> recordTime.getBestTime(world.getMap().getPath())));
+        hud.add(new TextWidget(10, 120, HUD_FONT, Color.WHITE,
+                v -> "FPS: " + v[0] + " | input to present: " + v[1] + " ms | quality: " + EQualityLevel.values()[(int) v[2]],
+                presentStats::getPresentedFps,
+                () -> presentStats.getLastLatencyNanos() / 1_000_000,
+                () -> quality.ordinal()));
+    }
+
+    /**
+     * Retrieves the simulated game world.
+     *
+     * @return The {@code World} instance.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Retrieves the {@code FramePacer} used by the game loop.
+     *
+     * @return The {@code FramePacer} instance.
+     */
+    public FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    /**
+     * Retrieves the profiler timing the phases of every frame.
+     *
+     * @return The {@code FrameProfiler} instance.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Toggles the frame timing overlay.
+     */
+    public void toggleProfilerOverlay() {
+        profilerOverlay = !profilerOverlay;
+    }
+
+    /**
+     * Toggles the minimap.
+     */
+    public void toggleMinimap() {
+        minimapEnabled = !minimapEnabled;
+    }
+
+    /**
+     * Shows or hides the minimap.
+     *
+     * @param enabled If true, the minimap is drawn in the top-right corner.
+     */
+    public void setMinimap(boolean enabled) {
+        this.minimapEnabled = enabled;
+    }
+
+    /**
+     * Enables or disables the adaptive quality governor. When disabled, the game is always drawn at full quality.
+     * Must be called before {@link #startGameThread()}.
+     *
+     * @param adaptive If true, the quality is lowered while frames go over budget.
+     */
+    public void setAdaptiveQuality(boolean adaptive) {
+        this.governor = adaptive ? new QualityGovernor() : null;
+        this.quality = EQualityLevel.FULL;
+        world.setReducedSimulation(false);
+    }
+
+    /**
+     * Retrieves the HUD compositor, e.g. to add more widgets. Widgets must only be added or removed while
+     * the game thread is not drawing, i.e. before {@link #startGameThread()} in active rendering mode.
+     *
+     * @return The {@code HudCompositor} instance.
+     */
+    public HudCompositor getHud() {
+        return hud;
+    }
+
+    /**
+     * Retrieves the renderer drawing the game scene.
+     *
+     * @return The {@code Render} instance.
+     */
+    public Render getRender() {
+        return render;
+    }
+
+    /**
+     * Retrieves the presented frame rate and input latency statistics.
      *
-     * @return The {@code EntityManager} instance.
+     * @return The {@code PresentStats} instance.
      */
-    public EntityManager getEntityManager() {
-        return entityManager;
+    public PresentStats getPresentStats() {
+        return presentStats;
+    }
+
+    /**
+     * <p>Switches the panel to active rendering: frames are drawn from the game thread into an
+     * {@link ActiveRenderCanvas} instead of going through {@code repaint()} on the event dispatch thread.</p>
+     * <p>Must be called on the event dispatch thread before {@link #startGameThread()}.</p>
+     *
+     * @param vsync If true, {@code Toolkit.sync()} is called after each presented frame.
+     */
+    public void enableActiveRendering(boolean vsync) {
+        if (activeCanvas != null) return;
+        activeCanvas = new ActiveRenderCanvas(this::drawFrame, presentStats, vsync);
+        activeCanvas.setBackground(getBackground());
+        this.setLayout(new BorderLayout());
+        this.add(activeCanvas, BorderLayout.CENTER);
+        this.setIgnoreRepaint(true);
     }
 
     /**
-     * Retrieves the {@code ObjectManager} instance responsible for managing game objects.
+     * Sets the number of simulation ticks per second by giving the world a new {@link GameClock}.
+     * The render frame rate is set separately through {@link #getFramePacer()}.
+     * Must be called before {@link #startGameThread()}.
      *
-     * @return The {@code ObjectManager} instance.
+     * @param tickRate The new tick rate, must be positive.
+     * @throws IllegalArgumentException if {@code tickRate} is not positive.
      */
-    public ObjectManager getObjectManager() {
-        return objectManager;
+    public void setTickRate(int tickRate) {
+        world.setClock(new GameClock(tickRate));
     }
 
     /**
@@ -206,29 +377,39 @@ public class GamePanel extends JPanel implements Runnable {
         this.screenWidth = frame.getWidth();
         this.screenHeight = frame.getHeight();
         this.setPreferredSize(new Dimension(screenWidth, screenHeight));
-        camera.updateScreenDimensions(screenWidth, screenHeight);
-        camera.setFollowOffsetX(-screenWidth / 4.0f);
+        updateCamera();
     }
 
     /**
-     * +
-     * Finds the first occurrence of {@code PLAYER_SPAWN} in the map's collision layer.
+     * <p>Sets a fixed resolution the scene is drawn at. Every frame is drawn into an image of that size and scaled to
+     * the panel once with nearest neighbour, by the largest integer factor that fits (centered, with borders in the
+     * background color), so the fill cost no longer grows with the display. The camera, and with it all culling,
+     * works in the logical resolution. The HUD is still drawn at the panel's resolution.</p>
+     * <p>A logical size dividing the display, such as 640x360 for 1080p, 1440p and 4K, fills it without borders.
+     * If the panel is smaller than the logical resolution, the frame is scaled down to fit instead.</p>
+     * <p>Must be called on the event dispatch thread before {@link #startGameThread()}.</p>
      *
-     * @param mapToSearch The {@code RMap} to search within.
-     * @return A {@code Point} representing the top-left pixel coordinates of the spawn tile, or {@code null} if not found.
-     */
-    private Point findSpawnPoint(final RMap mapToSearch) {
-        final EObject[][] collisionLayer = mapToSearch.getCollisionMap();
-        if (collisionLayer == null) return null;
-        for (int y = 0; y < mapToSearch.getHeight(); y++) {
-            for (int x = 0; x < mapToSearch.getWidth(); x++) {
-                if (x < collisionLayer.length && y < collisionLayer[x].length)
-                    if (collisionLayer[x][y] == EObject.PLAYER_SPAWN)
-                        return new Point(x * TILE_SIZE, y * TILE_SIZE);
-
-            }
+     * @param width  The logical width, or 0 to draw at the panel size.
+     * @param height The logical height, or 0 to draw at the panel size.
+     * @throws IllegalArgumentException if only one of the sizes is 0 or a size is negative.
+     */
+    public void setLogicalResolution(int width, int height) {
+        if (width < 0 || height < 0 || (width == 0) != (height == 0)) {
+            throw new IllegalArgumentException("Invalid logical resolution " + width + "x" + height);
         }
-        return null;
+        this.logicalWidth = width;
+        this.logicalHeight = height;
+        updateCamera();
+    }
+
+    /**
+     * Sets the camera's screen dimensions and follow offset to the logical resolution, or the screen size if none is set.
+     */
+    private void updateCamera() {
+        final int width = logicalWidth > 0 ? logicalWidth : screenWidth;
+        final int height = logicalHeight > 0 ? logicalHeight : screenHeight;
+        world.getCamera().updateScreenDimensions(width, height);
+        world.getCamera().setFollowOffsetX(-width / 4.0f);
     }
 
     /**
@@ -246,8 +427,7 @@ public class GamePanel extends JPanel implements Runnable {
                 this.screenHeight = screenSize.height;
             }
             this.setPreferredSize(new Dimension(screenWidth, screenHeight));
-            camera.updateScreenDimensions(screenWidth, screenHeight);
-            camera.setFollowOffsetX(-screenWidth / 4.0f);
+            updateCamera();
         }
         gameThread = new Thread(this);
         gameThread.start();
@@ -259,98 +439,325 @@ public class GamePanel extends JPanel implements Runnable {
      * @return The current {@code RMap} instance.
      */
     public RMap getMap() {
-        return map;
+        return world.getMap();
     }
 
     /**
-     * Updates the game state for all relevant components.
-     * This includes applying box gravity, updating falling platforms, checking player bounds,
-     * updating entities, and updating the camera.
+     * Renders the current game state using the Renderer.
+     * Called by repaint(). In active rendering mode the scene is drawn by the game thread instead.
+     *
+     * @param g Graphics context (automatically provided by Swing).
      */
-    private void update() {
-        boxGravityTick++;
-        if (boxGravityTick >= BOX_GRAVITY_DELAY) {
-            objectManager.applyBoxGravity(this.map);
-            boxGravityTick = 0;
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (activeCanvas != null) return;
+        drawFrame((Graphics2D) g);
+        presentStats.markPresented();
+    }
+
+    /**
+     * Draws the scene and the HUD. Shared by the Swing and the active rendering path.
+     *
+     * @param g The graphics context to draw on.
+     */
+    private void drawFrame(Graphics2D g) {
+        final long drawStart = System.nanoTime();
+        final EQualityLevel level = this.quality;
+        final RenderSnapshot snapshot = snapshots.acquire();
+        render.setQuality(level);
+        if (logicalWidth > 0) {
+            drawLogicalFrame(g, snapshot);
+            drawOverlays(g, snapshot);
+            retainedState = -1;
+        } else if (level.getRenderScale() < 1) {
+            drawScaledScene(g, snapshot, level.getRenderScale());
+            drawOverlays(g, snapshot);
+            retainedState = -1;
+        } else if (dirtyRegionsEnabled && !snapshot.isEmpty()) {
+            drawRetainedFrame(g, snapshot, level);
+        } else {
+            render.renderScene(g, snapshot);
+            drawOverlays(g, snapshot);
+            retainedState = -1;
+        }
+        lastDrawNanos = System.nanoTime() - drawStart;
+    }
+
+    /**
+     * Draws the HUD and, if enabled, the minimap and the frame timing overlay.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state, for the minimap.
+     */
+    private void drawOverlays(Graphics2D g, RenderSnapshot snapshot) {
+        final long start = profiler.start();
+        hud.draw(g);
+        if (minimapEnabled) {
+            minimap.draw(g, snapshot, getWidth() - MINIMAP_MARGIN, MINIMAP_MARGIN);
+        }
+        if (profilerOverlay) {
+            ProfilerOverlay.draw(g, profiler, 10, 140, overlayFooter());
+        }
+        profiler.stop(EFramePhase.HUD, start);
+    }
+
+    /**
+     * Updates {@link #retainedFrame} and copies it to the screen. While the camera does not move, only the
+     * regions changed by moving entities, tile changes and HUD updates are redrawn, clipped to each region;
+     * otherwise, or when the quality, the texture mode or the overlay changed, the whole frame is redrawn.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state to draw.
+     * @param level    The quality level of this frame.
+     */
+    private void drawRetainedFrame(Graphics2D g, RenderSnapshot snapshot, EQualityLevel level) {
+        final int width = Math.max(1, snapshot.getScreenWidth());
+        final int height = Math.max(1, snapshot.getScreenHeight());
+        final boolean resized = retainedFrame == null || retainedFrame.getWidth() != width || retainedFrame.getHeight() != height;
+        if (resized) {
+            retainedFrame = g.getDeviceConfiguration().createCompatibleImage(width, height);
+        }
+        final int state = drawState(level);
+        final boolean full = dirtyRegions.begin(snapshot, resized || state != retainedState);
+        retainedState = state;
+        final long hudStart = profiler.start();
+        hud.refresh(g.getDeviceConfiguration(), dirtyRegions);
+        render.markLightChanges(snapshot, dirtyRegions);
+        if (profilerOverlay) {
+            dirtyRegions.add(10, 140, ProfilerOverlay.getWidth(), ProfilerOverlay.getHeight(true));
         }
-        final int playerTileX = (int) ((player.getX() + player.getWidth() / 2.0) / TILE_SIZE);
-        final int playerTileY = (int) ((player.getY() + player.getHeight() / 2.0) / TILE_SIZE);
-        objectManager.updateFallingPlatforms(this.map, playerTileX, playerTileY);
-        if (player.getY() > WORLD_HEIGHT) {
-            respawnPlayer();
+        if (minimapEnabled) {
+            minimap.getBounds(snapshot, width - MINIMAP_MARGIN, MINIMAP_MARGIN, minimapBounds);
+            dirtyRegions.add(minimapBounds.x, minimapBounds.y, minimapBounds.width + 1, minimapBounds.height + 1);
         }
-        entityManager.updateEntities();
-        camera.update();
+        profiler.stop(EFramePhase.HUD, hudStart);
+        dirtyRegions.end();
+        final Graphics2D frameGraphics = retainedFrame.createGraphics();
+        try {
+            if (full || dirtyRegions.isFull()) {
+                redraw(frameGraphics, snapshot, 0, 0, width, height);
+            } else {
+                for (int i = 0; i < dirtyRegions.getRegionCount(); i++) {
+                    final Rectangle region = dirtyRegions.getRegion(i);
+                    frameGraphics.setClip(region.x, region.y, region.width, region.height);
+                    redraw(frameGraphics, snapshot, region.x, region.y, region.width, region.height);
+                }
+            }
+        } finally {
+            frameGraphics.dispose();
+        }
+        g.drawImage(retainedFrame, 0, 0, null);
+    }
+
+    /**
+     * Redraws one region of the retained frame: clears it, draws the scene and the HUD over it.
+     *
+     * @param g        The graphics context of the retained frame, clipped to the region.
+     * @param snapshot The captured game state to draw.
+     * @param x        The X-coordinate of the region.
+     * @param y        The Y-coordinate of the region.
+     * @param width    The width of the region.
+     * @param height   The height of the region.
+     */
+    private void redraw(Graphics2D g, RenderSnapshot snapshot, int x, int y, int width, int height) {
+        g.setColor(getBackground());
+        g.fillRect(x, y, width, height);
+        render.renderScene(g, snapshot);
+        hud.drawWidgets(g);
+        if (minimapEnabled) {
+            minimap.draw(g, snapshot, snapshot.getScreenWidth() - MINIMAP_MARGIN, MINIMAP_MARGIN);
+        }
+        if (profilerOverlay) {
+            ProfilerOverlay.draw(g, profiler, 10, 140, overlayFooter());
+        }
+    }
+
+    /**
+     * Packs everything that changes the whole frame without moving the camera into one value.
+     *
+     * @param level The quality level of this frame.
+     * @return The drawing state.
+     */
+    private int drawState(EQualityLevel level) {
+        return level.ordinal() * 8 + (render.isTexturesOn() ? 4 : 0) + (profilerOverlay ? 2 : 0) + (minimapEnabled ? 1 : 0);
     }
 
     /**
-     * Respawns the player at the designated spawn point.
+     * Returns the line below the frame timing table: chunk cache counters, the share of pixels redrawn and the
+     * number of simulation ticks the game loop dropped because it fell behind.
+     *
+     * @return The footer text.
      */
-    private void respawnPlayer() {
-        resetPlayer(spawnPoint);
+    private String overlayFooter() {
+        return render.getChunkCache() + String.format(" | redrawn %.1f%% | dropped %d",
+                dirtyRegions.getRedrawnFraction() * 100, framePacer.getDroppedTicks());
     }
 
     /**
-     * Renders the current game state using the Renderer.
-     * Called by repaint().
+     * Enables or disables redrawing only the dirty regions of the frame while the camera is static.
      *
-     * @param g Graphics context (automatically provided by Swing).
+     * @param enabled If true, static frames are redrawn only where something changed.
      */
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        render.renderScene(g, map, camera);
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 20));
-        g.drawString("Use arrow or wsad to move and jump and use shift for mini jump", 10, 30);
-        g.drawString("Time: " + time + " seconds", 10, 60);
-        g.drawString("Best time: " + recordTime.getBestTime(map.getPath()), 10, 90);
+    public void setDirtyRegions(boolean enabled) {
+        this.dirtyRegionsEnabled = enabled;
+    }
+
+    /**
+     * Returns the share of pixels redrawn in the last frame, 1 if the whole frame was redrawn.
+     *
+     * @return The fraction between 0 and 1.
+     */
+    public double getRedrawnFraction() {
+        return dirtyRegions.getRedrawnFraction();
+    }
+
+    /**
+     * Draws the scene at a lower internal resolution into {@link #sceneBuffer} and scales it up to the screen.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state to draw.
+     * @param scale    The internal resolution relative to the screen.
+     */
+    private void drawScaledScene(Graphics2D g, RenderSnapshot snapshot, float scale) {
+        final int width = Math.max(1, snapshot.getScreenWidth());
+        final int height = Math.max(1, snapshot.getScreenHeight());
+        final int bufferWidth = Math.max(1, Math.round(width * scale));
+        final int bufferHeight = Math.max(1, Math.round(height * scale));
+        if (sceneBuffer == null || sceneBuffer.getWidth() != bufferWidth || sceneBuffer.getHeight() != bufferHeight) {
+            sceneBuffer = g.getDeviceConfiguration().createCompatibleImage(bufferWidth, bufferHeight);
+        }
+        final Graphics2D sceneGraphics = sceneBuffer.createGraphics();
+        try {
+            sceneGraphics.setColor(getBackground());
+            sceneGraphics.fillRect(0, 0, bufferWidth, bufferHeight);
+            sceneGraphics.scale(scale, scale);
+            render.renderScene(sceneGraphics, snapshot);
+        } finally {
+            sceneGraphics.dispose();
+        }
+        g.drawImage(sceneBuffer, 0, 0, width, height, null);
+    }
+
+    /**
+     * Draws the scene into {@link #logicalFrame} and scales it to the panel by an integer factor with nearest neighbour.
+     * The render scale of the quality level and dirty regions do not apply, the logical frame is already small.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state to draw.
+     */
+    private void drawLogicalFrame(Graphics2D g, RenderSnapshot snapshot) {
+        final int width = Math.max(1, snapshot.getScreenWidth());
+        final int height = Math.max(1, snapshot.getScreenHeight());
+        if (logicalFrame == null || logicalFrame.getWidth() != width || logicalFrame.getHeight() != height) {
+            logicalFrame = g.getDeviceConfiguration().createCompatibleImage(width, height);
+        }
+        final Graphics2D frameGraphics = logicalFrame.createGraphics();
+        try {
+            frameGraphics.setColor(getBackground());
+            frameGraphics.fillRect(0, 0, width, height);
+            render.renderScene(frameGraphics, snapshot);
+        } finally {
+            frameGraphics.dispose();
+        }
+        final double fit = Math.min((double) getWidth() / width, (double) getHeight() / height);
+        final double scale = fit >= 1 ? Math.floor(fit) : fit;
+        final int scaledWidth = (int) Math.round(width * scale);
+        final int scaledHeight = (int) Math.round(height * scale);
+        final int x = (getWidth() - scaledWidth) / 2;
+        final int y = (getHeight() - scaledHeight) / 2;
+        if (scaledWidth < getWidth() || scaledHeight < getHeight()) {
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(logicalFrame, x, y, scaledWidth, scaledHeight, null);
     }
 
     /**
-     * The main game loop. Runs at a fixed frame rate (FPS).
-     * Updates game state and repaints the panel.
+     * The main game loop. Simulates at the fixed tick length of the world's {@link GameClock} and repaints at the
+     * {@link FramePacer}'s target frame rate. The leftover fraction of a tick is passed to rendering
+     * so that positions are interpolated between the last two simulation steps.
+     * <p>After the ticks of a frame, the game state is captured into a {@link RenderSnapshot}. The frame is drawn
+     * from that snapshot only, so in Swing mode the next ticks can run while the event dispatch thread is still
+     * painting. Ticks in between two snapshots need not be captured, because only the newest one is drawn.</p>
+     * <p>While paused or unfocused, the loop is throttled to {@link #IDLE_FPS}. Time beyond
+     * {@link #MAX_CATCH_UP_TICKS} ticks per frame is discarded and reported as dropped ticks.</p>
+     * <p>Each iteration is timed as {@link EFramePhase#FRAME}, without the wait in the pacer. In Swing mode
+     * this covers only the simulation, because the scene is painted later on the event dispatch thread.</p>
+     * <p>The cost of each frame (simulation plus drawing) is fed to the {@link QualityGovernor}, which picks
+     * the quality of the following frames so that the game keeps real time instead of running in slow motion.</p>
      */
     @Override
     public void run() {
         double deltaAccumulator = 0;
         long lastTime = System.nanoTime();
-        final float fixedDeltaTime = 1.0f / FPS;
+        framePacer.reset();
 
         while (gameThread != null) {
+            final float fixedDeltaTime = world.getClock().getDeltaTime();
+            final float maxAccumulated = fixedDeltaTime * MAX_CATCH_UP_TICKS;
             long currentTime = System.nanoTime();
             deltaAccumulator += (currentTime - lastTime) / 1000000000.0;
             lastTime = currentTime;
-            deltaAccumulator = Math.min(deltaAccumulator, fixedDeltaTime * 5);
 
-            if (!isPaused) {
-                while (deltaAccumulator >= fixedDeltaTime) {
-                    update();
-                    deltaAccumulator -= fixedDeltaTime;
+            if (isPaused) {
+                deltaAccumulator = 0;
+                framePacer.sync(true);
+                continue;
+            }
+            if (deltaAccumulator > maxAccumulated) {
+                final long dropped = (long) ((deltaAccumulator - maxAccumulated) / fixedDeltaTime);
+                if (dropped > 0) {
+                    framePacer.recordDroppedTicks(dropped);
                 }
+                deltaAccumulator = maxAccumulated;
+            }
+            final long frameStart = profiler.start();
+            final long costStart = System.nanoTime();
+            while (!isPaused && deltaAccumulator >= fixedDeltaTime) {
+                world.tick();
+                deltaAccumulator -= fixedDeltaTime;
+            }
+            snapshots.publish(world.getMap(), world.getCamera(), (float) (deltaAccumulator / fixedDeltaTime));
+            if (activeCanvas != null) {
+                activeCanvas.renderFrame();
+            } else {
                 repaint();
             }
+            profiler.stop(EFramePhase.FRAME, frameStart);
+            updateQuality(System.nanoTime() - costStart);
+            framePacer.sync(!frame.isFocused());
         }
     }
 
     /**
-     * Loads a new map, replacing the current one. Updates camera bounds and player position.
+     * Feeds the cost of the last frame to the governor and applies the chosen quality level.
+     * In Swing mode the scene is drawn on the event dispatch thread, so the last measured draw time is added.
+     * Does nothing if the governor is disabled or the frame rate is uncapped.
+     *
+     * @param loopNanos The time the game loop spent on the frame, without waiting.
+     */
+    private void updateQuality(long loopNanos) {
+        final QualityGovernor qualityGovernor = this.governor;
+        final int targetFps = framePacer.getTargetFps();
+        if (qualityGovernor == null || targetFps <= FramePacer.UNCAPPED) return;
+        final long cost = loopNanos + (activeCanvas == null ? lastDrawNanos : 0);
+        final EQualityLevel level = qualityGovernor.update(cost, 1_000_000_000L / targetFps);
+        if (level != quality) {
+            quality = level;
+            world.setReducedSimulation(!level.isFullSimulation());
+        }
+    }
+
+    /**
+     * Loads a new map into the world, replacing the current one.
      * Resets game time and audio.
      *
      * @param newMap The new {@code RMap} instance to load.
      */
     public void loadMap(final @NotNull RMap newMap) {
-        if (this.map != null) {
-            this.map.clearEntities();
-        }
-        this.map = newMap;
-        WORLD_WIDTH = map.getWidth() * TILE_SIZE;
-        WORLD_HEIGHT = map.getHeight() * TILE_SIZE;
-        camera.setWorldDimensions(WORLD_WIDTH, WORLD_HEIGHT);
-        spawnPoint = findSpawnPoint(this.map);
-        player.setSpawnPoint(spawnPoint);
-        resetPlayer(spawnPoint);
-        this.map.addEntity(player);
+        world.loadMap(newMap);
         setAudio();
         this.time = 0;
         this.timer.restart();
@@ -362,7 +769,7 @@ public class GamePanel extends JPanel implements Runnable {
      */
     public void setAudio() {
         stopAudio();
-        audio = Audio.musicMap.getOrDefault(this.map.getPath(), Audio.DEFAULT_AUDIO);
+        audio = Audio.musicMap.getOrDefault(world.getMap().getPath(), Audio.DEFAULT_AUDIO);
         audio.startAudio();
     }
 
@@ -373,23 +780,6 @@ public class GamePanel extends JPanel implements Runnable {
         if (audio != null) audio.stopMusic();
     }
 
-    /**
-     * Resets the player's position, health, and velocity to the given spawn point.
-     * If the provided spawn point is null, a default spawn point is used.
-     *
-     * @param playerSpawn The {@code Point} representing the desired spawn coordinates for the player.
-     */
-    private void resetPlayer(Point playerSpawn) {
-        if (playerSpawn == null) {
-            playerSpawn = new Point(2 * TILE_SIZE, (MAX_WORLD_ROW - 5) * TILE_SIZE);
-        }
-        player.setX(playerSpawn.x);
-        player.setY(playerSpawn.y);
-        player.setHealth(player.getMaxHealth());
-        player.setVelocityX(0);
-        player.setVelocityY(0);
-    }
-
     /**
      * Pauses the game by setting the {@code isPaused} flag to true and stopping the audio.
      * This prevents the game loop from updating.
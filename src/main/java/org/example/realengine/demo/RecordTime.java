@@ -55,8 +55,9 @@ public class RecordTime {
      * @param mapPath The unique identifier or path of the game map.
      * @return The best time in seconds for the specified map, or {@code Integer.MAX_VALUE} if no time is recorded.
      */
-    public Integer getBestTime(String mapPath) {
-        return bestTimes.get(mapPath) == null ? Integer.MAX_VALUE : bestTimes.get(mapPath);
+    public int getBestTime(String mapPath) {
+        final Integer best = bestTimes.get(mapPath);
+        return best == null ? Integer.MAX_VALUE : best;
     }
 
     /**
@@ -0,0 +1,78 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.control.EInput;
+import org.example.realengine.control.ProgrammaticController;
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.World;
+
+import java.io.IOException;
+
+/**
+ * <p>Runs a {@link World} without any window, for batch simulation and benchmarking on machines without a display.</p>
+ * <p>The player is driven by a {@link ProgrammaticController} that keeps running right and jumps at a fixed interval.</p>
+ * <p>Usage: {@code HeadlessMain <mapPath> [ticks] [tickRate]}</p>
+ */
+public final class HeadlessMain {
+    /**
+     * Default number of ticks to simulate.
+     */
+    private static final int DEFAULT_TICKS = 100_000;
+    /**
+     * Time in seconds between two jumps of the scripted player.
+     */
+    private static final float JUMP_INTERVAL = 0.75f;
+    /**
+     * Viewport width used by the camera, which also limits the simulated entities.
+     */
+    private static final int VIEWPORT_WIDTH = 1920;
+    /**
+     * Viewport height used by the camera.
+     */
+    private static final int VIEWPORT_HEIGHT = 1080;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private HeadlessMain() {
+    }
+
+    /**
+     * Loads the map, simulates the requested number of ticks as fast as possible and prints the throughput.
+     *
+     * @param args The map path, optionally followed by the tick count and the tick rate.
+     * @throws IOException If the map cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 1) {
+            System.err.println("Usage: HeadlessMain <mapPath> [ticks] [tickRate]");
+            return;
+        }
+        final int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+        final int tickRate = args.length > 2 ? Integer.parseInt(args[2]) : GameClock.DEFAULT_TICK_RATE;
+        final World world = World.load(args[0], VIEWPORT_WIDTH, VIEWPORT_HEIGHT, new GameClock(tickRate));
+        attachScriptedPlayer(world);
+        final int[] levelEnds = {0};
+        world.setListener(_ -> levelEnds[0]++);
+
+        final long nanos = world.step(ticks);
+        System.out.printf("Simulated %d ticks in %.1f ms (%.0f ticks/s, %.0fx real time at %d Hz), level ends: %d%n",
+                ticks, nanos / 1e6, ticks / (nanos / 1e9), ticks / (nanos / 1e9) / tickRate, tickRate, levelEnds[0]);
+        System.out.printf("Player ended at (%.1f, %.1f)%n", world.getPlayer().getX(), world.getPlayer().getY());
+    }
+
+    /**
+     * Drives the player of the given world by a script that keeps running right and jumps at a fixed interval.
+     *
+     * @param world The world whose player is scripted.
+     */
+    static void attachScriptedPlayer(World world) {
+        final int jumpInterval = world.getClock().toTicks(JUMP_INTERVAL);
+        final ProgrammaticController controller = new ProgrammaticController();
+        controller.press(EInput.RIGHT);
+        world.setController((player, tick) -> {
+            if (tick % jumpInterval == 0) controller.tap(EInput.UP);
+            controller.apply(player, tick);
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.FrameProfiler;
+import org.example.realengine.graphics.BackgroundRenderer;
+import org.example.realengine.graphics.Camera;
+import org.example.realengine.graphics.EBackground;
+import org.example.realengine.graphics.RenderSnapshot;
+import org.example.realengine.graphics.RenderSnapshotBuffer;
+import org.example.realengine.map.RMap;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * <p>Checks that parallax background layers scroll by their scroll factor and wrap around seamlessly.</p>
+ * <p>Generates a plain base layer and a parallax layer that is transparent apart from a marker in its first column,
+ * loads both from PNG files with {@link EBackground.Layer#load(String, float)} and draws them with a
+ * {@link BackgroundRenderer} at several camera positions. For every position the marker must appear exactly where
+ * {@link BackgroundRenderer#getScrollOffset(float, float, int)} places it, in every repetition across the screen,
+ * and every layer must have been timed as its own profiler phase. Exits with status 1 if a check fails.</p>
+ * <p>Usage: {@code ParallaxValidation}</p>
+ */
+public final class ParallaxValidation {
+    /**
+     * The width of the drawn screen.
+     */
+    private static final int SCREEN_WIDTH = 640;
+    /**
+     * The height of the drawn screen.
+     */
+    private static final int SCREEN_HEIGHT = 180;
+    /**
+     * The width of the generated parallax image, scaled to {@link #SCREEN_HEIGHT} when drawn.
+     */
+    private static final int LAYER_WIDTH = 64;
+    /**
+     * The height of the generated parallax image.
+     */
+    private static final int LAYER_HEIGHT = 32;
+    /**
+     * The scroll factor of the parallax layer.
+     */
+    private static final float SCROLL_FACTOR = 0.5f;
+    /**
+     * The color of the base layer.
+     */
+    private static final int BASE_COLOR = 0xFF203040;
+    /**
+     * The color of the marker column of the parallax layer.
+     */
+    private static final int MARKER_COLOR = 0xFFFF0000;
+    /**
+     * The camera X-coordinates validated, including fractions and positions many repetitions away.
+     */
+    private static final float[] CAMERA_X = {0, 1, 99.5f, 360, 721.25f, 12345.6f};
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private ParallaxValidation() {
+    }
+
+    /**
+     * Draws the generated layers at every camera position and prints the expected and observed marker offsets.
+     *
+     * @param args Not used.
+     * @throws IOException If the generated layers cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        final Path directory = Files.createTempDirectory("parallax");
+        final BackgroundRenderer renderer;
+        try {
+            renderer = new BackgroundRenderer(List.of(
+                    EBackground.Layer.load(write(directory, "base.png", base()), 0),
+                    EBackground.Layer.load(write(directory, "marker.png", marker()), SCROLL_FACTOR)));
+        } finally {
+            for (final String name : new String[]{"base.png", "marker.png"}) {
+                Files.deleteIfExists(directory.resolve(name));
+            }
+            Files.deleteIfExists(directory);
+        }
+        final RMap map = new RMap(SCREEN_WIDTH, SCREEN_HEIGHT);
+        final Camera camera = new Camera(SCREEN_WIDTH, SCREEN_HEIGHT, map.getPixelWidth(), map.getPixelHeight());
+        final FrameProfiler profiler = new FrameProfiler(true);
+        final BufferedImage screen = new BufferedImage(SCREEN_WIDTH, SCREEN_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        boolean passed = true;
+        System.out.printf("%12s %8s %8s %8s %10s%n", "camera x", "period", "expected", "observed", "mismatches");
+        for (final float cameraX : CAMERA_X) {
+            camera.moveTo(cameraX, 0);
+            final RenderSnapshotBuffer buffer = new RenderSnapshotBuffer();
+            buffer.publish(map, camera, 1);
+            final RenderSnapshot snapshot = buffer.acquire();
+            final Graphics2D g = screen.createGraphics();
+            try {
+                renderer.draw(g, snapshot, profiler);
+            } finally {
+                g.dispose();
+            }
+            final int period = renderer.getPeriod(1);
+            final int markerWidth = Math.ceilDiv(period, LAYER_WIDTH);
+            final int expected = BackgroundRenderer.getScrollOffset(snapshot.getCameraX(), SCROLL_FACTOR, period);
+            int observed = -1;
+            int mismatches = 0;
+            for (int x = 0; x < SCREEN_WIDTH; x++) {
+                final boolean marker = screen.getRGB(x, SCREEN_HEIGHT / 2) == MARKER_COLOR;
+                if (marker != Math.floorMod(x + expected, period) < markerWidth) {
+                    mismatches++;
+                }
+                if (marker && observed < 0 && x > 0 && screen.getRGB(x - 1, SCREEN_HEIGHT / 2) != MARKER_COLOR) {
+                    observed = Math.floorMod(-x, period);
+                }
+            }
+            System.out.printf("%12.2f %8d %8d %8d %10d%n", cameraX, period, expected, observed, mismatches);
+            passed &= mismatches == 0 && observed == expected;
+        }
+        for (final EFramePhase phase : new EFramePhase[]{EFramePhase.BACKGROUND_LAYER_0, EFramePhase.BACKGROUND_LAYER_1}) {
+            final long count = profiler.get(phase).getCount();
+            System.out.println(phase.getLabel() + " timed " + count + " times");
+            passed &= count == CAMERA_X.length;
+        }
+        System.out.println(passed ? "PASS" : "FAIL");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates the base layer image.
+     *
+     * @return An opaque image in {@link #BASE_COLOR}.
+     */
+    private static BufferedImage base() {
+        final BufferedImage image = new BufferedImage(LAYER_WIDTH, LAYER_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < LAYER_HEIGHT; y++) {
+            for (int x = 0; x < LAYER_WIDTH; x++) {
+                image.setRGB(x, y, BASE_COLOR);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Creates the parallax layer image.
+     *
+     * @return A transparent image with its first column in {@link #MARKER_COLOR}.
+     */
+    private static BufferedImage marker() {
+        final BufferedImage image = new BufferedImage(LAYER_WIDTH, LAYER_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < LAYER_HEIGHT; y++) {
+            image.setRGB(0, y, MARKER_COLOR);
+        }
+        return image;
+    }
+
+    /**
+     * Writes an image as a PNG file.
+     *
+     * @param directory The directory to write to.
+     * @param name      The file name.
+     * @param image     The image.
+     * @return The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private static String write(Path directory, String name, BufferedImage image) throws IOException {
+        final Path file = directory.resolve(name);
+        ImageIO.write(image, "png", file.toFile());
+        return file.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.ParallelWorldRunner;
+import org.example.realengine.game.World;
+import org.example.realengine.map.RMap;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Simulates many independent copies of a level at once and reports how the throughput scales with cores.</p>
+ * <p>For each thread count from 1 up to the number of available processors, all worlds are stepped
+ * with a {@link ParallelWorldRunner} and the total number of world-ticks per second is printed.</p>
+ * <p>Usage: {@code ParallelHeadlessMain <mapPath> [worlds] [ticks] [tickRate] [maxThreads]}</p>
+ */
+public final class ParallelHeadlessMain {
+    /**
+     * Default number of simulated worlds.
+     */
+    private static final int DEFAULT_WORLDS = 256;
+    /**
+     * Default number of ticks simulated in each world per measurement.
+     */
+    private static final int DEFAULT_TICKS = 2_000;
+    /**
+     * Viewport width used by the camera, which also limits the simulated entities.
+     */
+    private static final int VIEWPORT_WIDTH = 1920;
+    /**
+     * Viewport height used by the camera.
+     */
+    private static final int VIEWPORT_HEIGHT = 1080;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private ParallelHeadlessMain() {
+    }
+
+    /**
+     * Loads the worlds, warms up and measures the throughput for an increasing number of threads.
+     *
+     * @param args The map path, optionally followed by the world count, the tick count, the tick rate
+     *             and the largest thread count to measure (defaults to the number of available processors).
+     * @throws IOException If the map cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 1) {
+            System.err.println("Usage: ParallelHeadlessMain <mapPath> [worlds] [ticks] [tickRate] [maxThreads]");
+            return;
+        }
+        final int worldCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WORLDS;
+        final int ticks = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TICKS;
+        final int tickRate = args.length > 3 ? Integer.parseInt(args[3]) : GameClock.DEFAULT_TICK_RATE;
+        final List<World> worlds = new ArrayList<>(worldCount);
+        for (int i = 0; i < worldCount; i++) {
+            final World world = new World(RMap.loadFromPng(args[0], i), VIEWPORT_WIDTH, VIEWPORT_HEIGHT,
+                    new GameClock(tickRate));
+            HeadlessMain.attachScriptedPlayer(world);
+            worlds.add(world);
+        }
+        final int cores = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        try (ParallelWorldRunner warmup = new ParallelWorldRunner(cores)) {
+            warmup.step(worlds, ticks);
+        }
+
+        System.out.printf("%d worlds x %d ticks at %d Hz, up to %d threads%n", worldCount, ticks, tickRate, cores);
+        System.out.printf("%8s %18s %10s %12s%n", "threads", "world-ticks/s", "speedup", "efficiency");
+        double single = 0;
+        for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads * 2, cores) : cores + 1) {
+            try (ParallelWorldRunner runner = new ParallelWorldRunner(threads)) {
+                final long nanos = runner.step(worlds, ticks);
+                final double throughput = (double) worldCount * ticks / (nanos / 1e9);
+                if (threads == 1) single = throughput;
+                System.out.printf("%8d %18.0f %9.2fx %11.0f%%%n",
+                        threads, throughput, throughput / single, throughput / single / threads * 100);
+            }
+        }
+    }
+}
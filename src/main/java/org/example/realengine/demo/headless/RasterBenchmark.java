@@ -0,0 +1,157 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.World;
+import org.example.realengine.graphics.Camera;
+import org.example.realengine.graphics.Render;
+import org.example.realengine.graphics.RenderSnapshot;
+import org.example.realengine.graphics.RenderSnapshotBuffer;
+import org.example.realengine.graphics.SoftwareTileRasterizer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Compares the frame time of drawing a map with Java2D, tile by tile and from the chunk cache, against the
+ * {@link SoftwareTileRasterizer} with 1, 2, 4, ... threads, at 1080p and 4K.</p>
+ * <p>Every variant draws the same sequence of snapshots while the camera pans across the map. A frame is a full
+ * {@link Render#renderScene}: background, map and entities, the last being the same Java2D pass in every variant.
+ * Draws into a volatile image of the default screen if a display is available, otherwise into an offscreen
+ * {@code BufferedImage}.</p>
+ * <p>The Java2D renderer is also measured with the camera zoomed out to {@link Camera#MIN_ZOOM}, where four times
+ * as many tiles and, on {@link org.example.realengine.graphics.EBackground#isDark() dark} maps, light chunks are
+ * visible in each direction.</p>
+ * <p>Usage: {@code RasterBenchmark <mapPath> [frames] [maxThreads]}</p>
+ */
+public final class RasterBenchmark {
+    /**
+     * Default number of measured frames per variant and resolution.
+     */
+    private static final int DEFAULT_FRAMES = 300;
+    /**
+     * Frames drawn before measuring, so caches are warm and the code is compiled.
+     */
+    private static final int WARM_UP_FRAMES = 60;
+    /**
+     * Horizontal camera movement per frame in pixels.
+     */
+    private static final float PAN_SPEED = 7.3f;
+    /**
+     * The resolutions measured, as width and height.
+     */
+    private static final int[][] RESOLUTIONS = {{1920, 1080}, {3840, 2160}};
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private RasterBenchmark() {
+    }
+
+    /**
+     * Loads the map and prints the frame time of every variant at every resolution.
+     *
+     * @param args The map path, optionally the number of frames and the maximum number of threads.
+     * @throws IOException If the map cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: RasterBenchmark <mapPath> [frames] [maxThreads]");
+            System.exit(1);
+        }
+        final int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+        final int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        System.out.println(Runtime.getRuntime().availableProcessors() + " processors, " + frames + " frames per variant");
+        for (final int[] resolution : RESOLUTIONS) {
+            final List<RenderSnapshot> snapshots = capture(args[0], resolution[0], resolution[1], frames + WARM_UP_FRAMES, 1);
+            final Image destination = GraphicsEnvironment.isHeadless()
+                    ? new BufferedImage(resolution[0], resolution[1], BufferedImage.TYPE_INT_RGB)
+                    : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleVolatileImage(resolution[0], resolution[1]);
+            System.out.println(resolution[0] + "x" + resolution[1] + " into " + destination.getClass().getSimpleName());
+            final Render tiles = new Render();
+            tiles.setChunkCacheEnabled(false);
+            final double baseline = measure(destination, tiles, snapshots);
+            print("java2d tiles", baseline, baseline);
+            final Render chunks = new Render();
+            chunks.setChunkCacheEnabled(true);
+            print("java2d chunks", measure(destination, chunks, snapshots), baseline);
+            for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1) {
+                final Render raster = new Render();
+                raster.setSoftwareRasterizer(threads);
+                print("raster " + threads + (threads == 1 ? " thread" : " threads"), measure(destination, raster, snapshots), baseline);
+                raster.setSoftwareRasterizer(0);
+            }
+            final List<RenderSnapshot> zoomed = capture(args[0], resolution[0], resolution[1], frames + WARM_UP_FRAMES,
+                    Camera.MIN_ZOOM);
+            print("java2d zoom " + Camera.MIN_ZOOM, measure(destination, new Render(), zoomed), baseline);
+        }
+    }
+
+    /**
+     * Runs the world with the camera panning right and captures one snapshot per tick.
+     *
+     * @param mapPath The path of the map.
+     * @param width   The screen width.
+     * @param height  The screen height.
+     * @param count   The number of snapshots.
+     * @param zoom    The zoom factor of the camera.
+     * @return The snapshots, in order.
+     * @throws IOException If the map cannot be loaded.
+     */
+    private static List<RenderSnapshot> capture(String mapPath, int width, int height, int count, float zoom)
+            throws IOException {
+        final World world = World.load(mapPath, width, height, new GameClock(GameClock.DEFAULT_TICK_RATE));
+        final Camera camera = world.getCamera();
+        camera.setZoom(zoom);
+        final List<RenderSnapshot> snapshots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            world.tick();
+            camera.setFollowOffsetX(i * PAN_SPEED);
+            camera.update();
+            final RenderSnapshotBuffer buffer = new RenderSnapshotBuffer();
+            buffer.publish(world.getMap(), camera, 1);
+            snapshots.add(buffer.acquire());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Draws all snapshots and measures the average frame time after the warm-up.
+     *
+     * @param destination The image to draw into.
+     * @param render      The renderer to measure.
+     * @param snapshots   The snapshots to draw.
+     * @return The average frame time in milliseconds.
+     */
+    private static double measure(Image destination, Render render, List<RenderSnapshot> snapshots) {
+        long start = 0;
+        for (int i = 0; i < snapshots.size(); i++) {
+            if (i == WARM_UP_FRAMES) {
+                Toolkit.getDefaultToolkit().sync();
+                start = System.nanoTime();
+            }
+            final Graphics g = destination.getGraphics();
+            try {
+                render.renderScene(g, snapshots.get(i));
+            } finally {
+                g.dispose();
+            }
+        }
+        Toolkit.getDefaultToolkit().sync();
+        return (System.nanoTime() - start) / 1e6 / (snapshots.size() - WARM_UP_FRAMES);
+    }
+
+    /**
+     * Prints the result of one variant.
+     *
+     * @param variant  The name of the variant.
+     * @param millis   Its average frame time.
+     * @param baseline The frame time of drawing tile by tile with Java2D.
+     */
+    private static void print(String variant, double millis, double baseline) {
+        System.out.printf("  %-18s %8.2f ms/frame (x%.2f)%n", variant, millis, baseline / millis);
+    }
+}
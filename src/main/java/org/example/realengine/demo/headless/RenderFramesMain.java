@@ -0,0 +1,67 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.graphics.OffscreenRenderer;
+import org.example.realengine.map.RMap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Renders a map without a window into a series of PNG files, panning from its left to its right edge
+ * along the bottom, and prints the throughput.</p>
+ * <p>Usage: {@code RenderFramesMain <mapPath> <outputDir> [frames] [threads] [width] [height]}</p>
+ */
+public final class RenderFramesMain {
+    /**
+     * Default number of rendered frames.
+     */
+    private static final int DEFAULT_FRAMES = 100;
+    /**
+     * Default frame width.
+     */
+    private static final int DEFAULT_WIDTH = 1280;
+    /**
+     * Default frame height.
+     */
+    private static final int DEFAULT_HEIGHT = 720;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private RenderFramesMain() {
+    }
+
+    /**
+     * Loads the map, renders the frames and prints the throughput.
+     *
+     * @param args The map path and the output directory, optionally followed by the frame count,
+     *             the thread count (defaults to the number of available processors) and the frame size.
+     * @throws IOException          If the map cannot be loaded or a frame cannot be written.
+     * @throws InterruptedException If the main thread is interrupted while waiting for the workers.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length < 2) {
+            System.err.println("Usage: RenderFramesMain <mapPath> <outputDir> [frames] [threads] [width] [height]");
+            return;
+        }
+        final int count = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FRAMES;
+        final int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        final int width = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_WIDTH;
+        final int height = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_HEIGHT;
+        final RMap map = RMap.loadFromPng(args[0], 0);
+        final float maxX = Math.max(0, map.getWidth() * TILE_SIZE - width);
+        final float y = Math.max(0, map.getHeight() * TILE_SIZE - height);
+        final List<OffscreenRenderer.Frame> frames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            frames.add(new OffscreenRenderer.Frame(map, count > 1 ? maxX * i / (count - 1) : 0, y, String.format("frame-%05d", i)));
+        }
+        final OffscreenRenderer.BatchResult result = OffscreenRenderer.renderToPng(frames, Path.of(args[1]), width, height, threads);
+        System.out.printf("%d frames of %dx%d on %d threads in %.2f s: %.1f frames/s, %.1f MB written%n",
+                result.frames(), width, height, threads, result.nanos() / 1e9, result.framesPerSecond(), result.bytes() / 1e6);
+    }
+}
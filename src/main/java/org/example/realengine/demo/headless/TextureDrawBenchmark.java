@@ -0,0 +1,114 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.graphics.ScaledTextureCache;
+import org.example.realengine.graphics.TextureAtlas;
+import org.example.realengine.resource.ResourceManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Measures how many textures per second can be drawn at {@code TILE_SIZE}: scaled from the
+ * loaded PNGs on every draw, from the individual pre-scaled, compatible copies of a {@link ScaledTextureCache},
+ * and from the pages of a {@link TextureAtlas}.</p>
+ * <p>Draws into a volatile image of the default screen if a display is available, otherwise into
+ * an offscreen {@code BufferedImage}.</p>
+ * <p>Usage: {@code TextureDrawBenchmark [textureDir] [draws] [rounds]}</p>
+ */
+public final class TextureDrawBenchmark {
+    /**
+     * Default directory the textures are loaded from.
+     */
+    private static final String DEFAULT_TEXTURE_DIR = "resources/textures";
+    /**
+     * Default number of draws per measurement.
+     */
+    private static final int DEFAULT_DRAWS = 200_000;
+    /**
+     * Default number of measurements per variant; the first one is a warm-up.
+     */
+    private static final int DEFAULT_ROUNDS = 4;
+    /**
+     * Size of the destination image.
+     */
+    private static final int WIDTH = 1920, HEIGHT = 1080;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private TextureDrawBenchmark() {
+    }
+
+    /**
+     * Loads the textures and prints the draw throughput of every variant.
+     *
+     * @param args Optionally the texture directory, the number of draws and the number of rounds.
+     * @throws IOException If a texture cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException {
+        final String textureDir = args.length > 0 ? args[0] : DEFAULT_TEXTURE_DIR;
+        final int draws = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DRAWS;
+        final int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+        final List<String> paths = TextureAtlas.listTextures(textureDir);
+        if (paths.isEmpty()) {
+            System.err.println("No textures found in " + textureDir);
+            return;
+        }
+        final List<BufferedImage> textures = new ArrayList<>();
+        for (final String path : paths) {
+            textures.add(ResourceManager.getTexture(path));
+        }
+        final Image destination = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration().createCompatibleVolatileImage(WIDTH, HEIGHT);
+        System.out.println(textures.size() + " textures, " + draws + " draws per round into "
+                + destination.getClass().getSimpleName());
+        final ScaledTextureCache cache = new ScaledTextureCache();
+        final ScaledTextureCache atlas = new ScaledTextureCache(paths, TILE_SIZE);
+        for (int round = 0; round < rounds; round++) {
+            final double scaled = measure(destination, textures, draws, null);
+            final double cached = measure(destination, textures, draws, cache);
+            final double atlased = measure(destination, textures, draws, atlas);
+            System.out.printf("round %d%s: scaled %,10.0f/s   pre-scaled %,10.0f/s (x%.2f)   atlas %,10.0f/s (x%.2f)%n",
+                    round, round == 0 ? " (warm-up)" : "", scaled, cached, cached / scaled, atlased, atlased / scaled);
+        }
+    }
+
+    /**
+     * Draws the textures in a fixed pattern covering the destination and measures the throughput.
+     *
+     * @param destination The image to draw into.
+     * @param textures    The textures to draw, in turn.
+     * @param draws       The number of draws.
+     * @param cache       The cache to draw pre-scaled copies from, or {@code null} to scale on every draw.
+     * @return The number of draws per second.
+     */
+    private static double measure(Image destination, List<BufferedImage> textures, int draws, ScaledTextureCache cache) {
+        final Graphics2D g = (Graphics2D) destination.getGraphics();
+        try {
+            final int columns = WIDTH / TILE_SIZE;
+            final int rows = HEIGHT / TILE_SIZE;
+            final long start = System.nanoTime();
+            for (int i = 0; i < draws; i++) {
+                final BufferedImage texture = textures.get(i % textures.size());
+                final int x = i % columns * TILE_SIZE;
+                final int y = i / columns % rows * TILE_SIZE;
+                if (cache == null) {
+                    g.drawImage(texture, x, y, TILE_SIZE, TILE_SIZE, null);
+                } else {
+                    cache.draw(g, texture, x, y, TILE_SIZE, TILE_SIZE);
+                }
+            }
+            Toolkit.getDefaultToolkit().sync();
+            return draws / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            g.dispose();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.realengine.demo.headless;
+
+import org.example.realengine.control.EInput;
+import org.example.realengine.control.ProgrammaticController;
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.World;
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Checks that gameplay timings do not depend on the tick rate.</p>
+ * <p>Runs the same scenarios on a small generated map at several tick rates and prints jump height,
+ * horizontal run distance and falling platform timings, together with their deviation from the default rate.</p>
+ * <p>Usage: {@code TickRateValidation [tickRate...]}</p>
+ */
+public final class TickRateValidation {
+    /**
+     * Tick rates validated when none are given on the command line.
+     */
+    private static final int[] DEFAULT_TICK_RATES = {30, 60, 120, 240};
+    /**
+     * Width of the generated map in tiles.
+     */
+    private static final int MAP_WIDTH = 40;
+    /**
+     * Height of the generated map in tiles.
+     */
+    private static final int MAP_HEIGHT = 14;
+    /**
+     * Row of the solid floor.
+     */
+    private static final int FLOOR_ROW = 12;
+    /**
+     * Time the player is given to settle on the ground before a scenario starts.
+     */
+    private static final float SETTLE_TIME = 0.5f;
+    /**
+     * Duration of the jump and run scenarios.
+     */
+    private static final float SCENARIO_TIME = 1.0f;
+    /**
+     * Upper bound for the falling platform scenario.
+     */
+    private static final float PLATFORM_TIMEOUT = 5.0f;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private TickRateValidation() {
+    }
+
+    /**
+     * Runs all scenarios for every tick rate and prints the results.
+     *
+     * @param args Optional tick rates to validate.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        final int[] tickRates = args.length == 0 ? DEFAULT_TICK_RATES : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            tickRates[i] = Integer.parseInt(args[i]);
+        }
+        final float[] reference = measure(GameClock.DEFAULT_TICK_RATE);
+        System.out.printf("%8s %14s %14s %14s %14s%n", "Hz", "jump px", "run px", "fall s", "respawn s");
+        for (final int tickRate : tickRates) {
+            final float[] result = measure(tickRate);
+            System.out.printf("%8d", tickRate);
+            for (int i = 0; i < result.length; i++) {
+                final float deviation = reference[i] == 0 ? 0 : (result[i] - reference[i]) / reference[i] * 100;
+                System.out.printf(" %7.3f %+5.1f%%", result[i], deviation);
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Measures all scenarios at one tick rate.
+     *
+     * @param tickRate The tick rate to simulate at.
+     * @return Jump height in pixels, run distance in pixels, platform fall delay and respawn delay in seconds.
+     */
+    private static float[] measure(int tickRate) {
+        final GameClock clock = new GameClock(tickRate);
+        final float[] platform = measurePlatform(clock);
+        return new float[]{measureJump(clock), measureRun(clock), platform[0], platform[1]};
+    }
+
+    /**
+     * Lets the player settle, taps jump once and tracks the highest point reached.
+     *
+     * @param clock The clock to simulate with.
+     * @return The jump height in pixels.
+     */
+    private static float measureJump(GameClock clock) {
+        final ProgrammaticController controller = new ProgrammaticController();
+        final World world = createWorld(clock, false, controller);
+        world.step(clock.toTicks(SETTLE_TIME));
+        final float groundY = world.getPlayer().getY();
+        float minY = groundY;
+        controller.tap(EInput.UP);
+        for (int i = 0; i < clock.toTicks(SCENARIO_TIME); i++) {
+            world.tick();
+            minY = Math.min(minY, world.getPlayer().getY());
+        }
+        return groundY - minY;
+    }
+
+    /**
+     * Lets the player settle and holds right for {@link #SCENARIO_TIME}.
+     *
+     * @param clock The clock to simulate with.
+     * @return The horizontal distance covered in pixels.
+     */
+    private static float measureRun(GameClock clock) {
+        final ProgrammaticController controller = new ProgrammaticController();
+        final World world = createWorld(clock, false, controller);
+        world.step(clock.toTicks(SETTLE_TIME));
+        final float startX = world.getPlayer().getX();
+        controller.press(EInput.RIGHT);
+        world.step(clock.toTicks(SCENARIO_TIME));
+        return world.getPlayer().getX() - startX;
+    }
+
+    /**
+     * Spawns the player on a falling platform and measures how long the platform holds and stays away.
+     *
+     * @param clock The clock to simulate with.
+     * @return The fall delay and the respawn delay in seconds, or -1 for a phase that did not happen.
+     */
+    private static float[] measurePlatform(GameClock clock) {
+        final World world = createWorld(clock, true, new ProgrammaticController());
+        final EObject[][] collisionMap = world.getMap().getCollisionMap();
+        final int platformX = MAP_WIDTH / 2;
+        final int platformY = FLOOR_ROW - 4;
+        long fellAt = -1;
+        long respawnedAt = -1;
+        final int timeout = clock.toTicks(PLATFORM_TIMEOUT);
+        for (int i = 0; i < timeout && respawnedAt < 0; i++) {
+            world.tick();
+            final EObject current = collisionMap[platformX][platformY];
+            if (fellAt < 0 && current == EObject.EMPTY) {
+                fellAt = world.getTickCount();
+            } else if (fellAt >= 0 && current == EObject.FALLING_PLATFORM) {
+                respawnedAt = world.getTickCount();
+            }
+        }
+        return new float[]{
+                fellAt < 0 ? -1 : clock.toSeconds(fellAt),
+                respawnedAt < 0 ? -1 : clock.toSeconds(respawnedAt - fellAt)
+        };
+    }
+
+    /**
+     * Creates a world on a generated map with a solid floor.
+     *
+     * @param clock      The clock to simulate with.
+     * @param onPlatform If true, the player spawns on a falling platform above the floor.
+     * @param controller The controller driving the player.
+     * @return The new world.
+     */
+    private static World createWorld(GameClock clock, boolean onPlatform, ProgrammaticController controller) {
+        final RMap map = new RMap(MAP_WIDTH, MAP_HEIGHT);
+        for (int x = 0; x < MAP_WIDTH; x++) {
+            map.setObjectAt(x, FLOOR_ROW, EObject.WALL);
+        }
+        if (onPlatform) {
+            map.setObjectAt(MAP_WIDTH / 2, FLOOR_ROW - 4, EObject.FALLING_PLATFORM);
+            map.setObjectAt(MAP_WIDTH / 2, FLOOR_ROW - 5, EObject.PLAYER_SPAWN);
+        } else {
+            map.setObjectAt(2, FLOOR_ROW - 1, EObject.PLAYER_SPAWN);
+        }
+        final World world = new World(map, MAP_WIDTH * TILE_SIZE, MAP_HEIGHT * TILE_SIZE, clock);
+        world.setController(controller);
+        return world;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.realengine.demo.mapmenu;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Shows every map of the map menu with its thumbnail next to its name. Until a thumbnail has been loaded or
+ * generated in the background by {@link MapThumbnails}, a placeholder of the same size is shown and the cell
+ * is repainted when the thumbnail arrives.
+ */
+final class MapListCellRenderer extends DefaultListCellRenderer {
+    /**
+     * The gap between the thumbnail and the map name.
+     */
+    private static final int ICON_TEXT_GAP = 16;
+    /**
+     * The color of the placeholder shown while a thumbnail is not available.
+     */
+    private static final Color PLACEHOLDER = new Color(45, 45, 85);
+    /**
+     * Provides the thumbnails.
+     */
+    private final MapThumbnails thumbnails;
+    /**
+     * The path of the map of every list index.
+     */
+    private final List<String> mapPaths;
+    /**
+     * The icon of the cell being rendered, reused for every cell.
+     */
+    private final ThumbnailIcon icon = new ThumbnailIcon();
+
+    /**
+     * Constructs a new {@code MapListCellRenderer}.
+     *
+     * @param thumbnails Provides the thumbnails.
+     * @param mapPaths   The path of the map of every list index.
+     */
+    MapListCellRenderer(MapThumbnails thumbnails, List<String> mapPaths) {
+        this.thumbnails = thumbnails;
+        this.mapPaths = mapPaths;
+    }
+
+    /**
+     * Configures the renderer for one cell: the map name with the thumbnail or a placeholder.
+     *
+     * @param list         The list being painted.
+     * @param value        The map name.
+     * @param index        The cell index, -1 for the prototype cell that sizes the list.
+     * @param isSelected   True if the cell is selected.
+     * @param cellHasFocus True if the cell has the focus.
+     * @return This renderer.
+     */
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        setIconTextGap(ICON_TEXT_GAP);
+        if (index < 0) {
+            icon.image = null;
+            setIcon(icon);
+            return this;
+        }
+        if (index >= mapPaths.size()) {
+            setIcon(null);
+            return this;
+        }
+        icon.image = thumbnails.get(mapPaths.get(index), () -> {
+            final Rectangle bounds = list.getCellBounds(index, index);
+            if (bounds != null) {
+                list.repaint(bounds);
+            }
+        });
+        setIcon(icon);
+        return this;
+    }
+
+    /**
+     * A fixed-size icon showing a thumbnail centered, or a placeholder.
+     */
+    private static final class ThumbnailIcon implements Icon {
+        /**
+         * The thumbnail to show, or {@code null} for the placeholder.
+         */
+        private BufferedImage image;
+
+        /**
+         * Paints the thumbnail or the placeholder.
+         *
+         * @param c The component the icon is painted on.
+         * @param g The graphics context.
+         * @param x The X-coordinate of the icon.
+         * @param y The Y-coordinate of the icon.
+         */
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            if (image == null) {
+                g.setColor(PLACEHOLDER);
+                g.fillRect(x, y, MapThumbnails.MAX_WIDTH, MapThumbnails.MAX_HEIGHT);
+                return;
+            }
+            g.drawImage(image, x + (MapThumbnails.MAX_WIDTH - image.getWidth()) / 2,
+                    y + (MapThumbnails.MAX_HEIGHT - image.getHeight()) / 2, null);
+        }
+
+        /**
+         * Returns the width of the icon, the same for every thumbnail.
+         *
+         * @return The largest thumbnail width.
+         */
+        @Override
+        public int getIconWidth() {
+            return MapThumbnails.MAX_WIDTH;
+        }
+
+        /**
+         * Returns the height of the icon, the same for every thumbnail.
+         *
+         * @return The largest thumbnail height.
+         */
+        @Override
+        public int getIconHeight() {
+            return MapThumbnails.MAX_HEIGHT;
+        }
+    }
+}
@@ -18,6 +18,19 @@ import java.util.Vector;
  * and handling keyboard input for navigation and selection.
  */
 public class MapMenuPanel extends JPanel {
+    /**
+     * The thumbnails of the maps, shared by all menu instances so they are generated only once per session.
+     */
+    private static final MapThumbnails thumbnails = new MapThumbnails(MapThumbnails.DEFAULT_DIRECTORY);
+    /**
+     * The height of a list cell. Cells are sized from a prototype, so laying the list out does not render
+     * every cell and request every thumbnail.
+     */
+    private static final int CELL_HEIGHT = MapThumbnails.MAX_HEIGHT + 8;
+    /**
+     * The map name the width of the list cells is computed from.
+     */
+    private static final String PROTOTYPE_NAME = "a_rather_long_map_name.png";
     /**
      * The parent {@link JFrame} of the application, used for managing content pane transitions.
      */
@@ -65,7 +78,8 @@ public class MapMenuPanel extends JPanel {
 
     /**
      * Creates and configures the {@link JScrollPane} containing the {@link JList} of map names.
-     * Sets up the font, colors, and borders for the list and its scroll pane.
+     * Sets up the font, colors, and borders for the list and its scroll pane. Every map is shown with a thumbnail
+     * that is loaded in the background, so the menu opens immediately.
      *
      * @return A configured {@link JScrollPane} for the map list.
      */
@@ -77,6 +91,9 @@ public class MapMenuPanel extends JPanel {
         mapList.setSelectionBackground(new Color(60, 60, 120));
         mapList.setSelectionForeground(Color.YELLOW);
         mapList.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        mapList.setCellRenderer(new MapListCellRenderer(thumbnails, mapPaths));
+        mapList.setPrototypeCellValue(PROTOTYPE_NAME);
+        mapList.setFixedCellHeight(CELL_HEIGHT);
         final JScrollPane scrollPane = new JScrollPane(mapList);
         scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 20, 0, 20));
         scrollPane.setBackground(new Color(20, 20, 50));
@@ -123,14 +140,13 @@ public class MapMenuPanel extends JPanel {
 
     /**
      * Loads the map specified by the given path into the game panel and returns to the game.
-     * Updates the entity manager and game panel with the new map.
+     * The game panel hands the new map to its world.
      *
      * @param mapPath The file path of the map to be loaded.
      */
     void loadSelectedMap(final String mapPath) {
         try {
             final RMap newMap = RMap.loadFromPng(mapPath);
-            gamePanel.getEntityManager().setMap(newMap);
             gamePanel.loadMap(newMap);
             returnToGame();
         } catch (IOException e) {
@@ -0,0 +1,273 @@
+package org.example.realengine.demo.mapmenu;
+
+import org.example.realengine.map.ETile;
+import org.example.realengine.map.MapElementManager;
+import org.example.realengine.object.EObject;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Provides small preview images of map files for the map menu without ever blocking the event dispatch thread.</p>
+ * <p>{@link #get(String, Runnable)} only reads memory: it returns the thumbnail if it is there and otherwise queues
+ * it on a single background thread. That thread looks the map up in the disk cache, keyed by the SHA-1 hash of the
+ * map file and its modification time, and only if it is missing downscales the tile layer of the map: every solid
+ * tile becomes the average color of its texture, empty tiles stay transparent. The callback runs on the event
+ * dispatch thread once the thumbnail is available.</p>
+ * <p>Every {@link #RECHECK_INTERVAL} the background thread checks the modification time of a map again and only
+ * makes a new thumbnail if it changed. A map that cannot be read is remembered with its modification time, so it is
+ * retried only once the file changes.</p>
+ */
+public final class MapThumbnails {
+    /**
+     * The default directory thumbnails are cached in.
+     */
+    public static final Path DEFAULT_DIRECTORY = Path.of("cache", "thumbnails");
+    /**
+     * The largest width of a thumbnail.
+     */
+    public static final int MAX_WIDTH = 320;
+    /**
+     * The largest height of a thumbnail.
+     */
+    public static final int MAX_HEIGHT = 48;
+    /**
+     * How long a thumbnail is used before the modification time of its map is checked again, in nanoseconds.
+     */
+    private static final long RECHECK_INTERVAL = 2_000_000_000L;
+    /**
+     * Maps the pixels of map files to tiles and objects.
+     */
+    private static final MapElementManager manager = new MapElementManager();
+    /**
+     * The directory thumbnails are cached in.
+     */
+    private final Path directory;
+    /**
+     * The thumbnails in memory by map path, with the modification time of the map they were made from,
+     * including maps without a thumbnail because they could not be read.
+     */
+    private final Map<String, Thumbnail> thumbnails = new ConcurrentHashMap<>();
+    /**
+     * The map paths queued or being generated, so each is queued only once.
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    /**
+     * The average texture color of every tile, only used by the background thread.
+     */
+    private final Map<ETile, Integer> tileColors = new EnumMap<>(ETile.class);
+    /**
+     * The background thread loading and generating thumbnails.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "map-thumbnails");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * Constructs a new {@code MapThumbnails}.
+     *
+     * @param directory The directory thumbnails are cached in, created when the first one is written.
+     */
+    public MapThumbnails(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the thumbnail of a map if it is in memory, and queues it if it is missing or due for a check.
+     * Touches neither the map file nor the disk cache, so it can be called for every cell paint.
+     *
+     * @param mapPath The path of the map file.
+     * @param onReady Runs on the event dispatch thread when a queued thumbnail becomes available.
+     * @return The thumbnail, or {@code null} if it is not available yet or the map cannot be read.
+     */
+    public BufferedImage get(String mapPath, Runnable onReady) {
+        final Thumbnail thumbnail = thumbnails.get(mapPath);
+        if ((thumbnail == null || System.nanoTime() - thumbnail.checked() > RECHECK_INTERVAL) && pending.add(mapPath)) {
+            executor.execute(() -> {
+                try {
+                    refresh(mapPath, thumbnail, onReady);
+                } finally {
+                    pending.remove(mapPath);
+                }
+            });
+        }
+        return thumbnail == null ? null : thumbnail.image();
+    }
+
+    /**
+     * Makes the thumbnail of a map on the background thread unless the map is unchanged since the last one.
+     *
+     * @param mapPath  The path of the map file.
+     * @param previous The thumbnail in memory, or {@code null}.
+     * @param onReady  Runs on the event dispatch thread when a new thumbnail is available.
+     */
+    private void refresh(String mapPath, Thumbnail previous, Runnable onReady) {
+        final long modified = Path.of(mapPath).toFile().lastModified();
+        if (previous != null && previous.modified() == modified) {
+            thumbnails.put(mapPath, new Thumbnail(modified, previous.image(), System.nanoTime()));
+            return;
+        }
+        BufferedImage image = null;
+        try {
+            image = load(Path.of(mapPath), modified);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("WARN: No thumbnail for " + mapPath + ": " + e.getMessage());
+        }
+        thumbnails.put(mapPath, new Thumbnail(modified, image, System.nanoTime()));
+        if (image != null) {
+            SwingUtilities.invokeLater(onReady);
+        }
+    }
+
+    /**
+     * Reads a thumbnail from the disk cache, or generates and caches it.
+     *
+     * @param mapPath  The path of the map file.
+     * @param modified The modification time of the map file.
+     * @return The thumbnail.
+     * @throws IOException If the map cannot be read.
+     */
+    private BufferedImage load(Path mapPath, long modified) throws IOException {
+        final byte[] bytes = Files.readAllBytes(mapPath);
+        final Path cached = directory.resolve(hash(bytes) + "-" + modified + ".png");
+        if (Files.isRegularFile(cached)) {
+            final BufferedImage image = ImageIO.read(cached.toFile());
+            if (image != null) {
+                return image;
+            }
+        }
+        final BufferedImage map = ImageIO.read(new ByteArrayInputStream(bytes));
+        if (map == null) {
+            throw new IOException("Not an image");
+        }
+        final BufferedImage thumbnail = generate(manager.createTileLayerFromImage(map));
+        try {
+            Files.createDirectories(directory);
+            ImageIO.write(thumbnail, "png", cached.toFile());
+        } catch (IOException e) {
+            System.out.println("WARN: Could not cache thumbnail in " + cached + ": " + e.getMessage());
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Draws the tile layer with one pixel per tile and scales it to fit {@link #MAX_WIDTH} by {@link #MAX_HEIGHT}.
+     *
+     * @param layer The tile layer, indexed {@code [x][y]}.
+     * @return The thumbnail with transparent empty tiles.
+     */
+    private BufferedImage generate(ETile[][] layer) {
+        final int width = layer.length;
+        final int height = width == 0 ? 0 : layer[0].length;
+        final BufferedImage tiles = new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                tiles.setRGB(x, y, colorOf(layer[x][y]));
+            }
+        }
+        final double scale = Math.min((double) MAX_WIDTH / tiles.getWidth(), (double) MAX_HEIGHT / tiles.getHeight());
+        final int thumbnailWidth = Math.max(1, (int) Math.round(tiles.getWidth() * scale));
+        final int thumbnailHeight = Math.max(1, (int) Math.round(tiles.getHeight() * scale));
+        final BufferedImage thumbnail = new BufferedImage(thumbnailWidth, thumbnailHeight, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = thumbnail.createGraphics();
+        try {
+            if (scale >= 1) {
+                g.drawImage(tiles, 0, 0, thumbnailWidth, thumbnailHeight, null);
+            } else {
+                g.drawImage(tiles.getScaledInstance(thumbnailWidth, thumbnailHeight, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Returns the color a tile is shown in: transparent for tiles that are not drawn, otherwise the average
+     * color of its texture, or its map color if it has no texture.
+     *
+     * @param tile The tile, may be {@code null}.
+     * @return The ARGB color.
+     */
+    private int colorOf(ETile tile) {
+        if (tile == null) {
+            return 0;
+        }
+        final EObject object = manager.getObjectFromTile(tile);
+        if (object == null || object == EObject.EMPTY || object == EObject.PLAYER_SPAWN || object == EObject.ENEMY_SPAWN) {
+            return 0;
+        }
+        return tileColors.computeIfAbsent(tile, MapThumbnails::averageColor);
+    }
+
+    /**
+     * Computes the average color of the opaque pixels of a tile's texture.
+     *
+     * @param tile The tile.
+     * @return The opaque ARGB color.
+     */
+    private static int averageColor(ETile tile) {
+        final BufferedImage texture = tile.getTexture();
+        if (texture == null) {
+            return tile.getColor().getRGB();
+        }
+        long red = 0, green = 0, blue = 0, count = 0;
+        for (int y = 0; y < texture.getHeight(); y++) {
+            for (int x = 0; x < texture.getWidth(); x++) {
+                final int argb = texture.getRGB(x, y);
+                if (argb >>> 24 >= 0x80) {
+                    red += (argb >> 16) & 0xFF;
+                    green += (argb >> 8) & 0xFF;
+                    blue += argb & 0xFF;
+                    count++;
+                }
+            }
+        }
+        if (count == 0) {
+            return tile.getColor().getRGB();
+        }
+        return 0xFF000000 | (int) (red / count) << 16 | (int) (green / count) << 8 | (int) (blue / count);
+    }
+
+    /**
+     * Computes the SHA-1 hash of a file's contents.
+     *
+     * @param bytes The contents.
+     * @return The hash in hexadecimal.
+     */
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A thumbnail in memory.
+     *
+     * @param modified The modification time of the map file it was made from.
+     * @param image    The thumbnail, or {@code null} if the map could not be read.
+     * @param checked  The {@link System#nanoTime()} the modification time was last checked at.
+     */
+    private record Thumbnail(long modified, BufferedImage image, long checked) {
+    }
+}
@@ -8,9 +8,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.Map;
 
-import static org.example.realengine.demo.GamePanel.WORLD_HEIGHT;
-import static org.example.realengine.demo.GamePanel.WORLD_WIDTH;
-import static org.example.realengine.game.GameConstants.TILE_SIZE;
+import static org.example.realengine.game.GameConstants.*;
 
 /**
  * Represents a generic enemy entity in the game. This class extends {@link Entity}
@@ -36,7 +34,7 @@ public non-sealed class Enemy extends Entity {
      * @param type            The type identifier for the enemy.
      */
     public Enemy(float x, float y, boolean infinityJumping, String type) {
-        super(x, y, TILE_SIZE, TILE_SIZE, type, 10);
+        super(x, y, TILE_SIZE, TILE_SIZE, type, 10 / 60f);
         this.infinityJumping = infinityJumping;
         this.baseSpeed = baseSpeed * 1.5f;
 
@@ -49,10 +47,10 @@ public non-sealed class Enemy extends Entity {
                             ResourceManager.getTexture("resources/textures/spiny2.png")
                     },
                     1, new BufferedImage[]{
-                            ResourceManager.getTexture("resources/textures/spiny-1.png"),
-                            ResourceManager.getTexture("resources/textures/spiny-1.png"),
-                            ResourceManager.getTexture("resources/textures/spiny-1.png"),
-                            ResourceManager.getTexture("resources/textures/spiny-2.png")
+                            ResourceManager.getMirroredTexture("resources/textures/spiny1.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/spiny1.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/spiny1.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/spiny2.png")
                     }
             );
         } catch (IOException _) {
@@ -74,9 +72,9 @@ public non-sealed class Enemy extends Entity {
         }
         this.velocityX = baseSpeed * direction;
         float potentialNextX = x + this.velocityX * deltaTime;
+        float potentialNextY = y + velocityY * deltaTime + 0.5f * gravity * deltaTime * deltaTime;
         velocityY += gravity * deltaTime;
 
-        float potentialNextY = y + velocityY * deltaTime;
         boolean collisionDetectedX = handleXCollision(collisionMap, potentialNextX);
 
         if (collisionDetectedX) {
@@ -89,10 +87,10 @@ public non-sealed class Enemy extends Entity {
             this.y = potentialNextY;
         }
         handleSpecialTiles(collisionMap);
-        this.x = Math.max(0, Math.min(this.x, WORLD_WIDTH - width));
-        this.y = Math.max(0, Math.min(this.y, WORLD_HEIGHT - height));
+        this.x = Math.max(0, Math.min(this.x, map.getPixelWidth() - width));
+        this.y = Math.max(0, Math.min(this.y, map.getPixelHeight() - height));
         updateGameTime(deltaTime);
-        updateAnimation();
+        updateAnimation(deltaTime);
     }
 
     /**
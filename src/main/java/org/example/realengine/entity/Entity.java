@@ -31,13 +31,13 @@ public sealed abstract class Entity permits Enemy, Lakitu, Player {
      */
     protected boolean wasWalking = true;
     /**
-     * Counter for animation frames, used to control animation speed.
+     * Time in seconds since the last animation step, used to control animation speed.
      */
-    protected int animationCounter = 0;
+    protected float animationTimer = 0;
     /**
-     * Delay between animation frames, determining the speed of animation.
+     * Delay in seconds between animation frames, determining the speed of animation.
      */
-    protected int animationDelay;
+    protected float animationDelay;
     /**
      * The X-coordinate of the entity's position in the game world.
      */
@@ -46,6 +46,14 @@ public sealed abstract class Entity permits Enemy, Lakitu, Player {
      * The Y-coordinate of the entity's position in the game world.
      */
     protected float y;
+    /**
+     * The X-coordinate of the entity at the start of the current simulation tick, used for render interpolation.
+     */
+    protected float prevX;
+    /**
+     * The Y-coordinate of the entity at the start of the current simulation tick, used for render interpolation.
+     */
+    protected float prevY;
     /**
      * The width of the entity's bounding box.
      */
@@ -131,11 +139,13 @@ public sealed abstract class Entity permits Enemy, Lakitu, Player {
      * @param width          The width of the entity.
      * @param height         The height of the entity.
      * @param type           The type identifier of the entity.
-     * @param animationDelay The delay between animation frames.
+     * @param animationDelay The delay between animation frames in seconds.
      */
-    public Entity(float x, float y, int width, int height, String type, int animationDelay) {
+    public Entity(float x, float y, int width, int height, String type, float animationDelay) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.type = type;
@@ -169,12 +179,14 @@ public sealed abstract class Entity permits Enemy, Lakitu, Player {
     public abstract void update(float deltaTime, RMap map);
 
     /**
-     * Updates the animation counter and toggles the `wasWalking` flag based on `animationDelay`.
+     * Advances the animation timer and toggles the `wasWalking` flag based on `animationDelay`.
+     *
+     * @param deltaTime Time elapsed since the last update in seconds.
      */
-    protected void updateAnimation() {
-        animationCounter++;
-        if (animationCounter >= animationDelay) {
-            animationCounter = 0;
+    protected void updateAnimation(float deltaTime) {
+        animationTimer += deltaTime;
+        if (animationTimer >= animationDelay) {
+            animationTimer = 0;
             setWasWalking();
         }
     }
@@ -452,6 +464,36 @@ public sealed abstract class Entity permits Enemy, Lakitu, Player {
         this.y = y;
     }
 
+    /**
+     * Stores the current position as the previous position.
+     * Called at the start of every simulation tick, and after teleporting the entity so that
+     * rendering does not interpolate across the jump.
+     */
+    public void storePreviousPosition() {
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Returns the X-coordinate to render at, interpolated between the previous and current tick.
+     *
+     * @param alpha The fraction of a tick elapsed since the last simulation step, in {@code [0, 1]}.
+     * @return The interpolated X-coordinate.
+     */
+    public float getRenderX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Returns the Y-coordinate to render at, interpolated between the previous and current tick.
+     *
+     * @param alpha The fraction of a tick elapsed since the last simulation step, in {@code [0, 1]}.
+     * @return The interpolated Y-coordinate.
+     */
+    public float getRenderY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
     /**
      * Returns the width of the entity (for collisions and rendering).
      *
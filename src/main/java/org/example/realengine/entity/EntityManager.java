@@ -3,7 +3,7 @@ package org.example.realengine.entity;
 import org.example.realengine.graphics.Camera;
 import org.example.realengine.map.RMap;
 
-import static org.example.realengine.demo.GamePanel.MAX_WORLD_COL;
+import static org.example.realengine.game.GameConstants.MAX_WORLD_COL;
 
 /**
  * Manages all entities within the game world, including their creation, removal, and updates.
@@ -57,8 +57,14 @@ public class EntityManager {
     /**
      * Updates the state of all active entities in the game world.
      * This includes updating their positions, handling interactions, and removing dead or out-of-bounds entities.
+     * The position of every entity is stored before the update so that rendering can interpolate between ticks.
+     *
+     * @param deltaTime The length of one simulation tick in seconds.
      */
-    public void updateEntities() {
+    public void updateEntities(float deltaTime) {
+        for (int i = 0; i < map.getEntities().size(); i++) {
+            map.getEntities().get(i).storePreviousPosition();
+        }
         for (int i = 0; i < map.getEntities().size(); i++) {
             Entity entity = map.getEntities().get(i);
             if (entity instanceof Lakitu l) {
@@ -67,10 +73,10 @@ public class EntityManager {
                 }
             }
             if (entity.getX() + entity.getWidth() >= camera.getX() &&
-                    entity.getX() <= camera.getX() + camera.getScreenWidth() &&
+                    entity.getX() <= camera.getX() + camera.getViewWidth() &&
                     entity.getY() + entity.getHeight() >= camera.getY() &&
-                    entity.getY() <= camera.getY() + camera.getScreenHeight()) {
-                entity.update((float) 0.016666668, map);
+                    entity.getY() <= camera.getY() + camera.getViewHeight()) {
+                entity.update(deltaTime, map);
             }
             if ((entity.isDead() || entity.getX() == 0 || entity.getX() == MAX_WORLD_COL) && !(entity instanceof Player) && !(entity instanceof Lakitu)) {
                 removeEntity(entity);
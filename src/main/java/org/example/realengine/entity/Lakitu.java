@@ -38,7 +38,7 @@ public non-sealed class Lakitu extends Entity {
      * @param y The initial y-coordinate of Lakitu.
      */
     public Lakitu(float x, float y, boolean angry) {
-        super(x, y, 16, 24, "lakitu", 10);
+        super(x, y, 16, 24, "lakitu", 10 / 60f);
         if (angry) {
             this.throwInterval /= 2f;
             this.maxSpeed *= 2f;
@@ -51,10 +51,10 @@ public non-sealed class Lakitu extends Entity {
                                 ResourceManager.getTexture("resources/textures/angry_lakitu.png")
                         },
                         -1, new BufferedImage[]{
-                                ResourceManager.getTexture("resources/textures/angry_lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/angry_lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/angry_lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/angry_lakitu-.png")
+                                ResourceManager.getMirroredTexture("resources/textures/angry_lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/angry_lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/angry_lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/angry_lakitu.png")
                         }
                 );
             } catch (IOException _) {
@@ -70,10 +70,10 @@ public non-sealed class Lakitu extends Entity {
                                 ResourceManager.getTexture("resources/textures/lakitu.png")
                         },
                         -1, new BufferedImage[]{
-                                ResourceManager.getTexture("resources/textures/lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/lakitu-.png"),
-                                ResourceManager.getTexture("resources/textures/lakitu-.png")
+                                ResourceManager.getMirroredTexture("resources/textures/lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/lakitu.png"),
+                                ResourceManager.getMirroredTexture("resources/textures/lakitu.png")
                         }
                 );
             } catch (IOException _) {
@@ -134,7 +134,7 @@ public non-sealed class Lakitu extends Entity {
             throwCooldown = throwInterval;
         }
         updateGameTime(deltaTime);
-        updateAnimation();
+        updateAnimation(deltaTime);
     }
 
     /**
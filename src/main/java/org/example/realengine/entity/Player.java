@@ -1,6 +1,7 @@
 package org.example.realengine.entity;
 
-import org.example.realengine.demo.GamePanel;
+import org.example.realengine.game.GameClock;
+import org.example.realengine.game.World;
 import org.example.realengine.map.RMap;
 import org.example.realengine.object.EObject;
 import org.example.realengine.resource.ResourceManager;
@@ -19,9 +20,9 @@ import static org.example.realengine.game.GameConstants.*;
  */
 public non-sealed class Player extends Entity {
     /**
-     * Reference to the main game panel.
+     * The world this player lives in, notified when the level ends.
      */
-    final GamePanel gamePanel;
+    final World world;
     /**
      * The point where the player will respawn after dying.
      */
@@ -42,17 +43,26 @@ public non-sealed class Player extends Entity {
      * Cooldown counter for teleportation ability.
      */
     private int teleportCooldown = 0;
+    /**
+     * {@link org.example.realengine.game.GameConstants#BOX_PUSH_DELAY} converted to ticks of the world clock.
+     */
+    private int boxPushDelayTicks;
+    /**
+     * {@link org.example.realengine.game.GameConstants#TELEPORT_COOLDOWN} converted to ticks of the world clock.
+     */
+    private int teleportCooldownTicks;
 
     /**
      * Constructs a new Player entity.
      *
-     * @param x         The initial x-coordinate of the player.
-     * @param y         The initial y-coordinate of the player.
-     * @param gamePanel The game panel instance.
+     * @param x     The initial x-coordinate of the player.
+     * @param y     The initial y-coordinate of the player.
+     * @param world The world the player lives in.
      */
-    public Player(float x, float y, GamePanel gamePanel) {
-        super(x, y, 16, 16, "player", 3);
-        this.gamePanel = gamePanel;
+    public Player(float x, float y, World world) {
+        super(x, y, 16, 16, "player", 3 / 60f);
+        this.world = world;
+        setClock(world.getClock());
         this.maxHealth = 3;
         this.health = this.maxHealth;
         this.width = 32;
@@ -67,16 +77,26 @@ public non-sealed class Player extends Entity {
                             ResourceManager.getTexture("resources/textures/mario-IDLE.png")
                     },
                     -1, new BufferedImage[]{
-                            ResourceManager.getTexture("resources/textures/marioIDLE.png"),
-                            ResourceManager.getTexture("resources/textures/marioJump.png"),
-                            ResourceManager.getTexture("resources/textures/marioWalking.png"),
-                            ResourceManager.getTexture("resources/textures/marioIDLE.png")
+                            ResourceManager.getMirroredTexture("resources/textures/mario-IDLE.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/mario-Jump.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/mario-Walking.png"),
+                            ResourceManager.getMirroredTexture("resources/textures/mario-IDLE.png")
                     }
             );
         } catch (IOException _) {
         }
     }
 
+    /**
+     * Converts the player's tick-based delays for the given simulation clock.
+     *
+     * @param clock The simulation clock.
+     */
+    public void setClock(GameClock clock) {
+        this.boxPushDelayTicks = clock.toTicks(BOX_PUSH_DELAY);
+        this.teleportCooldownTicks = clock.toTicks(TELEPORT_COOLDOWN);
+    }
+
     /**
      * Sets the spawn point for the player.
      *
@@ -112,15 +132,15 @@ public non-sealed class Player extends Entity {
             jumping = false;
         }
         final float potentialNextX = x + velocityX * deltaTime;
+        final float potentialNextY = y + velocityY * deltaTime + 0.5f * gravity * deltaTime * deltaTime;
         velocityY += gravity * deltaTime;
-        final float potentialNextY = y + velocityY * deltaTime;
         boxPushTick++;
 
         if (teleportCooldown > 0) {
             teleportCooldown--;
         }
 
-        boolean collisionDetectedX = handleBoxPush(collisionMap);
+        boolean collisionDetectedX = handleBoxPush(map);
         if (!collisionDetectedX) {
             collisionDetectedX = handleXCollision(collisionMap, potentialNextX);
         }
@@ -135,10 +155,10 @@ public non-sealed class Player extends Entity {
 
         handleSpecialTiles(collisionMap);
 
-        x = Math.max(0, Math.min(x, GamePanel.WORLD_WIDTH - width));
-        y = Math.max(0, Math.min(y, GamePanel.WORLD_HEIGHT - height));
+        x = Math.max(0, Math.min(x, map.getPixelWidth() - width));
+        y = Math.max(0, Math.min(y, map.getPixelHeight() - height));
         updateGameTime(deltaTime);
-        updateAnimation();
+        updateAnimation(deltaTime);
     }
 
     /**
@@ -151,10 +171,11 @@ public non-sealed class Player extends Entity {
             this.y = spawnPoint.y;
         } else {
             this.x = 2 * TILE_SIZE;
-            this.y = (GamePanel.MAX_WORLD_ROW - 5) * TILE_SIZE;
+            this.y = (MAX_WORLD_ROW - 5) * TILE_SIZE;
         }
         velocityX = 0;
         velocityY = 0;
+        storePreviousPosition();
     }
 
     /**
@@ -178,12 +199,13 @@ public non-sealed class Player extends Entity {
     /**
      * Handles the logic for pushing boxes.
      *
-     * @param collisionMap The map representing tile collisions.
+     * @param map The current game map. Moved boxes are written through {@link RMap#setObjectAt(int, int, EObject)}.
      * @return True if a box collision was detected and handled, false otherwise.
      */
-    private boolean handleBoxPush(EObject[][] collisionMap) {
+    private boolean handleBoxPush(RMap map) {
+        final EObject[][] collisionMap = map.getCollisionMap();
         var collisionDetectedX = false;
-        if (velocityX != 0 && boxPushTick >= BOX_PUSH_DELAY && isOnGround) {
+        if (velocityX != 0 && boxPushTick >= boxPushDelayTicks && isOnGround) {
             int dir = velocityX > 0 ? 1 : -1;
             final var playerTileX = (int) ((x + (dir > 0 ? width : 0)) / TILE_SIZE);
             final var playerTileY = (int) ((y + (float) height / 2) / TILE_SIZE);
@@ -204,8 +226,8 @@ public non-sealed class Player extends Entity {
                     }
                 } else if (boxNextX >= 0 && boxNextX < collisionMap.length &&
                         collisionMap[boxNextX][playerTileY] == EObject.EMPTY) {
-                    collisionMap[boxNextX][playerTileY] = EObject.BOX;
-                    collisionMap[nextTileX][playerTileY] = EObject.EMPTY;
+                    map.setObjectAt(boxNextX, playerTileY, EObject.BOX);
+                    map.setObjectAt(nextTileX, playerTileY, EObject.EMPTY);
                     if (dir > 0) x = nextTileX * TILE_SIZE - width;
                     else x = (nextTileX + 1) * TILE_SIZE;
                     velocityX = 0;
@@ -243,7 +265,7 @@ public non-sealed class Player extends Entity {
                 centerTileY >= 0 && centerTileY < collisionMap[0].length) {
             currentObject = collisionMap[centerTileX][centerTileY];
             if (currentObject == EObject.END) {
-                gamePanel.endLevel();
+                world.endLevel();
             }
             if (currentObject == EObject.LADDER) {
                 isOnLadder = true;
@@ -263,7 +285,7 @@ public non-sealed class Player extends Entity {
                             currentObject == EObject.TELEPORT_PURPLE ||
                             currentObject == EObject.TELEPORT_RED)) {
                 teleportToNext(collisionMap, currentObject, centerTileX, centerTileY, TILE_SIZE);
-                teleportCooldown = TELEPORT_COOLDOWN_TICKS;
+                teleportCooldown = teleportCooldownTicks;
             }
             if (currentObject == EObject.CHECKPOINT) {
                 setSpawnPoint(new Point(centerTileX * TILE_SIZE, centerTileY * TILE_SIZE));
@@ -290,8 +312,8 @@ public non-sealed class Player extends Entity {
                 centerTileX >= 0 && centerTileX < collisionMap.length &&
                 centerTileY + 1 >= 0 && centerTileY + 1 < collisionMap[0].length) {
             if (collisionMap[centerTileX][centerTileY + 1] == EObject.FALLING_PLATFORM) {
-                gamePanel.getObjectManager()
-                        .updateFallingPlatforms(gamePanel.getMap(),
+                world.getObjectManager()
+                        .triggerFallingPlatform(world.getMap(),
                         centerTileX, centerTileY + 1);
             }
         }
@@ -331,6 +353,7 @@ public non-sealed class Player extends Entity {
                 if ((x != fromX || y != fromY) && collisionMap[x][y] == teleportType) {
                     this.x = x * TILE_SIZE;
                     this.y = y * TILE_SIZE;
+                    storePreviousPosition();
                     return;
                 }
             }
@@ -0,0 +1,114 @@
+package org.example.realengine.game;
+
+/**
+ * The phases of a frame timed by the {@link FrameProfiler}.
+ */
+public enum EFramePhase {
+    /**
+     * {@code ObjectManager.applyBoxGravity}.
+     */
+    BOX_GRAVITY("box gravity"),
+    /**
+     * {@code ObjectManager.updateFallingPlatforms}.
+     */
+    FALLING_PLATFORMS("falling platforms"),
+    /**
+     * {@code EntityManager.updateEntities}.
+     */
+    ENTITIES("entities"),
+    /**
+     * {@code Camera.update}.
+     */
+    CAMERA("camera"),
+    /**
+     * One complete simulation tick, including the phases above.
+     */
+    TICK("tick"),
+    /**
+     * {@code Render.renderBackground}.
+     */
+    RENDER_BACKGROUND("render background"),
+    /**
+     * The base layer of the background.
+     */
+    BACKGROUND_LAYER_0("bg layer 0", RENDER_BACKGROUND),
+    /**
+     * The first parallax layer of the background.
+     */
+    BACKGROUND_LAYER_1("bg layer 1", RENDER_BACKGROUND),
+    /**
+     * The second parallax layer of the background.
+     */
+    BACKGROUND_LAYER_2("bg layer 2", RENDER_BACKGROUND),
+    /**
+     * The third and all further parallax layers of the background.
+     */
+    BACKGROUND_LAYER_3("bg layer 3+", RENDER_BACKGROUND),
+    /**
+     * {@code Render.renderMap}.
+     */
+    RENDER_MAP("render map"),
+    /**
+     * Drawing the darkness of a {@code LightMap} over the map.
+     */
+    RENDER_LIGHT("render light"),
+    /**
+     * {@code Render.renderEntities}.
+     */
+    RENDER_ENTITIES("render entities"),
+    /**
+     * Drawing the HUD text and overlays.
+     */
+    HUD("hud"),
+    /**
+     * One iteration of the game loop without the time spent waiting for the next frame.
+     */
+    FRAME("frame");
+
+    /**
+     * The human-readable name shown in the overlay and the CSV export.
+     */
+    private final String label;
+    /**
+     * The phase this phase is timed within, or {@code null}.
+     */
+    private final EFramePhase parent;
+
+    /**
+     * Constructs a new {@code EFramePhase} that is not part of another phase.
+     *
+     * @param label The human-readable name.
+     */
+    EFramePhase(String label) {
+        this(label, null);
+    }
+
+    /**
+     * Constructs a new {@code EFramePhase}.
+     *
+     * @param label  The human-readable name.
+     * @param parent The phase this phase is timed within, or {@code null}.
+     */
+    EFramePhase(String label, EFramePhase parent) {
+        this.label = label;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the human-readable name of the phase.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the phase this phase is timed within, e.g. to indent it below that phase.
+     *
+     * @return The enclosing phase, or {@code null}.
+     */
+    public EFramePhase getParent() {
+        return parent;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.realengine.game;
+
+/**
+ * The quality levels chosen by the {@link QualityGovernor}, from the most expensive to the cheapest.
+ * Each level keeps the savings of the levels before it.
+ */
+public enum EQualityLevel {
+    /**
+     * Everything is drawn and simulated.
+     */
+    FULL(true, true, 1.0f, true),
+    /**
+     * The background image is not drawn.
+     */
+    NO_BACKGROUND(false, true, 1.0f, true),
+    /**
+     * Tiles and entities are drawn as flat colors instead of textures.
+     */
+    FLAT_COLOR(false, false, 1.0f, true),
+    /**
+     * The scene is drawn at half resolution and scaled up.
+     */
+    LOW_RESOLUTION(false, false, 0.5f, true),
+    /**
+     * Additionally, boxes only fall near the camera.
+     */
+    REDUCED_SIMULATION(false, false, 0.5f, false);
+
+    /**
+     * Flag indicating if the background image is drawn.
+     */
+    private final boolean background;
+    /**
+     * Flag indicating if textures are drawn.
+     */
+    private final boolean textures;
+    /**
+     * The internal render resolution relative to the screen.
+     */
+    private final float renderScale;
+    /**
+     * Flag indicating if the whole map is simulated, not only the part around the camera.
+     */
+    private final boolean fullSimulation;
+
+    /**
+     * Constructs a new {@code EQualityLevel}.
+     *
+     * @param background     If true, the background image is drawn.
+     * @param textures       If true, textures are drawn.
+     * @param renderScale    The internal render resolution relative to the screen.
+     * @param fullSimulation If true, the whole map is simulated.
+     */
+    EQualityLevel(boolean background, boolean textures, float renderScale, boolean fullSimulation) {
+        this.background = background;
+        this.textures = textures;
+        this.renderScale = renderScale;
+        this.fullSimulation = fullSimulation;
+    }
+
+    /**
+     * Returns whether the background image is drawn.
+     *
+     * @return {@code true} if the background is drawn.
+     */
+    public boolean isBackground() {
+        return background;
+    }
+
+    /**
+     * Returns whether textures are drawn.
+     *
+     * @return {@code true} if textures are drawn, {@code false} for flat colors.
+     */
+    public boolean isTextures() {
+        return textures;
+    }
+
+    /**
+     * Returns the internal render resolution relative to the screen.
+     *
+     * @return The render scale in {@code (0, 1]}.
+     */
+    public float getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * Returns whether the whole map is simulated.
+     *
+     * @return {@code true} if off-screen parts of the map are simulated as well.
+     */
+    public boolean isFullSimulation() {
+        return fullSimulation;
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.realengine.game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces a game loop to a target frame rate without burning a whole core.
+ * <p>The pacer parks the calling thread for the bulk of the remaining frame time and only spins
+ * for the last {@link #SPIN_WINDOW_NANOS}, because {@link LockSupport#parkNanos(long)} tends to wake up late.
+ * A separate, lower frame rate is used while the game is idle (paused or unfocused).</p>
+ * <p>Besides pacing, the pacer counts frames that ended past their deadline (overshoot) and
+ * simulation ticks that the game loop had to throw away, so hitches leave a trace.</p>
+ */
+public final class FramePacer {
+    /**
+     * Target frame rate value that disables pacing entirely (benchmark mode).
+     */
+    public static final int UNCAPPED = 0;
+    /**
+     * Length of the final stretch before a deadline that is spun instead of parked.
+     */
+    private static final long SPIN_WINDOW_NANOS = 1_500_000L;
+    /**
+     * Frames ending later than this after their deadline are counted as overshoot.
+     */
+    private static final long OVERSHOOT_TOLERANCE_NANOS = 250_000L;
+    /**
+     * The frame rate used while the game is active, or {@link #UNCAPPED}.
+     */
+    private volatile int targetFps;
+    /**
+     * The frame rate used while the game is idle (paused or unfocused).
+     */
+    private volatile int idleFps;
+    /**
+     * The {@code System.nanoTime()} deadline of the frame currently in progress.
+     */
+    private long deadline;
+    /**
+     * The number of frames paced so far.
+     */
+    private long frameCount = 0;
+    /**
+     * The number of frames that ended later than {@link #OVERSHOOT_TOLERANCE_NANOS} past their deadline.
+     */
+    private long overshootCount = 0;
+    /**
+     * The sum of all recorded overshoots in nanoseconds.
+     */
+    private long totalOvershootNanos = 0;
+    /**
+     * The largest recorded overshoot in nanoseconds.
+     */
+    private long maxOvershootNanos = 0;
+    /**
+     * The number of simulation ticks discarded by the game loop.
+     */
+    private long droppedTicks = 0;
+
+    /**
+     * Constructs a new {@code FramePacer}.
+     *
+     * @param targetFps The frame rate while active, or {@link #UNCAPPED} to run as fast as possible.
+     * @param idleFps   The frame rate while paused or unfocused.
+     */
+    public FramePacer(int targetFps, int idleFps) {
+        this.targetFps = targetFps;
+        this.idleFps = idleFps;
+        this.deadline = System.nanoTime();
+    }
+
+    /**
+     * Restarts pacing from the current time, e.g. after the loop has been blocked for a while.
+     */
+    public void reset() {
+        deadline = System.nanoTime();
+    }
+
+    /**
+     * Blocks the calling thread until the end of the current frame slot.
+     * <p>If the frame already ran past its slot, the overshoot is recorded and the method returns immediately.
+     * When a frame is late by more than a whole period, the schedule is re-based instead of
+     * trying to catch up with a burst of unpaced frames.</p>
+     *
+     * @param idle {@code true} if the game is paused or unfocused and should use the idle frame rate.
+     */
+    public void sync(boolean idle) {
+        frameCount++;
+        final int fps = idle ? idleFps : targetFps;
+        if (fps <= UNCAPPED) {
+            deadline = System.nanoTime();
+            return;
+        }
+        final long period = 1_000_000_000L / fps;
+        deadline += period;
+        long now = System.nanoTime();
+        if (now < deadline) {
+            waitUntil(deadline);
+            now = System.nanoTime();
+        }
+        final long overshoot = now - deadline;
+        if (overshoot > OVERSHOOT_TOLERANCE_NANOS) {
+            overshootCount++;
+            totalOvershootNanos += overshoot;
+            maxOvershootNanos = Math.max(maxOvershootNanos, overshoot);
+        }
+        if (overshoot > period) {
+            deadline = now;
+        }
+    }
+
+    /**
+     * Parks until shortly before the deadline, then spins for the remainder.
+     *
+     * @param until The {@code System.nanoTime()} value to wait for.
+     */
+    private void waitUntil(long until) {
+        long remaining = until - System.nanoTime();
+        while (remaining > SPIN_WINDOW_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_WINDOW_NANOS);
+            remaining = until - System.nanoTime();
+        }
+        while (until - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Records simulation ticks that the game loop discarded instead of simulating.
+     *
+     * @param ticks The number of discarded ticks.
+     */
+    public void recordDroppedTicks(long ticks) {
+        droppedTicks += ticks;
+    }
+
+    /**
+     * Sets the frame rate used while the game is active.
+     *
+     * @param targetFps The new frame rate, or {@link #UNCAPPED}.
+     */
+    public void setTargetFps(int targetFps) {
+        this.targetFps = targetFps;
+    }
+
+    /**
+     * Returns the frame rate used while the game is active.
+     *
+     * @return The target frame rate, or {@link #UNCAPPED}.
+     */
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Sets the frame rate used while the game is paused or unfocused.
+     *
+     * @param idleFps The new idle frame rate.
+     */
+    public void setIdleFps(int idleFps) {
+        this.idleFps = idleFps;
+    }
+
+    /**
+     * Returns the number of frames paced so far.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the number of frames that ended noticeably past their deadline.
+     *
+     * @return The overshoot count.
+     */
+    public long getOvershootCount() {
+        return overshootCount;
+    }
+
+    /**
+     * Returns the average overshoot of the frames counted by {@link #getOvershootCount()}.
+     *
+     * @return The average overshoot in nanoseconds, or 0 if no frame overshot.
+     */
+    public long getAverageOvershootNanos() {
+        return overshootCount == 0 ? 0 : totalOvershootNanos / overshootCount;
+    }
+
+    /**
+     * Returns the largest overshoot seen so far.
+     *
+     * @return The maximum overshoot in nanoseconds.
+     */
+    public long getMaxOvershootNanos() {
+        return maxOvershootNanos;
+    }
+
+    /**
+     * Returns the number of simulation ticks the game loop discarded.
+     *
+     * @return The dropped tick count.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Returns a one-line summary of the pacing statistics.
+     *
+     * @return The summary string.
+     */
+    @Override
+    public String toString() {
+        return "frames=" + frameCount
+                + " overshoot=" + overshootCount
+                + " avgOvershoot=" + getAverageOvershootNanos() / 1000 + "us"
+                + " maxOvershoot=" + maxOvershootNanos / 1000 + "us"
+                + " droppedTicks=" + droppedTicks;
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.realengine.game;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures how long each {@link EFramePhase} of a frame takes.
+ * <p>Timing is allocation-free: {@link #start()} returns a {@code System.nanoTime()} stamp and
+ * {@link #stop(EFramePhase, long)} records the elapsed time into a per-phase ring buffer of the most recent samples
+ * and a log-linear histogram over the whole session, from which p50, p99 and max are read.
+ * Both are backed by atomic arrays, so phases may be recorded on the game thread and the event dispatch thread
+ * while the overlay reads them, without locks.</p>
+ * <p>A disabled profiler skips all recording, so the calls can stay in hot paths.</p>
+ */
+public final class FrameProfiler {
+    /**
+     * The number of recent samples kept per phase. Must be a power of two.
+     */
+    public static final int RING_SIZE = 256;
+    /**
+     * Number of bits of precision within each power of two of the histogram (8 buckets, ~12% resolution).
+     */
+    private static final int SUB_BITS = 3;
+    /**
+     * Number of histogram buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /**
+     * Total number of histogram buckets, covering every positive {@code long}.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+    /**
+     * The statistics of every phase, indexed by ordinal.
+     */
+    private final PhaseTimer[] timers;
+    /**
+     * Flag indicating if samples are recorded.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Constructs a new {@code FrameProfiler}.
+     *
+     * @param enabled If true, samples are recorded from the start.
+     */
+    public FrameProfiler(boolean enabled) {
+        this.enabled = enabled;
+        final EFramePhase[] phases = EFramePhase.values();
+        this.timers = new PhaseTimer[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            timers[i] = new PhaseTimer(phases[i]);
+        }
+    }
+
+    /**
+     * Returns the start stamp of a timed phase.
+     *
+     * @return {@code System.nanoTime()}, or 0 if the profiler is disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since {@code start} for the given phase.
+     *
+     * @param phase The phase that ended.
+     * @param start The stamp returned by {@link #start()}.
+     */
+    public void stop(EFramePhase phase, long start) {
+        if (enabled && start != 0) {
+            timers[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the statistics of a phase.
+     *
+     * @param phase The phase.
+     * @return The {@code PhaseTimer} of the phase.
+     */
+    public PhaseTimer get(EFramePhase phase) {
+        return timers[phase.ordinal()];
+    }
+
+    /**
+     * Enables or disables recording.
+     *
+     * @param enabled If true, samples are recorded.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether samples are recorded.
+     *
+     * @return {@code true} if the profiler is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Writes the session statistics of all phases to a CSV file, one row per phase, times in microseconds.
+     * Missing parent directories are created.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void exportCsv(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("phase,count,mean_us,p50_us,p99_us,max_us,recent_max_us");
+            for (final PhaseTimer timer : timers) {
+                out.printf(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                        timer.getPhase().getLabel(), timer.getCount(),
+                        timer.getMeanNanos() / 1e3, timer.getPercentileNanos(0.50) / 1e3,
+                        timer.getPercentileNanos(0.99) / 1e3, timer.getMaxNanos() / 1e3,
+                        timer.getRecentMaxNanos() / 1e3);
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram bucket of a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The bucket index.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        final int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the largest duration that falls into a histogram bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The upper bound of the bucket in nanoseconds.
+     */
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+
+    /**
+     * The samples and session histogram of a single {@link EFramePhase}.
+     */
+    public static final class PhaseTimer {
+        /**
+         * The phase these statistics belong to.
+         */
+        private final EFramePhase phase;
+        /**
+         * Ring buffer of the most recent samples in nanoseconds.
+         */
+        private final AtomicLongArray recent = new AtomicLongArray(RING_SIZE);
+        /**
+         * The number of samples ever written to {@link #recent}; the next slot is {@code cursor % RING_SIZE}.
+         */
+        private final AtomicLong cursor = new AtomicLong();
+        /**
+         * Session histogram, sample counts per bucket.
+         */
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        /**
+         * The sum of all samples in nanoseconds.
+         */
+        private final AtomicLong totalNanos = new AtomicLong();
+        /**
+         * The largest sample in nanoseconds.
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * Constructs a new {@code PhaseTimer}.
+         *
+         * @param phase The phase the statistics belong to.
+         */
+        private PhaseTimer(EFramePhase phase) {
+            this.phase = phase;
+        }
+
+        /**
+         * Records one sample.
+         *
+         * @param nanos The duration of the phase in nanoseconds.
+         */
+        private void record(long nanos) {
+            recent.lazySet((int) (cursor.getAndIncrement() & (RING_SIZE - 1)), nanos);
+            histogram.incrementAndGet(bucketOf(nanos));
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Returns the phase these statistics belong to.
+         *
+         * @return The phase.
+         */
+        public EFramePhase getPhase() {
+            return phase;
+        }
+
+        /**
+         * Returns the number of samples recorded in this session.
+         *
+         * @return The sample count.
+         */
+        public long getCount() {
+            return cursor.get();
+        }
+
+        /**
+         * Returns the most recent sample.
+         *
+         * @return The last duration in nanoseconds, or 0 if nothing was recorded.
+         */
+        public long getLastNanos() {
+            final long count = cursor.get();
+            return count == 0 ? 0 : recent.get((int) ((count - 1) & (RING_SIZE - 1)));
+        }
+
+        /**
+         * Returns the mean of all samples in this session.
+         *
+         * @return The mean duration in nanoseconds, or 0 if nothing was recorded.
+         */
+        public double getMeanNanos() {
+            final long count = cursor.get();
+            return count == 0 ? 0 : (double) totalNanos.get() / count;
+        }
+
+        /**
+         * Returns the largest sample in this session.
+         *
+         * @return The maximum duration in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * Returns the largest of the last {@link #RING_SIZE} samples, i.e. the worst recent hitch.
+         *
+         * @return The recent maximum in nanoseconds.
+         */
+        public long getRecentMaxNanos() {
+            final int size = (int) Math.min(cursor.get(), RING_SIZE);
+            long max = 0;
+            for (int i = 0; i < size; i++) {
+                max = Math.max(max, recent.get(i));
+            }
+            return max;
+        }
+
+        /**
+         * Returns a percentile of the session histogram, accurate to the bucket width (~12%).
+         *
+         * @param fraction The percentile as a fraction in {@code [0, 1]}, e.g. {@code 0.99}.
+         * @return The upper bound of the bucket containing the percentile in nanoseconds, or 0 if nothing was recorded.
+         */
+        public long getPercentileNanos(double fraction) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += histogram.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(fraction * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram.get(i);
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.realengine.game;
+
+/**
+ * The simulation clock of a {@link World}: a fixed tick rate and the conversions between seconds and ticks.
+ * <p>Gameplay delays are defined in seconds (see {@link GameConstants}) and converted to whole ticks once,
+ * when a clock is assigned, so that timings do not change with the tick rate.</p>
+ */
+public final class GameClock {
+    /**
+     * The default number of simulation ticks per second.
+     */
+    public static final int DEFAULT_TICK_RATE = 60;
+    /**
+     * The number of simulation ticks per second.
+     */
+    private final int tickRate;
+    /**
+     * The length of one tick in seconds.
+     */
+    private final float deltaTime;
+
+    /**
+     * Constructs a new {@code GameClock}.
+     *
+     * @param tickRate The number of simulation ticks per second, e.g. 30 for low-power devices or 240 for precise physics.
+     * @throws IllegalArgumentException if {@code tickRate} is not positive.
+     */
+    public GameClock(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive. Got: " + tickRate);
+        }
+        this.tickRate = tickRate;
+        this.deltaTime = 1.0f / tickRate;
+    }
+
+    /**
+     * Returns the number of simulation ticks per second.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Returns the length of one tick.
+     *
+     * @return The tick length in seconds.
+     */
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    /**
+     * Converts a duration to a whole number of ticks, rounding to the nearest tick.
+     *
+     * @param seconds The duration in seconds.
+     * @return The number of ticks, at least 1.
+     */
+    public int toTicks(float seconds) {
+        return Math.max(1, Math.round(seconds * tickRate));
+    }
+
+    /**
+     * Converts a number of ticks to seconds.
+     *
+     * @param ticks The number of ticks.
+     * @return The duration in seconds.
+     */
+    public float toSeconds(long ticks) {
+        return ticks * deltaTime;
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.realengine.game;
 
 public final class GameConstants {
-    public static final int BOX_PUSH_DELAY = 6;
-    public static final int TELEPORT_COOLDOWN_TICKS = 30;
+    public static final float BOX_PUSH_DELAY = 0.1f;
+    public static final float BOX_GRAVITY_DELAY = 0.1f;
+    public static final float TELEPORT_COOLDOWN = 0.5f;
     public static final float GRAVITY = 1700.0f;
-    public static int TILE_SIZE = 48;
-    public static float GAP = TILE_SIZE / 30.0f;
-}
\ No newline at end of file
+    public static final int MAX_WORLD_COL = 180;
+    public static final int MAX_WORLD_ROW = 14;
+    public static final int TILE_SIZE = 48;
+    public static final float GAP = TILE_SIZE / 30.0f;
+}
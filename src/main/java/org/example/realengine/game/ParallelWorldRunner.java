@@ -0,0 +1,114 @@
+package org.example.realengine.game;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Steps many independent {@link World}s in parallel on a {@link ForkJoinPool}.
+ * <p>Worlds share no mutable state, so each world is stepped by exactly one worker for the whole run
+ * and no synchronization between worlds is needed. The list of worlds is split recursively,
+ * which lets idle workers steal the remaining worlds when some levels are more expensive than others.</p>
+ */
+public final class ParallelWorldRunner implements AutoCloseable {
+    /**
+     * The pool the worlds are stepped on.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new {@code ParallelWorldRunner} with its own pool.
+     *
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public ParallelWorldRunner(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Advances every world by the given number of ticks and waits until all of them are done.
+     * A world must not be ticked from another thread while this method is running.
+     *
+     * @param worlds The worlds to simulate.
+     * @param ticks  The number of ticks to simulate in each world.
+     * @return The wall-clock time spent simulating, in nanoseconds.
+     */
+    public long step(@NotNull List<World> worlds, int ticks) {
+        final long start = System.nanoTime();
+        pool.invoke(new StepTask(worlds, 0, worlds.size(), ticks));
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return The parallelism of the pool.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Steps a range of worlds, splitting it in halves until a single world is left.
+     */
+    private static final class StepTask extends RecursiveAction {
+        /**
+         * All worlds of the run.
+         */
+        private final List<World> worlds;
+        /**
+         * The first world of the range, inclusive.
+         */
+        private final int from;
+        /**
+         * The end of the range, exclusive.
+         */
+        private final int to;
+        /**
+         * The number of ticks to simulate in each world.
+         */
+        private final int ticks;
+
+        /**
+         * Constructs a new {@code StepTask}.
+         *
+         * @param worlds All worlds of the run.
+         * @param from   The first world of the range, inclusive.
+         * @param to     The end of the range, exclusive.
+         * @param ticks  The number of ticks to simulate in each world.
+         */
+        private StepTask(List<World> worlds, int from, int to, int ticks) {
+            this.worlds = worlds;
+            this.from = from;
+            this.to = to;
+            this.ticks = ticks;
+        }
+
+        /**
+         * Steps the single world of the range, or forks both halves.
+         */
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                worlds.get(from).step(ticks);
+                return;
+            }
+            if (to <= from) {
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new StepTask(worlds, from, middle, ticks), new StepTask(worlds, middle, to, ticks));
+        }
+    }
+}
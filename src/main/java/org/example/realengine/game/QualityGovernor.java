@@ -0,0 +1,122 @@
+package org.example.realengine.game;
+
+/**
+ * Lowers the {@link EQualityLevel} step by step while frames cost more than their budget,
+ * and raises it again when there is headroom.
+ * <p>The measured frame cost is smoothed with an exponential moving average. To avoid flapping between two levels,
+ * stepping down and stepping up use different thresholds, each requires the condition to hold for a number of
+ * consecutive frames, and no further change is made for {@link #COOLDOWN_FRAMES} frames after a change.
+ * Stepping up is deliberately much slower than stepping down.</p>
+ */
+public final class QualityGovernor {
+    /**
+     * Weight of the newest sample in the moving average of the frame cost.
+     */
+    private static final double SMOOTHING = 0.1;
+    /**
+     * Fraction of the budget above which the quality is lowered.
+     */
+    private static final double DOWN_THRESHOLD = 0.9;
+    /**
+     * Fraction of the budget below which the quality is raised.
+     */
+    private static final double UP_THRESHOLD = 0.5;
+    /**
+     * Number of consecutive frames over {@link #DOWN_THRESHOLD} before the quality is lowered.
+     */
+    private static final int DOWN_FRAMES = 15;
+    /**
+     * Number of consecutive frames under {@link #UP_THRESHOLD} before the quality is raised.
+     */
+    private static final int UP_FRAMES = 180;
+    /**
+     * Number of frames after a change during which the level is kept, so the effect can be measured.
+     */
+    private static final int COOLDOWN_FRAMES = 60;
+    /**
+     * All levels, from the best to the cheapest.
+     */
+    private static final EQualityLevel[] LEVELS = EQualityLevel.values();
+    /**
+     * The current level.
+     */
+    private volatile EQualityLevel level = EQualityLevel.FULL;
+    /**
+     * The smoothed frame cost in nanoseconds, or a negative value before the first sample.
+     */
+    private double averageCostNanos = -1;
+    /**
+     * The number of consecutive frames over the down threshold.
+     */
+    private int framesOver = 0;
+    /**
+     * The number of consecutive frames under the up threshold.
+     */
+    private int framesUnder = 0;
+    /**
+     * The number of frames left before the level may change again.
+     */
+    private int cooldown = 0;
+
+    /**
+     * Feeds the cost of one frame and adjusts the level.
+     *
+     * @param frameCostNanos The time spent simulating and drawing the frame, without waiting.
+     * @param budgetNanos    The time available for one frame.
+     * @return The level to use for the next frame.
+     */
+    public EQualityLevel update(long frameCostNanos, long budgetNanos) {
+        averageCostNanos = averageCostNanos < 0
+                ? frameCostNanos
+                : averageCostNanos + SMOOTHING * (frameCostNanos - averageCostNanos);
+        if (cooldown > 0) {
+            cooldown--;
+            return level;
+        }
+        if (averageCostNanos > budgetNanos * DOWN_THRESHOLD) {
+            framesUnder = 0;
+            if (++framesOver >= DOWN_FRAMES && level.ordinal() < LEVELS.length - 1) {
+                change(LEVELS[level.ordinal() + 1]);
+            }
+        } else if (averageCostNanos < budgetNanos * UP_THRESHOLD) {
+            framesOver = 0;
+            if (++framesUnder >= UP_FRAMES && level.ordinal() > 0) {
+                change(LEVELS[level.ordinal() - 1]);
+            }
+        } else {
+            framesOver = 0;
+            framesUnder = 0;
+        }
+        return level;
+    }
+
+    /**
+     * Switches to another level and starts the cooldown.
+     *
+     * @param next The new level.
+     */
+    private void change(EQualityLevel next) {
+        level = next;
+        framesOver = 0;
+        framesUnder = 0;
+        cooldown = COOLDOWN_FRAMES;
+    }
+
+    /**
+     * Returns the current level.
+     *
+     * @return The quality level.
+     */
+    public EQualityLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the smoothed frame cost.
+     *
+     * @return The moving average of the frame cost in nanoseconds.
+     */
+    public long getAverageCostNanos() {
+        return (long) Math.max(0, averageCostNanos);
+    }
+}
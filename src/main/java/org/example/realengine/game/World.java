@@ -0,0 +1,391 @@
+package org.example.realengine.game;
+
+import org.example.realengine.control.PlayerController;
+import org.example.realengine.entity.EntityManager;
+import org.example.realengine.entity.Player;
+import org.example.realengine.graphics.Camera;
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+import org.example.realengine.object.ObjectManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.*;
+import java.io.IOException;
+
+import static org.example.realengine.game.GameConstants.*;
+
+/**
+ * <p>The headless simulation core of the engine. Owns the {@link RMap}, the {@link Player},
+ * the {@link EntityManager}, the {@link ObjectManager} and the {@link Camera}, and advances them in fixed ticks.</p>
+ * <p>A {@code World} does not depend on Swing. Frontends such as {@code GamePanel} drive it from their own loop
+ * and react to game events through a {@link WorldListener}; batch simulations and benchmarks can call
+ * {@link #step(int)} to run as many ticks as the CPU allows.</p>
+ * <p>Each world advances by the fixed tick length of its {@link GameClock}. All mutable simulation state
+ * (clock, map, random number generator, entities) belongs to a single world, so independent worlds can be
+ * simulated concurrently, one thread per world at a time (see {@link ParallelWorldRunner}).</p>
+ */
+public class World {
+    /**
+     * Number of tile columns beyond each edge of the camera that are still simulated when simulation is reduced.
+     */
+    private static final int REDUCED_SIMULATION_MARGIN = 4;
+    /**
+     * The camera controlling the view of the game world. Also limits which entities are simulated.
+     */
+    private final Camera camera;
+    /**
+     * The player entity.
+     */
+    private final Player player;
+    /**
+     * Manages all entities in the game.
+     */
+    private final EntityManager entityManager;
+    /**
+     * Manages all objects in the game.
+     */
+    private final ObjectManager objectManager;
+    /**
+     * The current game map.
+     */
+    private RMap map;
+    /**
+     * The player's spawn point on the map.
+     */
+    private Point spawnPoint;
+    /**
+     * The simulation clock defining the tick length.
+     */
+    private GameClock clock;
+    /**
+     * {@link GameConstants#BOX_GRAVITY_DELAY} converted to ticks of {@link #clock}.
+     */
+    private int boxGravityDelayTicks;
+    /**
+     * Tick counter for box gravity.
+     */
+    private int boxGravityTick = 0;
+    /**
+     * The number of ticks simulated since the current map was loaded.
+     */
+    private long tickCount = 0;
+    /**
+     * The source of player input polled every tick, or {@code null} if input is applied directly.
+     */
+    private PlayerController controller;
+    /**
+     * Receives game events, or {@code null} if nobody is listening.
+     */
+    private WorldListener listener;
+    /**
+     * Times the phases of every tick. Disabled unless a frontend installs its own profiler.
+     */
+    private FrameProfiler profiler = new FrameProfiler(false);
+    /**
+     * Flag indicating if boxes only fall near the camera instead of on the whole map.
+     */
+    private volatile boolean reducedSimulation = false;
+
+    /**
+     * Constructs a new {@code World} on the given map, ticking at {@link GameClock#DEFAULT_TICK_RATE}.
+     *
+     * @param map          The initial map.
+     * @param screenWidth  The width of the camera's viewport in pixels.
+     * @param screenHeight The height of the camera's viewport in pixels.
+     */
+    public World(@NotNull RMap map, int screenWidth, int screenHeight) {
+        this(map, screenWidth, screenHeight, new GameClock(GameClock.DEFAULT_TICK_RATE));
+    }
+
+    /**
+     * Constructs a new {@code World} on the given map.
+     *
+     * @param map          The initial map.
+     * @param screenWidth  The width of the camera's viewport in pixels.
+     * @param screenHeight The height of the camera's viewport in pixels.
+     * @param clock        The simulation clock.
+     */
+    public World(@NotNull RMap map, int screenWidth, int screenHeight, @NotNull GameClock clock) {
+        this.map = map;
+        this.clock = clock;
+        this.boxGravityDelayTicks = clock.toTicks(BOX_GRAVITY_DELAY);
+        this.spawnPoint = findSpawnPoint(map);
+        if (spawnPoint == null) {
+            System.out.println("WARN: PLAYER_SPAWN not found, using default spawn position.");
+            spawnPoint = defaultSpawnPoint();
+        }
+        this.player = new Player(spawnPoint.x, spawnPoint.y, this);
+        this.player.setWidth(TILE_SIZE);
+        this.player.setHeight(TILE_SIZE);
+        this.map.addEntity(player);
+        this.camera = new Camera(screenWidth, screenHeight, map.getPixelWidth(), map.getPixelHeight());
+        this.camera.follow(player);
+        this.camera.setFollowOffsetX(-screenWidth / 4.0f);
+        this.entityManager = new EntityManager(map, camera, player);
+        this.objectManager = new ObjectManager(clock);
+    }
+
+    /**
+     * Loads a map from a PNG file and creates a world on it.
+     *
+     * @param mapPath      The path to the map image.
+     * @param screenWidth  The width of the camera's viewport in pixels.
+     * @param screenHeight The height of the camera's viewport in pixels.
+     * @param clock        The simulation clock.
+     * @return The new {@code World}.
+     * @throws IOException If the map cannot be loaded.
+     */
+    public static World load(String mapPath, int screenWidth, int screenHeight, GameClock clock) throws IOException {
+        return new World(RMap.loadFromPng(mapPath), screenWidth, screenHeight, clock);
+    }
+
+    /**
+     * Advances the simulation by one tick of the world's clock.
+     * Applies controller input, box gravity, falling platforms, out-of-world respawn, entities and the camera.
+     */
+    public void tick() {
+        final long tickStart = profiler.start();
+        if (controller != null) {
+            controller.apply(player, tickCount);
+        }
+        boxGravityTick++;
+        if (boxGravityTick >= boxGravityDelayTicks) {
+            final long start = profiler.start();
+            if (reducedSimulation) {
+                final int fromX = (int) (camera.getX() / TILE_SIZE) - REDUCED_SIMULATION_MARGIN;
+                final int toX = (int) ((camera.getX() + camera.getViewWidth()) / TILE_SIZE) + 1 + REDUCED_SIMULATION_MARGIN;
+                objectManager.applyBoxGravity(this.map, fromX, toX);
+            } else {
+                objectManager.applyBoxGravity(this.map);
+            }
+            profiler.stop(EFramePhase.BOX_GRAVITY, start);
+            boxGravityTick = 0;
+        }
+        final int playerTileX = (int) ((player.getX() + player.getWidth() / 2.0) / TILE_SIZE);
+        final int playerTileY = (int) ((player.getY() + player.getHeight() / 2.0) / TILE_SIZE);
+        long start = profiler.start();
+        objectManager.updateFallingPlatforms(this.map, playerTileX, playerTileY);
+        profiler.stop(EFramePhase.FALLING_PLATFORMS, start);
+        if (player.getY() > map.getPixelHeight()) {
+            respawnPlayer();
+        }
+        start = profiler.start();
+        entityManager.updateEntities(clock.getDeltaTime());
+        profiler.stop(EFramePhase.ENTITIES, start);
+        start = profiler.start();
+        camera.update();
+        profiler.stop(EFramePhase.CAMERA, start);
+        tickCount++;
+        profiler.stop(EFramePhase.TICK, tickStart);
+    }
+
+    /**
+     * Advances the simulation by the given number of ticks as fast as possible.
+     *
+     * @param ticks The number of ticks to simulate.
+     * @return The wall-clock time spent simulating, in nanoseconds.
+     */
+    public long step(int ticks) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Loads a new map, replacing the current one. Updates camera bounds and player position.
+     *
+     * @param newMap The new {@code RMap} instance to load.
+     */
+    public void loadMap(@NotNull RMap newMap) {
+        if (this.map != null) {
+            this.map.clearEntities();
+        }
+        this.map = newMap;
+        camera.setWorldDimensions(map.getPixelWidth(), map.getPixelHeight());
+        entityManager.setMap(newMap);
+        spawnPoint = findSpawnPoint(this.map);
+        player.setSpawnPoint(spawnPoint);
+        resetPlayer(spawnPoint);
+        this.map.addEntity(player);
+        this.boxGravityTick = 0;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Ends the current level and notifies the listener. Called by the {@link Player} when it reaches the end tile.
+     */
+    public void endLevel() {
+        if (listener != null) {
+            listener.onLevelEnd(this);
+        }
+    }
+
+    /**
+     * Respawns the player at the designated spawn point.
+     */
+    public void respawnPlayer() {
+        resetPlayer(spawnPoint);
+    }
+
+    /**
+     * Resets the player's position, health, and velocity to the given spawn point.
+     * If the provided spawn point is null, a default spawn point is used.
+     *
+     * @param playerSpawn The {@code Point} representing the desired spawn coordinates for the player.
+     */
+    private void resetPlayer(Point playerSpawn) {
+        if (playerSpawn == null) {
+            playerSpawn = defaultSpawnPoint();
+        }
+        player.setX(playerSpawn.x);
+        player.setY(playerSpawn.y);
+        player.setHealth(player.getMaxHealth());
+        player.setVelocityX(0);
+        player.setVelocityY(0);
+        player.storePreviousPosition();
+    }
+
+    /**
+     * Returns the spawn point used when a map has no {@code PLAYER_SPAWN} tile.
+     *
+     * @return The default spawn point in pixels.
+     */
+    private static Point defaultSpawnPoint() {
+        return new Point(2 * TILE_SIZE, (MAX_WORLD_ROW - 5) * TILE_SIZE);
+    }
+
+    /**
+     * Finds the first occurrence of {@code PLAYER_SPAWN} in the map's collision layer.
+     *
+     * @param mapToSearch The {@code RMap} to search within.
+     * @return A {@code Point} representing the top-left pixel coordinates of the spawn tile, or {@code null} if not found.
+     */
+    private static Point findSpawnPoint(final RMap mapToSearch) {
+        final EObject[][] collisionLayer = mapToSearch.getCollisionMap();
+        if (collisionLayer == null) return null;
+        for (int y = 0; y < mapToSearch.getHeight(); y++) {
+            for (int x = 0; x < mapToSearch.getWidth(); x++) {
+                if (x < collisionLayer.length && y < collisionLayer[x].length)
+                    if (collisionLayer[x][y] == EObject.PLAYER_SPAWN)
+                        return new Point(x * TILE_SIZE, y * TILE_SIZE);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the simulation clock. All tick-based delays are converted to the new tick rate.
+     * Must not be called while the world is being ticked from another thread.
+     *
+     * @param clock The new simulation clock.
+     */
+    public void setClock(@NotNull GameClock clock) {
+        this.clock = clock;
+        this.boxGravityDelayTicks = clock.toTicks(BOX_GRAVITY_DELAY);
+        this.boxGravityTick = 0;
+        objectManager.setClock(clock);
+        player.setClock(clock);
+    }
+
+    /**
+     * Returns the simulation clock.
+     *
+     * @return The {@code GameClock} of this world.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the profiler timing the phases of every tick.
+     *
+     * @param profiler The profiler.
+     */
+    public void setProfiler(@NotNull FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Limits box gravity to the columns around the camera, to save time on overloaded machines.
+     * Boxes further away keep their position until they come close to the camera.
+     *
+     * @param reducedSimulation If true, only the area around the camera is simulated.
+     */
+    public void setReducedSimulation(boolean reducedSimulation) {
+        this.reducedSimulation = reducedSimulation;
+    }
+
+    /**
+     * Sets the controller polled for player input at the start of every tick.
+     *
+     * @param controller The controller, or {@code null} to disable polling.
+     */
+    public void setController(PlayerController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Sets the listener notified about game events.
+     *
+     * @param listener The listener, or {@code null} to remove it.
+     */
+    public void setListener(WorldListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieves the current game map.
+     *
+     * @return The current {@code RMap} instance.
+     */
+    public RMap getMap() {
+        return map;
+    }
+
+    /**
+     * Retrieves the player entity.
+     *
+     * @return The {@code Player} instance.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Retrieves the camera of this world.
+     *
+     * @return The {@code Camera} instance.
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Retrieves the {@code EntityManager} instance responsible for managing game entities.
+     *
+     * @return The {@code EntityManager} instance.
+     */
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Retrieves the {@code ObjectManager} instance responsible for managing game objects.
+     *
+     * @return The {@code ObjectManager} instance.
+     */
+    public ObjectManager getObjectManager() {
+        return objectManager;
+    }
+
+    /**
+     * Returns the number of ticks simulated since the current map was loaded.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
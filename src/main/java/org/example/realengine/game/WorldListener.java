@@ -0,0 +1,15 @@
+package org.example.realengine.game;
+
+/**
+ * Receives notifications about game events from a {@link World}.
+ * Frontends implement this to react to the simulation without the simulation depending on them.
+ */
+@FunctionalInterface
+public interface WorldListener {
+    /**
+     * Called when the player reaches the end of the level.
+     *
+     * @param world The world in which the level ended.
+     */
+    void onLevelEnd(World world);
+}
@@ -0,0 +1,106 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Picks the variant of a tile texture that matches which of its sides border open cells, so the surface of
+ * terrain shows edges and rounded corners instead of a grid of identical blocks.</p>
+ * <p>Every opaque texture has a lookup table of {@link #VARIANTS} images indexed by the
+ * {@link RMap#getEdgeMask(int, int) edge mask} of the cell. Each variant darkens the outermost row or column of
+ * source pixels along every open side and cuts away the corner pixel where two open sides meet. The table is built
+ * once per texture on first use; picking a variant is an array lookup. Textures with transparency, such as plants
+ * and ladders, are always drawn unchanged.</p>
+ * <p>The variants are new images, so identity-keyed caches of scaled copies treat them as separate textures.
+ * The set may be shared by several drawing threads.</p>
+ */
+public final class AutoTileSet {
+    /**
+     * The number of variants of every texture, one per edge mask.
+     */
+    public static final int VARIANTS = 16;
+    /**
+     * How much of its brightness an edge pixel keeps.
+     */
+    private static final float EDGE_SHADE = 0.6f;
+    /**
+     * The variants of every texture by edge mask, keyed by the identity of the base texture.
+     */
+    private final Map<BufferedImage, BufferedImage[]> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the variant of a texture for an edge mask.
+     *
+     * @param texture The base texture, may be {@code null}.
+     * @param mask    The edge mask of the cell.
+     * @return The variant, or the texture itself if it has no variants or the cell has no open side.
+     */
+    public BufferedImage get(BufferedImage texture, int mask) {
+        if (texture == null || mask == 0) {
+            return texture;
+        }
+        return tables.computeIfAbsent(texture, AutoTileSet::build)[mask];
+    }
+
+    /**
+     * Builds the lookup table of a texture.
+     *
+     * @param texture The base texture.
+     * @return The variants by edge mask; all of them are the texture itself if it is not opaque.
+     */
+    private static BufferedImage[] build(BufferedImage texture) {
+        final BufferedImage[] table = new BufferedImage[VARIANTS];
+        table[0] = texture;
+        final boolean opaque = ScaledTextureCache.transparencyOf(texture) == Transparency.OPAQUE;
+        for (int mask = 1; mask < VARIANTS; mask++) {
+            table[mask] = opaque ? variant(texture, mask) : texture;
+        }
+        return table;
+    }
+
+    /**
+     * Draws the edges and corners of one edge mask onto a copy of a texture.
+     *
+     * @param texture The opaque base texture.
+     * @param mask    The edge mask.
+     * @return The variant as an ARGB image.
+     */
+    private static BufferedImage variant(BufferedImage texture, int mask) {
+        final int width = texture.getWidth();
+        final int height = texture.getHeight();
+        final int[] pixels = texture.getRGB(0, 0, width, height, null, 0, width);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final boolean north = y == 0 && (mask & RMap.EDGE_NORTH) != 0;
+                final boolean east = x == width - 1 && (mask & RMap.EDGE_EAST) != 0;
+                final boolean south = y == height - 1 && (mask & RMap.EDGE_SOUTH) != 0;
+                final boolean west = x == 0 && (mask & RMap.EDGE_WEST) != 0;
+                if ((north || south) && (east || west)) {
+                    pixels[y * width + x] = 0;
+                } else if (north || east || south || west) {
+                    pixels[y * width + x] = shade(pixels[y * width + x]);
+                }
+            }
+        }
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Darkens a pixel by {@link #EDGE_SHADE}, keeping its alpha.
+     *
+     * @param argb The ARGB pixel.
+     * @return The darkened pixel.
+     */
+    private static int shade(int argb) {
+        final int red = (int) (((argb >> 16) & 0xFF) * EDGE_SHADE);
+        final int green = (int) (((argb >> 8) & 0xFF) * EDGE_SHADE);
+        final int blue = (int) ((argb & 0xFF) * EDGE_SHADE);
+        return argb & 0xFF000000 | red << 16 | green << 8 | blue;
+    }
+}
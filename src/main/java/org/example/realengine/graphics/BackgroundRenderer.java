@@ -0,0 +1,212 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.FrameProfiler;
+import org.example.realengine.map.RMap;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * <p>Draws the {@link EBackground} of the current map from images pre-scaled for the current screen,
+ * so a frame costs one unscaled blit per layer instead of scaling the full background image.</p>
+ * <p>The background is resolved once per map. For every layer a strip is prepared when the level, the screen size
+ * or the graphics configuration changes: the static base layer stretched over the screen, and every parallax layer
+ * scaled to the screen height and repeated horizontally so that a single blit at a scrolled offset covers the screen.
+ * Each layer is timed as its own {@link EFramePhase} (layers past the fourth share the last phase).</p>
+ * <p>A renderer can also be given fixed layers that it draws for every map, e.g. to try out or validate parallax art
+ * before it is assigned to a background.</p>
+ * <p>The renderer must only be used by one drawing thread at a time.</p>
+ */
+public final class BackgroundRenderer {
+    /**
+     * The phase each layer is timed as, by layer index.
+     */
+    private static final EFramePhase[] LAYER_PHASES = {
+            EFramePhase.BACKGROUND_LAYER_0, EFramePhase.BACKGROUND_LAYER_1,
+            EFramePhase.BACKGROUND_LAYER_2, EFramePhase.BACKGROUND_LAYER_3
+    };
+    /**
+     * The layers drawn for every map, or {@code null} to draw the background of the map.
+     */
+    private final List<EBackground.Layer> fixedLayers;
+    /**
+     * The map the background was resolved for.
+     */
+    private RMap map;
+    /**
+     * The background of {@link #map}.
+     */
+    private EBackground background;
+    /**
+     * The layers to draw: those of {@link #background} or the {@link #fixedLayers}.
+     */
+    private List<EBackground.Layer> layers;
+    /**
+     * The layers the strips were prepared for.
+     */
+    private List<EBackground.Layer> preparedLayers;
+    /**
+     * The screen size the strips were prepared for.
+     */
+    private int preparedWidth, preparedHeight;
+    /**
+     * The graphics configuration the strips were prepared for.
+     */
+    private GraphicsConfiguration preparedConfiguration;
+    /**
+     * The prepared strip of every layer.
+     */
+    private BufferedImage[] strips = new BufferedImage[0];
+    /**
+     * The width of one repetition of every layer within its strip.
+     */
+    private int[] periods = new int[0];
+    /**
+     * The number of times the strips were prepared, for diagnostics.
+     */
+    private int preparations;
+
+    /**
+     * Constructs a new {@code BackgroundRenderer} drawing the background of every map.
+     */
+    public BackgroundRenderer() {
+        this.fixedLayers = null;
+    }
+
+    /**
+     * Constructs a new {@code BackgroundRenderer} drawing the same layers for every map.
+     *
+     * @param layers The layers from back to front; the first one should not scroll.
+     * @throws IllegalArgumentException if there are no layers.
+     */
+    public BackgroundRenderer(List<EBackground.Layer> layers) {
+        if (layers.isEmpty()) {
+            throw new IllegalArgumentException("No background layers");
+        }
+        this.fixedLayers = List.copyOf(layers);
+    }
+
+    /**
+     * Returns the horizontal offset a scrolling layer is drawn at: the scrolled camera position wrapped to one
+     * repetition of the layer.
+     *
+     * @param cameraX      The X-coordinate of the camera.
+     * @param scrollFactor How fast the layer scrolls relative to the camera, not 0.
+     * @param period       The width of one repetition of the layer on the screen.
+     * @return The number of pixels the strip is moved to the left, between 0 and {@code period - 1}.
+     */
+    public static int getScrollOffset(float cameraX, float scrollFactor, int period) {
+        return Math.floorMod((int) Math.floor(cameraX * scrollFactor), period);
+    }
+
+    /**
+     * Draws all layers of the background of the snapshot's map.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state, used for the map, the camera position and the screen size.
+     * @param profiler The profiler timing each layer.
+     */
+    public void draw(Graphics g, RenderSnapshot snapshot, FrameProfiler profiler) {
+        if (snapshot.getMap() != map) {
+            map = snapshot.getMap();
+            background = EBackground.forMap(map.getPath());
+            layers = fixedLayers != null ? fixedLayers : background.getLayers();
+        }
+        final int width = snapshot.getScreenWidth();
+        final int height = snapshot.getScreenHeight();
+        if (!(g instanceof Graphics2D g2)) {
+            g.drawImage(layers.getFirst().image(), 0, 0, width, height, null);
+            return;
+        }
+        prepare(g2.getDeviceConfiguration(), width, height);
+        final float camX = snapshot.getCameraX();
+        for (int i = 0; i < layers.size(); i++) {
+            final long start = profiler.start();
+            final float scrollFactor = layers.get(i).scrollFactor();
+            if (scrollFactor == 0) {
+                g.drawImage(strips[i], 0, 0, null);
+            } else {
+                g.drawImage(strips[i], -getScrollOffset(camX, scrollFactor, periods[i]), 0, null);
+            }
+            profiler.stop(LAYER_PHASES[Math.min(i, LAYER_PHASES.length - 1)], start);
+        }
+    }
+
+    /**
+     * Prepares the strips of all layers unless they are up to date.
+     *
+     * @param configuration The configuration of the destination.
+     * @param width         The screen width.
+     * @param height        The screen height.
+     */
+    private void prepare(GraphicsConfiguration configuration, int width, int height) {
+        if (layers == preparedLayers && width == preparedWidth && height == preparedHeight
+                && configuration == preparedConfiguration) {
+            return;
+        }
+        strips = new BufferedImage[layers.size()];
+        periods = new int[layers.size()];
+        for (int i = 0; i < layers.size(); i++) {
+            final EBackground.Layer layer = layers.get(i);
+            final BufferedImage image = layer.image();
+            if (layer.scrollFactor() == 0) {
+                periods[i] = width;
+                strips[i] = strip(configuration, image, width, height, width);
+            } else {
+                periods[i] = Math.max(1, Math.round(image.getWidth() * (float) height / image.getHeight()));
+                strips[i] = strip(configuration, image, periods[i], height, (Math.ceilDiv(width, periods[i]) + 1) * periods[i]);
+            }
+        }
+        preparedLayers = layers;
+        preparedWidth = width;
+        preparedHeight = height;
+        preparedConfiguration = configuration;
+        preparations++;
+    }
+
+    /**
+     * Creates a compatible strip repeating a scaled image.
+     *
+     * @param configuration The configuration of the destination.
+     * @param image         The layer image.
+     * @param period        The width of one repetition.
+     * @param height        The height of the strip.
+     * @param width         The width of the strip, a multiple of {@code period}.
+     * @return The strip.
+     */
+    private static BufferedImage strip(GraphicsConfiguration configuration, BufferedImage image, int period, int height, int width) {
+        final BufferedImage strip = configuration.createCompatibleImage(Math.max(1, width), Math.max(1, height),
+                ScaledTextureCache.transparencyOf(image));
+        final Graphics2D g = strip.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            for (int x = 0; x < width; x += period) {
+                g.drawImage(image, x, 0, period, height, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return strip;
+    }
+
+    /**
+     * Returns the width of one repetition of a layer on the screen, as prepared for the last frame.
+     *
+     * @param layer The layer index.
+     * @return The period in pixels; the screen width for the static base layer.
+     */
+    public int getPeriod(int layer) {
+        return periods[layer];
+    }
+
+    /**
+     * Returns how often the strips were prepared, which should only happen on level, screen or display changes.
+     *
+     * @return The number of preparations.
+     */
+    public int getPreparations() {
+        return preparations;
+    }
+}
@@ -5,8 +5,18 @@ import org.example.realengine.entity.Entity;
 /**
  * Represents the game camera, responsible for controlling the viewable area of the game world.
  * It can follow a target entity and ensures the view stays within the world boundaries.
+ * <p>The camera can zoom between {@link #MIN_ZOOM} and {@link #MAX_ZOOM}: at zoom {@code z} one world pixel covers
+ * {@code z} screen pixels, so the view spans {@link #getViewWidth()} by {@link #getViewHeight()} world pixels.</p>
  */
 public class Camera {
+    /**
+     * The smallest zoom factor, showing four times as much of the world in each direction.
+     */
+    public static final float MIN_ZOOM = 0.25f;
+    /**
+     * The largest zoom factor.
+     */
+    public static final float MAX_ZOOM = 4;
     /**
      * The width of the screen or viewport in pixels.
      */
@@ -31,6 +41,14 @@ public class Camera {
      * The current Y-coordinate of the top-left corner of the camera's view in world coordinates.
      */
     private float y;
+    /**
+     * The X-coordinate of the camera before the last {@link #update()}, used for render interpolation.
+     */
+    private float prevX;
+    /**
+     * The Y-coordinate of the camera before the last {@link #update()}, used for render interpolation.
+     */
+    private float prevY;
     /**
      * The entity that the camera is currently following. If null, the camera does not follow any entity.
      */
@@ -43,6 +61,15 @@ public class Camera {
      * The vertical offset from the target's center to the camera's center. Used for fine-tuning target positioning.
      */
     private float followOffsetY = 0;
+    /**
+     * The zoom factor requested by {@link #setZoom(float)}, applied on the next {@link #update()}.
+     * Written by the event dispatch thread and read by the game thread.
+     */
+    private volatile float requestedZoom = 1;
+    /**
+     * The zoom factor the current position was computed with.
+     */
+    private float zoom = 1;
 
     /**
      * Constructs a new Camera instance.
@@ -102,20 +129,84 @@ public class Camera {
     }
 
 
+    /**
+     * Places the camera's top-left corner at a world position, e.g. for rendering a fixed view of a map.
+     * The position is not clamped to the world, and rendering does not interpolate from the previous position.
+     *
+     * @param x The X-coordinate of the top-left corner in world coordinates.
+     * @param y The Y-coordinate of the top-left corner in world coordinates.
+     */
+    public void moveTo(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Requests a zoom factor, clamped to {@link #MIN_ZOOM} and {@link #MAX_ZOOM}. It takes effect on the next
+     * {@link #update()}, so the position and the zoom of a captured camera always belong together.
+     *
+     * @param zoom The zoom factor, 1 for one screen pixel per world pixel.
+     */
+    public void setZoom(float zoom) {
+        this.requestedZoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    /**
+     * Returns the zoom factor requested last, which may not have been applied yet.
+     *
+     * @return The requested zoom factor.
+     */
+    public float getRequestedZoom() {
+        return requestedZoom;
+    }
+
     /**
      * Updates the camera's position. If following a target, centers the view
      * on the target, adjusted by the offset. Clamps position to world bounds.
+     * <p>The requested zoom is applied first. The follow offsets are in screen pixels, so the target keeps its
+     * place on the screen at every zoom.</p>
+     * <p>The previous position is kept for render interpolation. If the camera jumps by more than half
+     * a screen in a single update (respawn, teleport), interpolation is skipped for that step.</p>
      */
     public void update() {
+        prevX = x;
+        prevY = y;
+        zoom = requestedZoom;
         if (target != null) {
             float targetCenterX = target.getX() + target.getWidth() / 2.0f;
             float targetCenterY = target.getY() + target.getHeight() / 2.0f;
-            float desiredX = targetCenterX - (screenWidth / 2.0f) + followOffsetX;
-            float desiredY = targetCenterY - (screenHeight / 2.0f) + followOffsetY;
+            float desiredX = targetCenterX - (getViewWidth() / 2.0f) + followOffsetX / zoom;
+            float desiredY = targetCenterY - (getViewHeight() / 2.0f) + followOffsetY / zoom;
             this.x = desiredX;
             this.y = desiredY;
         }
         clampCamera();
+        if (Math.abs(x - prevX) > getViewWidth() / 2.0f || Math.abs(y - prevY) > getViewHeight() / 2.0f) {
+            prevX = x;
+            prevY = y;
+        }
+    }
+
+    /**
+     * Returns the X-coordinate to render at, interpolated between the previous and current update.
+     *
+     * @param alpha The fraction of a tick elapsed since the last simulation step, in {@code [0, 1]}.
+     * @return The interpolated X-coordinate of the camera.
+     */
+    public float getRenderX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Returns the Y-coordinate to render at, interpolated between the previous and current update.
+     *
+     * @param alpha The fraction of a tick elapsed since the last simulation step, in {@code [0, 1]}.
+     * @return The interpolated Y-coordinate of the camera.
+     */
+    public float getRenderY(float alpha) {
+        return prevY + (y - prevY) * alpha;
     }
 
     /**
@@ -154,6 +245,33 @@ public class Camera {
         return screenHeight;
     }
 
+    /**
+     * Returns the zoom factor the current position was computed with.
+     *
+     * @return The zoom factor, 1 for one screen pixel per world pixel.
+     */
+    public float getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Returns the width of the part of the world the camera shows, which is the screen width divided by the zoom.
+     *
+     * @return The view width in world pixels.
+     */
+    public float getViewWidth() {
+        return screenWidth / zoom;
+    }
+
+    /**
+     * Returns the height of the part of the world the camera shows, which is the screen height divided by the zoom.
+     *
+     * @return The view height in world pixels.
+     */
+    public float getViewHeight() {
+        return screenHeight / zoom;
+    }
+
     /**
      * Updates the camera's knowledge of the world's dimensions.
      * Ensures the camera doesn't scroll beyond the new boundaries.
@@ -173,15 +291,17 @@ public class Camera {
      * This prevents the camera from showing areas outside the defined world dimensions.
      */
     private void clampCamera() {
-        if (worldWidth > screenWidth) {
-            x = Math.max(0, Math.min(x, worldWidth - screenWidth));
+        final float viewWidth = getViewWidth();
+        final float viewHeight = getViewHeight();
+        if (worldWidth > viewWidth) {
+            x = Math.max(0, Math.min(x, worldWidth - viewWidth));
         } else {
-            x = (worldWidth - screenWidth) / 2.0f;
+            x = (worldWidth - viewWidth) / 2.0f;
         }
-        if (worldHeight > screenHeight) {
-            y = Math.max(0, Math.min(y, worldHeight - screenHeight));
+        if (worldHeight > viewHeight) {
+            y = Math.max(0, Math.min(y, worldHeight - viewHeight));
         } else {
-            y = (worldHeight - screenHeight) / 2.0f;
+            y = (worldHeight - viewHeight) / 2.0f;
         }
     }
 }
\ No newline at end of file
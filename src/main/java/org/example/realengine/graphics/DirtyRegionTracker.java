@@ -0,0 +1,355 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Finds the parts of the screen that have to be redrawn while the camera does not move.</p>
+ * <p>A frontend that keeps the previous frame in a retained image calls {@link #begin(RenderSnapshot, boolean)}
+ * once per frame. As long as the camera offset, the screen size, the map and whatever else the caller
+ * passes as {@code invalidate} stay the same and the camera is not zoomed, only these rectangles are collected:</p>
+ * <ul>
+ *     <li>the old and new screen bounds of every entity that moved or changed its texture,</li>
+ *     <li>every visible tile whose collision map cell or a neighbouring cell changed, since that changes
+ *     its {@link AutoTileSet} variant,</li>
+ *     <li>anything {@link #add(Rectangle) added} by the caller, e.g. repainted HUD widgets.</li>
+ * </ul>
+ * <p>Overlapping rectangles are merged. Otherwise, or when there are more than {@link #MAX_REGIONS},
+ * the whole screen is redrawn. {@link #getRedrawnFraction()} reports the share of pixels redrawn in the last frame.</p>
+ * <p>Collecting allocates nothing once the entity arrays have grown. The tracker must only be used by the drawing thread.</p>
+ */
+public final class DirtyRegionTracker {
+    /**
+     * The number of separate rectangles above which the whole screen is redrawn instead.
+     */
+    public static final int MAX_REGIONS = 32;
+    /**
+     * Initial capacity of the entity arrays.
+     */
+    private static final int INITIAL_ENTITIES = 64;
+    /**
+     * The collected rectangles; only the first {@link #regionCount} are in use.
+     */
+    private final Rectangle[] regions = new Rectangle[MAX_REGIONS];
+    /**
+     * The number of collected rectangles.
+     */
+    private int regionCount;
+    /**
+     * Whether the whole screen has to be redrawn this frame.
+     */
+    private boolean full = true;
+    /**
+     * The camera position of the last frame.
+     */
+    private float cameraX = Float.NaN, cameraY = Float.NaN;
+    /**
+     * The screen size of the last frame.
+     */
+    private int screenWidth, screenHeight;
+    /**
+     * The map of the last frame.
+     */
+    private RMap map;
+    /**
+     * The collision map generation of the last frame.
+     */
+    private long generation;
+    /**
+     * The visible cells as drawn in the last frame.
+     */
+    private EObject[][] drawnTiles;
+    /**
+     * The screen bounds, textures and ground flags of the entities of the last and the current frame.
+     */
+    private int[] lastX = new int[INITIAL_ENTITIES], lastY = new int[INITIAL_ENTITIES],
+            lastWidth = new int[INITIAL_ENTITIES], lastHeight = new int[INITIAL_ENTITIES],
+            currentX = new int[INITIAL_ENTITIES], currentY = new int[INITIAL_ENTITIES],
+            currentWidth = new int[INITIAL_ENTITIES], currentHeight = new int[INITIAL_ENTITIES];
+    /**
+     * The textures of the entities of the last and the current frame.
+     */
+    private BufferedImage[] lastTexture = new BufferedImage[INITIAL_ENTITIES], currentTexture = new BufferedImage[INITIAL_ENTITIES];
+    /**
+     * The ground flags of the entities of the last and the current frame.
+     */
+    private boolean[] lastOnGround = new boolean[INITIAL_ENTITIES], currentOnGround = new boolean[INITIAL_ENTITIES];
+    /**
+     * Marks entities of the last frame matched by an unchanged entity of the current frame.
+     */
+    private boolean[] matched = new boolean[INITIAL_ENTITIES];
+    /**
+     * The number of entities of the last frame.
+     */
+    private int lastCount;
+    /**
+     * The share of pixels redrawn in the last frame, between 0 and 1.
+     */
+    private volatile double redrawnFraction = 1;
+
+    /**
+     * Constructs a new {@code DirtyRegionTracker}.
+     */
+    public DirtyRegionTracker() {
+        for (int i = 0; i < MAX_REGIONS; i++) {
+            regions[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Starts a frame: decides whether the whole screen has to be redrawn and otherwise collects the rectangles
+     * of moved entities and changed tiles. Further rectangles can be added until {@link #end()}.
+     *
+     * @param snapshot   The captured game state to draw.
+     * @param invalidate If true, the whole screen is redrawn, e.g. because the quality level changed.
+     * @return {@code true} if the whole screen has to be redrawn.
+     */
+    public boolean begin(RenderSnapshot snapshot, boolean invalidate) {
+        regionCount = 0;
+        full = invalidate || snapshot.getMap() != map || snapshot.getTileGeneration() != generation
+                || snapshot.getCameraX() != cameraX || snapshot.getCameraY() != cameraY
+                || snapshot.getScreenWidth() != screenWidth || snapshot.getScreenHeight() != screenHeight
+                || snapshot.getZoom() != 1;
+        map = snapshot.getMap();
+        generation = snapshot.getTileGeneration();
+        cameraX = snapshot.getCameraX();
+        cameraY = snapshot.getCameraY();
+        screenWidth = snapshot.getScreenWidth();
+        screenHeight = snapshot.getScreenHeight();
+        collectTiles(snapshot);
+        collectEntities(snapshot);
+        return full;
+    }
+
+    /**
+     * Adds a rectangle to redraw, merging it with the rectangles it overlaps.
+     * Switches to a full redraw when there are too many separate rectangles.
+     *
+     * @param rectangle The rectangle in screen coordinates.
+     */
+    public void add(Rectangle rectangle) {
+        add(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+    }
+
+    /**
+     * Adds a rectangle to redraw, merging it with the rectangles it overlaps.
+     * Switches to a full redraw when there are too many separate rectangles.
+     *
+     * @param x      The X-coordinate of the rectangle on the screen.
+     * @param y      The Y-coordinate of the rectangle on the screen.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     */
+    public void add(int x, int y, int width, int height) {
+        if (full) {
+            return;
+        }
+        int left = Math.max(0, x);
+        int top = Math.max(0, y);
+        int right = Math.min(screenWidth, x + width);
+        int bottom = Math.min(screenHeight, y + height);
+        if (right <= left || bottom <= top) {
+            return;
+        }
+        for (int i = 0; i < regionCount; i++) {
+            final Rectangle region = regions[i];
+            if (region.x < right && left < region.x + region.width && region.y < bottom && top < region.y + region.height) {
+                left = Math.min(left, region.x);
+                top = Math.min(top, region.y);
+                right = Math.max(right, region.x + region.width);
+                bottom = Math.max(bottom, region.y + region.height);
+                regions[i] = regions[--regionCount];
+                regions[regionCount] = region;
+                i = -1;
+            }
+        }
+        if (regionCount == MAX_REGIONS) {
+            full = true;
+            return;
+        }
+        regions[regionCount++].setBounds(left, top, right - left, bottom - top);
+    }
+
+    /**
+     * Ends the frame and computes the share of pixels redrawn.
+     */
+    public void end() {
+        if (full || screenWidth <= 0 || screenHeight <= 0) {
+            redrawnFraction = 1;
+            return;
+        }
+        long area = 0;
+        for (int i = 0; i < regionCount; i++) {
+            area += (long) regions[i].width * regions[i].height;
+        }
+        redrawnFraction = (double) area / ((long) screenWidth * screenHeight);
+    }
+
+    /**
+     * Returns whether the whole screen has to be redrawn this frame.
+     *
+     * @return {@code true} for a full redraw.
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Returns the number of rectangles to redraw. Only meaningful if {@link #isFull()} is false.
+     *
+     * @return The number of rectangles.
+     */
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * Returns a rectangle to redraw. The rectangle is reused in the next frame.
+     *
+     * @param index The index, below {@link #getRegionCount()}.
+     * @return The rectangle in screen coordinates.
+     */
+    public Rectangle getRegion(int index) {
+        return regions[index];
+    }
+
+    /**
+     * Returns the share of pixels redrawn in the last frame.
+     *
+     * @return The fraction between 0 and 1.
+     */
+    public double getRedrawnFraction() {
+        return redrawnFraction;
+    }
+
+    /**
+     * Compares the visible cells and the cells around them with the ones drawn in the last frame, adds every changed
+     * one together with its neighbours and remembers the current ones.
+     *
+     * @param snapshot The captured game state.
+     */
+    private void collectTiles(RenderSnapshot snapshot) {
+        final EObject[][] tiles = snapshot.getTiles();
+        if (tiles == null) {
+            return;
+        }
+        if (drawnTiles == null || drawnTiles.length != tiles.length || drawnTiles[0].length != tiles[0].length) {
+            drawnTiles = new EObject[tiles.length][tiles[0].length];
+            full = true;
+        }
+        final int startX = Math.max(0, (int) (cameraX / TILE_SIZE) - 1);
+        final int startY = Math.max(0, (int) (cameraY / TILE_SIZE) - 1);
+        final int endX = Math.min(tiles.length, (int) ((cameraX + screenWidth) / TILE_SIZE) + 2);
+        final int endY = Math.min(tiles[0].length, (int) ((cameraY + screenHeight) / TILE_SIZE) + 2);
+        for (int x = startX; x < endX; x++) {
+            for (int y = startY; y < endY; y++) {
+                if (tiles[x][y] != drawnTiles[x][y]) {
+                    drawnTiles[x][y] = tiles[x][y];
+                    add((int) Math.floor((x - 1) * TILE_SIZE - cameraX), (int) Math.floor((y - 1) * TILE_SIZE - cameraY),
+                            3 * TILE_SIZE + 1, 3 * TILE_SIZE + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the screen bounds of all entities and adds those of entities that moved, changed or disappeared.
+     *
+     * @param snapshot The captured game state.
+     */
+    private void collectEntities(RenderSnapshot snapshot) {
+        final int count = snapshot.getEntityCount();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            currentX[i] = (int) (snapshot.getEntityX(i) - cameraX);
+            currentY[i] = (int) (snapshot.getEntityY(i) - cameraY);
+            currentWidth[i] = Math.max(TILE_SIZE, snapshot.getEntityWidth(i));
+            currentHeight[i] = Math.max(TILE_SIZE, snapshot.getEntityHeight(i)) + Render.PLAYER_AIR_EXTRA_HEIGHT;
+            currentTexture[i] = snapshot.getEntityTexture(i);
+            currentOnGround[i] = snapshot.isOnGround(i);
+        }
+        if (!full) {
+            for (int j = 0; j < lastCount; j++) {
+                matched[j] = false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (!matchLast(i)) {
+                    add(currentX[i], currentY[i], currentWidth[i], currentHeight[i]);
+                }
+            }
+            for (int j = 0; j < lastCount; j++) {
+                if (!matched[j]) {
+                    add(lastX[j], lastY[j], lastWidth[j], lastHeight[j]);
+                }
+            }
+        }
+        int[] swap = lastX;
+        lastX = currentX;
+        currentX = swap;
+        swap = lastY;
+        lastY = currentY;
+        currentY = swap;
+        swap = lastWidth;
+        lastWidth = currentWidth;
+        currentWidth = swap;
+        swap = lastHeight;
+        lastHeight = currentHeight;
+        currentHeight = swap;
+        final BufferedImage[] textures = lastTexture;
+        lastTexture = currentTexture;
+        currentTexture = textures;
+        final boolean[] grounds = lastOnGround;
+        lastOnGround = currentOnGround;
+        currentOnGround = grounds;
+        lastCount = count;
+    }
+
+    /**
+     * Looks for an unmatched entity of the last frame drawn exactly like the given one of the current frame.
+     *
+     * @param i The index of the entity in the current frame.
+     * @return {@code true} if one was found and marked as matched.
+     */
+    private boolean matchLast(int i) {
+        for (int j = 0; j < lastCount; j++) {
+            if (!matched[j] && lastX[j] == currentX[i] && lastY[j] == currentY[i] && lastWidth[j] == currentWidth[i]
+                    && lastHeight[j] == currentHeight[i] && lastTexture[j] == currentTexture[i]
+                    && lastOnGround[j] == currentOnGround[i]) {
+                matched[j] = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Grows the entity arrays to hold at least the given number of entities, keeping the last frame.
+     *
+     * @param count The required capacity.
+     */
+    private void ensureCapacity(int count) {
+        if (count <= currentX.length) {
+            return;
+        }
+        final int capacity = Math.max(count, currentX.length * 2);
+        currentX = new int[capacity];
+        currentY = new int[capacity];
+        currentWidth = new int[capacity];
+        currentHeight = new int[capacity];
+        currentTexture = new BufferedImage[capacity];
+        currentOnGround = new boolean[capacity];
+        lastX = Arrays.copyOf(lastX, capacity);
+        lastY = Arrays.copyOf(lastY, capacity);
+        lastWidth = Arrays.copyOf(lastWidth, capacity);
+        lastHeight = Arrays.copyOf(lastHeight, capacity);
+        lastTexture = Arrays.copyOf(lastTexture, capacity);
+        lastOnGround = Arrays.copyOf(lastOnGround, capacity);
+        matched = new boolean[capacity];
+    }
+}
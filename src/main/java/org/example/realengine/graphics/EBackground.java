@@ -4,34 +4,37 @@ import org.example.realengine.resource.ResourceManager;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Represents different background images used in the game.
- * Each enum constant corresponds to a specific background image file.
+ * Each enum constant corresponds to a specific background image file, stretched over the screen,
+ * optionally followed by parallax layers that scroll with the camera.
  */
 public enum EBackground {
     /**
      * Represents a grassland background.
      */
-    GRASS_LAND("resources/background/grassland.png"),
+    GRASS_LAND("resources/background/grassland.png", false),
     /**
      * Represents a cave background.
      */
-    CAVE("resources/background/cave.png"),
+    CAVE("resources/background/cave.png", true),
     /**
      * Represents a default background.
      */
-    DEFAULT("resources/background/default.png"),
+    DEFAULT("resources/background/default.png", false),
     /**
      * Represents a lava cave or castle-themed background.
      */
-    LAVA_CAVE("resources/background/castle.png"),
+    LAVA_CAVE("resources/background/castle.png", true),
     /**
      * Represents a night background.
      */
-    NIGHT("resources/background/night.png");
+    NIGHT("resources/background/night.png", false);
 
     /**
      * A static map that associates specific map file paths with their corresponding background types.
@@ -54,19 +57,63 @@ public enum EBackground {
      * The buffered image representing the background texture.
      */
     private final BufferedImage background;
+    /**
+     * All layers from back to front, starting with the static {@link #background}.
+     */
+    private final List<Layer> layers;
+    /**
+     * Whether levels with this background are dark apart from the light of glowing tiles.
+     */
+    private final boolean dark;
 
     /**
      * Constructs an EBackground enum constant by loading the specified background image.
      *
      * @param background The file path to the background image.
+     * @param dark       Whether levels with this background are dark apart from the light of glowing tiles.
+     * @param parallax   Further layers drawn over the background, from back to front, e.g. loaded with
+     *                   {@link Layer#load(String, float)}.
      * @throws RuntimeException If an error occurs during background image loading.
      */
-    EBackground(String background) {
+    EBackground(String background, boolean dark, Layer... parallax) {
         try {
             this.background = ResourceManager.getTexture(background);
         } catch (IOException _) {
             throw new RuntimeException("Error loading background: " + background);
         }
+        final List<Layer> all = new ArrayList<>(parallax.length + 1);
+        all.add(new Layer(this.background, 0));
+        all.addAll(List.of(parallax));
+        this.layers = List.copyOf(all);
+        this.dark = dark;
+    }
+
+    /**
+     * Returns the background of a map. Paths are matched regardless of the separator they were written with.
+     *
+     * @param mapPath The path of the map.
+     * @return The background of the map, or {@link #DEFAULT}.
+     */
+    public static EBackground forMap(String mapPath) {
+        return mapPath == null ? DEFAULT : backgrounds.getOrDefault(mapPath.replace('/', '\\'), DEFAULT);
+    }
+
+    /**
+     * Returns all layers from back to front. The first one is the background image, which does not scroll.
+     *
+     * @return The layers.
+     */
+    public List<Layer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Returns whether levels with this background are dark, so a {@link LightMap} is drawn over them.
+     *
+     * @return {@code true} for caves.
+     */
+    public boolean isDark() {
+        return dark;
     }
 
     /**
@@ -77,4 +124,32 @@ public enum EBackground {
     public BufferedImage getBackground() {
         return background;
     }
+
+    /**
+     * One layer of a background.
+     * <p>A layer with a scroll factor of 0 is stretched over the whole screen. Any other layer is scaled
+     * to the screen height, repeated horizontally and moved by {@code scrollFactor} times the camera's movement,
+     * so factors between 0 and 1 appear further away than the map.</p>
+     *
+     * @param image        The layer image.
+     * @param scrollFactor How fast the layer scrolls relative to the camera.
+     */
+    public record Layer(BufferedImage image, float scrollFactor) {
+        /**
+         * Creates a layer by loading its image. Unlike {@link ResourceManager#getTexture(String)} it throws no
+         * checked exception, so it can be used in the arguments of an {@link EBackground} constant.
+         *
+         * @param path         The file path to the layer image.
+         * @param scrollFactor How fast the layer scrolls relative to the camera.
+         * @return The layer.
+         * @throws RuntimeException If an error occurs during image loading.
+         */
+        public static Layer load(String path, float scrollFactor) {
+            try {
+                return new Layer(ResourceManager.getTexture(path), scrollFactor);
+            } catch (IOException _) {
+                throw new RuntimeException("Error loading background layer: " + path);
+            }
+        }
+    }
 }
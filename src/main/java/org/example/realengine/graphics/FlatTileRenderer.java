@@ -0,0 +1,158 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.ETile;
+import org.example.realengine.object.EObject;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Draws the collision map in solid colors, for the mode without textures.</p>
+ * <p>Colors are resolved through a table indexed by {@link EObject#ordinal()} instead of a map lookup per tile.
+ * Horizontal runs of tiles with the same color are merged into one rectangle, and the rectangles are collected
+ * per color first, so every color is set only once per call no matter how the colors alternate on the screen.</p>
+ * <p>The renderer must only be used by one drawing thread at a time.</p>
+ */
+public final class FlatTileRenderer {
+    /**
+     * The distinct colors of all drawn objects.
+     */
+    private final Color[] palette;
+    /**
+     * The index into {@link #palette} of every object by ordinal, or -1 for objects that are not drawn.
+     */
+    private final int[] colorIndex;
+    /**
+     * The collected rectangles of every color, four values each: x, y, width, height.
+     */
+    private final int[][] rectangles;
+    /**
+     * The number of values used in each array of {@link #rectangles}.
+     */
+    private final int[] counts;
+
+    /**
+     * Constructs a new {@code FlatTileRenderer}.
+     *
+     * @param tiles The tile of every object, whose color it is drawn in. Objects without a tile,
+     *              {@link EObject#EMPTY} and the spawn points are not drawn.
+     */
+    public FlatTileRenderer(Map<EObject, ETile> tiles) {
+        final List<Color> colors = new ArrayList<>();
+        colorIndex = new int[EObject.values().length];
+        Arrays.fill(colorIndex, -1);
+        for (final EObject object : EObject.values()) {
+            final ETile tile = tiles.get(object);
+            if (tile == null || object == EObject.EMPTY || object == EObject.PLAYER_SPAWN || object == EObject.ENEMY_SPAWN) {
+                continue;
+            }
+            int index = colors.indexOf(tile.getColor());
+            if (index < 0) {
+                index = colors.size();
+                colors.add(tile.getColor());
+            }
+            colorIndex[object.ordinal()] = index;
+        }
+        palette = colors.toArray(new Color[0]);
+        rectangles = new int[palette.length][64];
+        counts = new int[palette.length];
+    }
+
+    /**
+     * Draws a rectangle of tiles of a collision map.
+     * <p>At zoom 1 every tile starts at its map position minus the origin, truncated, and is {@code TILE_SIZE}
+     * wide, exactly as textured tiles are placed. At other zooms the edges of every tile are rounded down
+     * separately, so neighbouring tiles never leave gaps.</p>
+     *
+     * @param g            The graphics context.
+     * @param collisionMap The collision map, indexed {@code [x][y]}.
+     * @param fromX        The first tile column, inclusive.
+     * @param fromY        The first tile row, inclusive.
+     * @param toX          The last tile column, exclusive.
+     * @param toY          The last tile row, exclusive.
+     * @param originX      The map X-coordinate drawn at the left edge.
+     * @param originY      The map Y-coordinate drawn at the top edge.
+     * @param zoom         The number of screen pixels per map pixel.
+     */
+    public void paint(Graphics g, EObject[][] collisionMap, int fromX, int fromY, int toX, int toY,
+                      float originX, float originY, float zoom) {
+        Arrays.fill(counts, 0);
+        for (int y = fromY; y < toY; y++) {
+            final int top = edge(y, originY, zoom);
+            final int bottom = zoom == 1 ? top + TILE_SIZE : edge(y + 1, originY, zoom);
+            int x = fromX;
+            while (x < toX) {
+                final int color = colorOf(collisionMap[x][y]);
+                final int start = x;
+                x++;
+                while (x < toX && colorOf(collisionMap[x][y]) == color) {
+                    x++;
+                }
+                if (color >= 0) {
+                    final int left = edge(start, originX, zoom);
+                    final int right = zoom == 1 ? edge(x - 1, originX, zoom) + TILE_SIZE : edge(x, originX, zoom);
+                    add(color, left, top, right - left, bottom - top);
+                }
+            }
+        }
+        for (int color = 0; color < palette.length; color++) {
+            if (counts[color] == 0) {
+                continue;
+            }
+            g.setColor(palette[color]);
+            final int[] values = rectangles[color];
+            for (int i = 0; i < counts[color]; i += 4) {
+                g.fillRect(values[i], values[i + 1], values[i + 2], values[i + 3]);
+            }
+        }
+    }
+
+    /**
+     * Returns the palette index of an object.
+     *
+     * @param object The object, may be {@code null}.
+     * @return The palette index, or -1 if the object is not drawn.
+     */
+    private int colorOf(EObject object) {
+        return object == null ? -1 : colorIndex[object.ordinal()];
+    }
+
+    /**
+     * Returns the screen coordinate of a tile edge.
+     *
+     * @param tile   The tile index.
+     * @param origin The map coordinate drawn at the screen edge.
+     * @param zoom   The number of screen pixels per map pixel.
+     * @return The screen coordinate.
+     */
+    private static int edge(int tile, float origin, float zoom) {
+        return zoom == 1 ? (int) (tile * TILE_SIZE - origin) : (int) Math.floor((tile * TILE_SIZE - origin) * zoom);
+    }
+
+    /**
+     * Collects a rectangle of a color.
+     *
+     * @param color  The palette index.
+     * @param x      The X-coordinate.
+     * @param y      The Y-coordinate.
+     * @param width  The width.
+     * @param height The height.
+     */
+    private void add(int color, int x, int y, int width, int height) {
+        int[] values = rectangles[color];
+        final int count = counts[color];
+        if (count + 4 > values.length) {
+            values = rectangles[color] = Arrays.copyOf(values, values.length * 2);
+        }
+        values[count] = x;
+        values[count + 1] = y;
+        values[count + 2] = width;
+        values[count + 3] = height;
+        counts[color] = count + 4;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.realengine.graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * A {@link RenderSurface} drawing into a {@link BufferedImage}, which works without a display.
+ *
+ * @param image The image drawn into.
+ */
+public record ImageSurface(BufferedImage image) implements RenderSurface {
+    /**
+     * Returns the width of the image.
+     *
+     * @return The width in pixels.
+     */
+    @Override
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    /**
+     * Returns the height of the image.
+     *
+     * @return The height in pixels.
+     */
+    @Override
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    /**
+     * Creates a graphics context drawing into the image.
+     *
+     * @return The new graphics context.
+     */
+    @Override
+    public Graphics2D createGraphics() {
+        return image.createGraphics();
+    }
+}
@@ -0,0 +1,408 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>The light level of every tile of a {@link EBackground#isDark() dark} map, spread from glowing tiles such as
+ * lava, checkpoints, teleports and the end of the level.</p>
+ * <p>The light is computed with a flood fill over the collision map: an emitter starts at its own level and every
+ * step to a neighbouring cell loses one level. Solid cells are lit but stop the light. The whole map is lit when a
+ * new map or collision map generation is first drawn. Afterwards only chunks whose
+ * {@link RenderSnapshot#getChunkStamp(int, int) stamp} changed are re-lit, together with the cells within
+ * {@link #MAX_LIGHT} of them, which are the only ones a changed cell can affect. The fill is seeded with the
+ * unchanged light just outside that area.</p>
+ * <p>Every chunk has a light stamp that changes only when one of its light levels changed, so a
+ * {@link TileChunkCache} can keep one baked darkness overlay per chunk, drawn by
+ * {@link #paint(Graphics, RenderSnapshot, int, int, int, int, float, float, boolean)}.</p>
+ * <p>The light map must only be used by one drawing thread at a time.</p>
+ */
+public final class LightMap {
+    /**
+     * The brightest light level, which is fully lit.
+     */
+    public static final int MAX_LIGHT = 10;
+    /**
+     * The alpha of the darkness over unlit tiles.
+     */
+    private static final int DARKNESS = 215;
+    /**
+     * The ARGB color of the darkness over a tile of every light level.
+     */
+    private static final int[] SHADES = new int[MAX_LIGHT + 1];
+
+    static {
+        for (int level = 0; level <= MAX_LIGHT; level++) {
+            SHADES[level] = (DARKNESS * (MAX_LIGHT - level) / MAX_LIGHT) << 24;
+        }
+    }
+
+    /**
+     * The light level of every cell, row by row, or {@code null} if no map has been lit.
+     */
+    private byte[] light;
+    /**
+     * The map that is lit.
+     */
+    private RMap map;
+    /**
+     * Whether {@link #map} is dark, i.e. whether it is lit at all.
+     */
+    private boolean dark;
+    /**
+     * The collision map generation that is lit.
+     */
+    private long generation;
+    /**
+     * The size of {@link #map} in tiles.
+     */
+    private int width, height;
+    /**
+     * The number of chunk columns and rows of {@link #map}.
+     */
+    private int chunkColumns, chunkRows;
+    /**
+     * The snapshot stamp of every chunk when it was last lit.
+     */
+    private long[] tileStamps;
+    /**
+     * The light stamp of every chunk.
+     */
+    private long[] lightStamps;
+    /**
+     * The source of new light stamps.
+     */
+    private long version;
+    /**
+     * The chunks whose light changed in the last {@link #update(RenderSnapshot)}, {@link #changedCount} of them.
+     */
+    private int[] changedChunks = new int[0];
+    /**
+     * The number of entries used in {@link #changedChunks}.
+     */
+    private int changedCount;
+    /**
+     * Marks the chunks already listed in {@link #changedChunks}.
+     */
+    private boolean[] changedFlags = new boolean[0];
+    /**
+     * The cells waiting to spread their light, one list per light level.
+     */
+    private final int[][] queues = new int[MAX_LIGHT + 1][64];
+    /**
+     * The number of entries used in each list of {@link #queues}.
+     */
+    private final int[] queueSizes = new int[MAX_LIGHT + 1];
+    /**
+     * The darkness of one chunk with a border of one tile, one pixel per tile, scaled up when it is baked.
+     */
+    private final BufferedImage shade = new BufferedImage(TileChunkCache.CHUNK_SIZE + 2, TileChunkCache.CHUNK_SIZE + 2,
+            BufferedImage.TYPE_INT_ARGB);
+    /**
+     * The pixels of {@link #shade}.
+     */
+    private final int[] shadePixels = ((DataBufferInt) shade.getRaster().getDataBuffer()).getData();
+    /**
+     * The number of cells lit since the map was first lit, for diagnostics.
+     */
+    private long litCells;
+
+    /**
+     * Brings the light up to date with a snapshot: lights a new map or collision map generation completely,
+     * otherwise re-lights the surroundings of every changed chunk. Calling it again with the same state does nothing.
+     *
+     * @param snapshot The captured game state.
+     * @return {@code true} if the map is dark and has a light map.
+     */
+    public boolean update(RenderSnapshot snapshot) {
+        changedCount = 0;
+        final RMap source = snapshot.getMap();
+        if (source != map) {
+            map = source;
+            dark = source != null && EBackground.forMap(source.getPath()).isDark();
+            light = null;
+        }
+        final EObject[][] tiles = snapshot.getTiles();
+        if (!dark || tiles == null) {
+            return false;
+        }
+        if (light == null || snapshot.getTileGeneration() != generation) {
+            generation = snapshot.getTileGeneration();
+            width = source.getWidth();
+            height = source.getHeight();
+            chunkColumns = Math.ceilDiv(width, TileChunkCache.CHUNK_SIZE);
+            chunkRows = Math.ceilDiv(height, TileChunkCache.CHUNK_SIZE);
+            light = new byte[width * height];
+            tileStamps = new long[chunkColumns * chunkRows];
+            lightStamps = new long[tileStamps.length];
+            changedChunks = new int[tileStamps.length];
+            changedFlags = new boolean[tileStamps.length];
+            for (int i = 0; i < tileStamps.length; i++) {
+                tileStamps[i] = snapshot.getChunkStamp(i % chunkColumns, i / chunkColumns);
+            }
+            litCells = 0;
+            relight(tiles, 0, 0, width, height);
+            Arrays.fill(lightStamps, ++version);
+            changedCount = 0;
+            Arrays.fill(changedFlags, false);
+            return true;
+        }
+        for (int i = 0; i < tileStamps.length; i++) {
+            final long stamp = snapshot.getChunkStamp(i % chunkColumns, i / chunkColumns);
+            if (stamp != tileStamps[i]) {
+                tileStamps[i] = stamp;
+                final int fromX = (i % chunkColumns) * TileChunkCache.CHUNK_SIZE;
+                final int fromY = (i / chunkColumns) * TileChunkCache.CHUNK_SIZE;
+                relight(tiles, Math.max(0, fromX - MAX_LIGHT), Math.max(0, fromY - MAX_LIGHT),
+                        Math.min(width, fromX + TileChunkCache.CHUNK_SIZE + MAX_LIGHT),
+                        Math.min(height, fromY + TileChunkCache.CHUNK_SIZE + MAX_LIGHT));
+            }
+        }
+        for (int i = 0; i < changedCount; i++) {
+            changedFlags[changedChunks[i]] = false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the light stamp of a chunk, which changes whenever one of its light levels changes.
+     *
+     * @param chunkX The chunk column.
+     * @param chunkY The chunk row.
+     * @return The stamp.
+     */
+    public long getStamp(int chunkX, int chunkY) {
+        return lightStamps == null ? 0 : lightStamps[chunkY * chunkColumns + chunkX];
+    }
+
+    /**
+     * Returns the light level of a cell.
+     *
+     * @param x The cell column.
+     * @param y The cell row.
+     * @return The level between 0 and {@link #MAX_LIGHT}, 0 if the map is not lit.
+     */
+    public int getLight(int x, int y) {
+        return light == null ? 0 : light[y * width + x];
+    }
+
+    /**
+     * Returns the number of chunks whose light changed in the last {@link #update(RenderSnapshot)},
+     * not counting a complete re-light.
+     *
+     * @return The number of changed chunks.
+     */
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    /**
+     * Stores the area of the screen covered by a chunk whose light changed in the last update.
+     *
+     * @param i        The index of the changed chunk, below {@link #getChangedCount()}.
+     * @param snapshot The captured game state, for the camera position.
+     * @param out      Receives the area in screen coordinates.
+     */
+    public void getChangedArea(int i, RenderSnapshot snapshot, Rectangle out) {
+        final int chunk = changedChunks[i];
+        final int size = TileChunkCache.CHUNK_SIZE * TILE_SIZE;
+        out.setBounds((int) Math.floor((chunk % chunkColumns) * size - snapshot.getCameraX()),
+                (int) Math.floor((chunk / chunkColumns) * size - snapshot.getCameraY()), size, size);
+    }
+
+    /**
+     * Returns how many cells were lit since the map was first lit, including the first complete fill.
+     *
+     * @return The number of lit cells.
+     */
+    public long getLitCells() {
+        return litCells;
+    }
+
+    /**
+     * Draws the darkness over a rectangle of tiles as a chunk painter of a {@link TileChunkCache}.
+     * The light levels of the tiles and of the tiles around them are scaled up with bilinear interpolation,
+     * so the light fades smoothly and seamlessly across tile and chunk edges.
+     *
+     * @param g        The graphics context of the chunk image.
+     * @param snapshot The captured game state.
+     * @param fromX    The first tile column, inclusive.
+     * @param fromY    The first tile row, inclusive.
+     * @param toX      The last tile column, exclusive.
+     * @param toY      The last tile row, exclusive.
+     * @param originX  The map X-coordinate drawn at the left edge.
+     * @param originY  The map Y-coordinate drawn at the top edge.
+     * @param textured Ignored; the darkness does not depend on textures.
+     */
+    public void paint(Graphics g, RenderSnapshot snapshot, int fromX, int fromY, int toX, int toY,
+                      float originX, float originY, boolean textured) {
+        if (light == null) {
+            return;
+        }
+        final int stride = shade.getWidth();
+        for (int y = 0; y < stride; y++) {
+            final int mapY = Math.clamp(fromY - 1 + y, 0, height - 1);
+            for (int x = 0; x < stride; x++) {
+                final int mapX = Math.clamp(fromX - 1 + x, 0, width - 1);
+                shadePixels[y * stride + x] = SHADES[light[mapY * width + mapX]];
+            }
+        }
+        final Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.clipRect((int) (fromX * TILE_SIZE - originX), (int) (fromY * TILE_SIZE - originY),
+                    (toX - fromX) * TILE_SIZE, (toY - fromY) * TILE_SIZE);
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(shade, (int) ((fromX - 1) * TILE_SIZE - originX), (int) ((fromY - 1) * TILE_SIZE - originY),
+                    stride * TILE_SIZE, stride * TILE_SIZE, null);
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Recomputes the light of a rectangle of cells. The fill starts from the emitters inside the rectangle and
+     * from the light of the cells around it, which the change cannot have affected.
+     *
+     * @param tiles The captured collision map.
+     * @param fromX The first column, inclusive.
+     * @param fromY The first row, inclusive.
+     * @param toX   The last column, exclusive.
+     * @param toY   The last row, exclusive.
+     */
+    private void relight(EObject[][] tiles, int fromX, int fromY, int toX, int toY) {
+        final int areaWidth = toX - fromX;
+        final byte[] before = new byte[areaWidth * (toY - fromY)];
+        for (int y = fromY; y < toY; y++) {
+            System.arraycopy(light, y * width + fromX, before, (y - fromY) * areaWidth, areaWidth);
+            Arrays.fill(light, y * width + fromX, y * width + toX, (byte) 0);
+        }
+        Arrays.fill(queueSizes, 0);
+        for (int y = fromY; y < toY; y++) {
+            for (int x = fromX; x < toX; x++) {
+                final int level = emission(tiles[x][y]);
+                if (level > 0) {
+                    raise(x, y, level);
+                }
+            }
+        }
+        for (int x = fromX; x < toX; x++) {
+            spreadInto(tiles, x, fromY - 1, x, fromY);
+            spreadInto(tiles, x, toY, x, toY - 1);
+        }
+        for (int y = fromY; y < toY; y++) {
+            spreadInto(tiles, fromX - 1, y, fromX, y);
+            spreadInto(tiles, toX, y, toX - 1, y);
+        }
+        for (int level = MAX_LIGHT; level > 1; level--) {
+            final int[] queue = queues[level];
+            for (int i = 0; i < queueSizes[level]; i++) {
+                final int cell = queue[i];
+                final int x = cell % width;
+                final int y = cell / width;
+                if (light[cell] != level || isOpaque(tiles[x][y])) {
+                    continue;
+                }
+                if (x > fromX) raise(x - 1, y, level - 1);
+                if (x < toX - 1) raise(x + 1, y, level - 1);
+                if (y > fromY) raise(x, y - 1, level - 1);
+                if (y < toY - 1) raise(x, y + 1, level - 1);
+            }
+        }
+        litCells += before.length;
+        for (int y = fromY; y < toY; y++) {
+            for (int x = fromX; x < toX; x++) {
+                if (light[y * width + x] != before[(y - fromY) * areaWidth + (x - fromX)]) {
+                    markChanged((y / TileChunkCache.CHUNK_SIZE) * chunkColumns + x / TileChunkCache.CHUNK_SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lets the light of a cell outside the re-lit rectangle spread into its neighbour inside it.
+     *
+     * @param tiles The captured collision map.
+     * @param x     The column of the outside cell.
+     * @param y     The row of the outside cell.
+     * @param toX   The column of the inside neighbour.
+     * @param toY   The row of the inside neighbour.
+     */
+    private void spreadInto(EObject[][] tiles, int x, int y, int toX, int toY) {
+        if (x < 0 || y < 0 || x >= width || y >= height || isOpaque(tiles[x][y])) {
+            return;
+        }
+        final int level = light[y * width + x] - 1;
+        if (level > 0) {
+            raise(toX, toY, level);
+        }
+    }
+
+    /**
+     * Raises the light of a cell to a level and queues it to spread, unless it is already as bright.
+     *
+     * @param x     The cell column.
+     * @param y     The cell row.
+     * @param level The new light level.
+     */
+    private void raise(int x, int y, int level) {
+        final int cell = y * width + x;
+        if (light[cell] >= level) {
+            return;
+        }
+        light[cell] = (byte) level;
+        int[] queue = queues[level];
+        if (queueSizes[level] == queue.length) {
+            queue = queues[level] = Arrays.copyOf(queue, queue.length * 2);
+        }
+        queue[queueSizes[level]++] = cell;
+    }
+
+    /**
+     * Gives a chunk a new light stamp and lists it as changed, once per update.
+     *
+     * @param chunk The chunk index.
+     */
+    private void markChanged(int chunk) {
+        lightStamps[chunk] = ++version;
+        if (!changedFlags[chunk]) {
+            changedFlags[chunk] = true;
+            changedChunks[changedCount++] = chunk;
+        }
+    }
+
+    /**
+     * Returns whether light stops at an object.
+     *
+     * @param object The object, may be {@code null}.
+     * @return {@code true} for solid objects.
+     */
+    private static boolean isOpaque(EObject object) {
+        return object != null && object.isSolid();
+    }
+
+    /**
+     * Returns the light level an object emits.
+     *
+     * @param object The object, may be {@code null}.
+     * @return The level, 0 for objects that do not glow.
+     */
+    private static int emission(EObject object) {
+        if (object == null) {
+            return 0;
+        }
+        return switch (object) {
+            case HAZARD_LIQUID -> MAX_LIGHT;
+            case END -> 8;
+            case CHECKPOINT -> 7;
+            case TELEPORT_BLUE, TELEPORT_RED, TELEPORT_PURPLE -> 6;
+            default -> 0;
+        };
+    }
+}
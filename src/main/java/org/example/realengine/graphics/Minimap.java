@@ -0,0 +1,235 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.ETile;
+import org.example.realengine.map.MapElementManager;
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Map;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>A small overview of the whole map, anchored to the top-right corner of the screen: one pixel per tile in the
+ * tile's color, with the camera's view as a rectangle and every entity as a dot.</p>
+ * <p>The tile pixels live in an image backed directly by a {@code width * height} {@code int[]}. It is built once per
+ * map generation and afterwards only the pixels of changed cells are written: only the chunks whose
+ * {@link RenderSnapshot#getChunkStamp(int, int) stamp} changed since the last frame are compared cell by cell.
+ * Drawing costs one scaled blit of that image plus the rectangle and the dots.</p>
+ * <p>The minimap must only be used by one drawing thread at a time.</p>
+ */
+public final class Minimap {
+    /**
+     * The number of screen pixels per tile, unless the map is too large for {@link #MAX_WIDTH} or {@link #MAX_HEIGHT}.
+     */
+    public static final int DEFAULT_SCALE = 2;
+    /**
+     * The largest width of the minimap on the screen.
+     */
+    public static final int MAX_WIDTH = 480;
+    /**
+     * The largest height of the minimap on the screen.
+     */
+    public static final int MAX_HEIGHT = 160;
+    /**
+     * The color of cells without a solid tile, translucent so the scene stays visible.
+     */
+    private static final int EMPTY_COLOR = 0xA0000000;
+    /**
+     * The color of the camera rectangle.
+     */
+    private static final Color CAMERA_COLOR = Color.WHITE;
+    /**
+     * The color of the player's dot.
+     */
+    private static final Color PLAYER_COLOR = Color.CYAN;
+    /**
+     * The color of the other entities' dots.
+     */
+    private static final Color ENTITY_COLOR = Color.RED;
+    /**
+     * Maps tiles to objects, to tell whether a cell still shows its layer tile.
+     */
+    private static final MapElementManager manager = new MapElementManager();
+    /**
+     * The tile of every collision object, for cells whose object differs from their layer tile.
+     */
+    private static final Map<EObject, ETile> tiles = manager.getObjectToTileMap();
+    /**
+     * One pixel per tile, backed by {@link #pixels}.
+     */
+    private BufferedImage image;
+    /**
+     * The pixels of {@link #image}, row by row.
+     */
+    private int[] pixels;
+    /**
+     * The map the pixels were built for.
+     */
+    private RMap map;
+    /**
+     * The tile generation the pixels were built for.
+     */
+    private long generation;
+    /**
+     * The chunk stamps the pixels are up to date with, row by row.
+     */
+    private long[] chunkStamps;
+    /**
+     * The number of chunk columns of {@link #map}.
+     */
+    private int chunkColumns;
+    /**
+     * The number of pixels written since the last full build, for diagnostics.
+     */
+    private long updatedCells;
+
+    /**
+     * Computes where the minimap is drawn, e.g. to mark it as a dirty region.
+     *
+     * @param snapshot The captured game state.
+     * @param right    The X-coordinate of the right edge.
+     * @param top      The Y-coordinate of the top edge.
+     * @param out      Receives the bounds on the screen.
+     */
+    public void getBounds(RenderSnapshot snapshot, int right, int top, Rectangle out) {
+        final RMap source = snapshot.getMap();
+        final float scale = scale(source);
+        final int width = Math.max(1, Math.round(source.getWidth() * scale));
+        final int height = Math.max(1, Math.round(source.getHeight() * scale));
+        out.setBounds(right - width, top, width, height);
+    }
+
+    /**
+     * Brings the tile pixels up to date and draws the minimap with the camera rectangle and the entity dots.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state.
+     * @param right    The X-coordinate of the right edge.
+     * @param top      The Y-coordinate of the top edge.
+     */
+    public void draw(Graphics2D g, RenderSnapshot snapshot, int right, int top) {
+        if (snapshot.isEmpty() || snapshot.getTiles() == null) {
+            return;
+        }
+        update(snapshot);
+        final float scale = scale(map);
+        final int width = Math.max(1, Math.round(map.getWidth() * scale));
+        final int height = Math.max(1, Math.round(map.getHeight() * scale));
+        final int left = right - width;
+        g.drawImage(image, left, top, width, height, null);
+        final float zoom = snapshot.getZoom();
+        final float tileScale = scale / TILE_SIZE;
+        g.setColor(CAMERA_COLOR);
+        g.drawRect(left + Math.round(snapshot.getCameraX() * tileScale), top + Math.round(snapshot.getCameraY() * tileScale),
+                Math.round(snapshot.getScreenWidth() / zoom * tileScale), Math.round(snapshot.getScreenHeight() / zoom * tileScale));
+        final int dot = Math.max(2, Math.round(scale));
+        for (int i = 0; i < snapshot.getEntityCount(); i++) {
+            final int x = left + Math.round((snapshot.getEntityX(i) + snapshot.getEntityWidth(i) / 2f) * tileScale) - dot / 2;
+            final int y = top + Math.round((snapshot.getEntityY(i) + snapshot.getEntityHeight(i) / 2f) * tileScale) - dot / 2;
+            if (x >= left && y >= top && x < left + width && y < top + height) {
+                g.setColor(snapshot.isPlayer(i) ? PLAYER_COLOR : ENTITY_COLOR);
+                g.fillRect(x, y, dot, dot);
+            }
+        }
+    }
+
+    /**
+     * Returns how many pixels were written since the last full build.
+     *
+     * @return The number of updated cells.
+     */
+    public long getUpdatedCells() {
+        return updatedCells;
+    }
+
+    /**
+     * Rebuilds the pixels for a new map or generation, otherwise writes the changed cells of changed chunks.
+     *
+     * @param snapshot The captured game state.
+     */
+    private void update(RenderSnapshot snapshot) {
+        final RMap source = snapshot.getMap();
+        final EObject[][] cells = snapshot.getTiles();
+        final int width = source.getWidth();
+        final int height = source.getHeight();
+        if (source != map || snapshot.getTileGeneration() != generation || image == null
+                || image.getWidth() != width || image.getHeight() != height) {
+            if (image == null || image.getWidth() != width || image.getHeight() != height) {
+                image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            }
+            map = source;
+            generation = snapshot.getTileGeneration();
+            chunkColumns = Math.ceilDiv(width, TileChunkCache.CHUNK_SIZE);
+            chunkStamps = new long[chunkColumns * Math.ceilDiv(height, TileChunkCache.CHUNK_SIZE)];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    pixels[y * width + x] = colorOf(source, cells, x, y);
+                }
+            }
+            for (int i = 0; i < chunkStamps.length; i++) {
+                chunkStamps[i] = snapshot.getChunkStamp(i % chunkColumns, i / chunkColumns);
+            }
+            updatedCells = 0;
+            return;
+        }
+        for (int i = 0; i < chunkStamps.length; i++) {
+            final int chunkX = i % chunkColumns;
+            final int chunkY = i / chunkColumns;
+            final long stamp = snapshot.getChunkStamp(chunkX, chunkY);
+            if (stamp == chunkStamps[i]) {
+                continue;
+            }
+            chunkStamps[i] = stamp;
+            final int toX = Math.min(width, (chunkX + 1) * TileChunkCache.CHUNK_SIZE);
+            final int toY = Math.min(height, (chunkY + 1) * TileChunkCache.CHUNK_SIZE);
+            for (int y = chunkY * TileChunkCache.CHUNK_SIZE; y < toY; y++) {
+                for (int x = chunkX * TileChunkCache.CHUNK_SIZE; x < toX; x++) {
+                    final int color = colorOf(source, cells, x, y);
+                    if (pixels[y * width + x] != color) {
+                        pixels[y * width + x] = color;
+                        updatedCells++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the color of a cell: the color of its layer tile while the cell still holds that tile's object,
+     * otherwise the color of the tile of the object now in it.
+     *
+     * @param source The map.
+     * @param cells  The captured collision map.
+     * @param x      The cell column.
+     * @param y      The cell row.
+     * @return The ARGB color.
+     */
+    private static int colorOf(RMap source, EObject[][] cells, int x, int y) {
+        final EObject object = cells[x][y];
+        if (object == null || object == EObject.EMPTY || object == EObject.PLAYER_SPAWN || object == EObject.ENEMY_SPAWN) {
+            return EMPTY_COLOR;
+        }
+        final ETile layerTile = source.getLayer()[x][y];
+        if (layerTile != null && manager.getObjectFromTile(layerTile) == object) {
+            return layerTile.getColor().getRGB();
+        }
+        final ETile tile = tiles.get(object);
+        return tile == null ? EMPTY_COLOR : tile.getColor().getRGB();
+    }
+
+    /**
+     * Returns the number of screen pixels per tile for a map.
+     *
+     * @param source The map.
+     * @return The scale, at most {@link #DEFAULT_SCALE}.
+     */
+    private static float scale(RMap source) {
+        return Math.min(DEFAULT_SCALE, Math.min((float) MAX_WIDTH / Math.max(1, source.getWidth()),
+                (float) MAX_HEIGHT / Math.max(1, source.getHeight())));
+    }
+}
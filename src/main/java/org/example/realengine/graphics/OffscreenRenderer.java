@@ -0,0 +1,200 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Renders any {@link RMap} at a given camera position into an image, without a window, so it also works
+ * under {@code java.awt.headless}: for screenshots in CI, level previews and render regression checks.</p>
+ * <p>A renderer draws through its own {@link Render} and must only be used by one thread at a time.
+ * {@link #renderToPng(List, Path, int, int, int)} renders many frames in parallel with one renderer per worker.</p>
+ * <p>The map is only read. It must not be simulated while it is being rendered.</p>
+ */
+public final class OffscreenRenderer {
+    /**
+     * The color the frame is cleared to before the scene is drawn, the same as the game panel's.
+     */
+    public static final Color DEFAULT_BACKGROUND = new Color(25, 25, 40);
+    /**
+     * The width of the rendered frames.
+     */
+    private final int width;
+    /**
+     * The height of the rendered frames.
+     */
+    private final int height;
+    /**
+     * Draws the scenes.
+     */
+    private final Render render = new Render();
+    /**
+     * Captures the map into a snapshot for {@link #render}.
+     */
+    private final RenderSnapshotBuffer snapshots = new RenderSnapshotBuffer();
+    /**
+     * The color the frame is cleared to.
+     */
+    private Color background = DEFAULT_BACKGROUND;
+
+    /**
+     * Constructs a new {@code OffscreenRenderer}. Maps are drawn tile by tile, because unrelated views
+     * rarely reuse pre-rendered chunks.
+     *
+     * @param width  The width of the rendered frames.
+     * @param height The height of the rendered frames.
+     * @throws IllegalArgumentException if a size is not positive.
+     */
+    public OffscreenRenderer(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid frame size " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        render.setChunkCacheEnabled(false);
+    }
+
+    /**
+     * Returns the renderer used for drawing, e.g. to turn textures off.
+     *
+     * @return The renderer.
+     */
+    public Render getRender() {
+        return render;
+    }
+
+    /**
+     * Sets the color the frame is cleared to before the scene is drawn.
+     *
+     * @param background The background color.
+     */
+    public void setBackground(Color background) {
+        this.background = background;
+    }
+
+    /**
+     * Renders a map into a new image.
+     *
+     * @param map     The map to render.
+     * @param cameraX The world X-coordinate of the top-left corner of the frame.
+     * @param cameraY The world Y-coordinate of the top-left corner of the frame.
+     * @return The rendered RGB image.
+     */
+    public BufferedImage render(RMap map, float cameraX, float cameraY) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        render(map, cameraX, cameraY, new ImageSurface(image));
+        return image;
+    }
+
+    /**
+     * Renders a map on a surface of this renderer's size.
+     *
+     * @param map     The map to render.
+     * @param cameraX The world X-coordinate of the top-left corner of the frame.
+     * @param cameraY The world Y-coordinate of the top-left corner of the frame.
+     * @param surface The surface to draw on.
+     */
+    public void render(RMap map, float cameraX, float cameraY, RenderSurface surface) {
+        final Camera camera = new Camera(width, height, map.getWidth() * TILE_SIZE, map.getHeight() * TILE_SIZE);
+        camera.moveTo(cameraX, cameraY);
+        snapshots.publish(map, camera, 1);
+        final RenderSnapshot snapshot = snapshots.acquire();
+        final Graphics2D g = surface.createGraphics();
+        try {
+            g.setColor(background);
+            g.fillRect(0, 0, width, height);
+        } finally {
+            g.dispose();
+        }
+        render.renderScene(surface, snapshot);
+    }
+
+    /**
+     * Renders many frames to PNG files in parallel. Every worker thread has its own renderer and takes the next
+     * frame as soon as it has written the previous one.
+     *
+     * @param frames    The frames to render.
+     * @param directory The directory the files are written to, created if needed.
+     * @param width     The width of the frames.
+     * @param height    The height of the frames.
+     * @param threads   The number of worker threads.
+     * @return The number of frames and bytes written and the time it took.
+     * @throws IOException          If a file cannot be written.
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the workers.
+     */
+    public static BatchResult renderToPng(List<Frame> frames, Path directory, int width, int height, int threads)
+            throws IOException, InterruptedException {
+        Files.createDirectories(directory);
+        final AtomicInteger next = new AtomicInteger();
+        final long start = System.nanoTime();
+        long bytes = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            final List<Future<Long>> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(pool.submit(() -> {
+                    final OffscreenRenderer renderer = new OffscreenRenderer(width, height);
+                    long written = 0;
+                    for (int index = next.getAndIncrement(); index < frames.size(); index = next.getAndIncrement()) {
+                        final Frame frame = frames.get(index);
+                        final Path file = directory.resolve(frame.name() + ".png");
+                        ImageIO.write(renderer.render(frame.map(), frame.cameraX(), frame.cameraY()), "png", file.toFile());
+                        written += Files.size(file);
+                    }
+                    return written;
+                }));
+            }
+            for (final Future<Long> worker : workers) {
+                bytes += worker.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return new BatchResult(frames.size(), bytes, System.nanoTime() - start);
+    }
+
+    /**
+     * One frame of a batch.
+     *
+     * @param map     The map to render.
+     * @param cameraX The world X-coordinate of the top-left corner of the frame.
+     * @param cameraY The world Y-coordinate of the top-left corner of the frame.
+     * @param name    The file name without the {@code .png} extension.
+     */
+    public record Frame(RMap map, float cameraX, float cameraY, String name) {
+    }
+
+    /**
+     * The outcome of a batch.
+     *
+     * @param frames The number of frames written.
+     * @param bytes  The total size of the written files.
+     * @param nanos  The time the batch took.
+     */
+    public record BatchResult(int frames, long bytes, long nanos) {
+        /**
+         * Returns the throughput of the batch.
+         *
+         * @return The frames written per second.
+         */
+        public double framesPerSecond() {
+            return frames / (nanos / 1e9);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.realengine.graphics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects statistics about frames that actually reached the screen.
+ * <p>Tracks the presented frame rate over one-second windows and the time from the first unhandled
+ * input event to the next presented frame (input-to-present latency).</p>
+ * <p>Input is marked from the event dispatch thread while frames are presented from the render thread,
+ * so the pending input timestamp is kept in an {@link AtomicLong}.</p>
+ */
+public final class PresentStats {
+    /**
+     * Length of the window over which the presented frame rate is measured.
+     */
+    private static final long FPS_WINDOW_NANOS = 1_000_000_000L;
+    /**
+     * The {@code System.nanoTime()} of the oldest input not yet followed by a presented frame, or 0 if none.
+     */
+    private final AtomicLong pendingInputTime = new AtomicLong();
+    /**
+     * The start of the current frame rate window.
+     */
+    private long windowStart = System.nanoTime();
+    /**
+     * The number of frames presented in the current window.
+     */
+    private int windowFrames = 0;
+    /**
+     * The presented frame rate measured over the last complete window.
+     */
+    private volatile int presentedFps = 0;
+    /**
+     * The most recent input-to-present latency in nanoseconds.
+     */
+    private volatile long lastLatencyNanos = 0;
+    /**
+     * The largest input-to-present latency seen in nanoseconds.
+     */
+    private volatile long maxLatencyNanos = 0;
+
+    /**
+     * Records that an input event arrived. Only the oldest input before the next presented frame is kept.
+     */
+    public void markInput() {
+        pendingInputTime.compareAndSet(0, System.nanoTime());
+    }
+
+    /**
+     * Records that a frame has been presented, updating the frame rate and input latency.
+     */
+    public void markPresented() {
+        final long now = System.nanoTime();
+        windowFrames++;
+        if (now - windowStart >= FPS_WINDOW_NANOS) {
+            presentedFps = (int) (windowFrames * FPS_WINDOW_NANOS / (now - windowStart));
+            windowFrames = 0;
+            windowStart = now;
+        }
+        final long inputTime = pendingInputTime.getAndSet(0);
+        if (inputTime != 0) {
+            lastLatencyNanos = now - inputTime;
+            maxLatencyNanos = Math.max(maxLatencyNanos, lastLatencyNanos);
+        }
+    }
+
+    /**
+     * Returns the presented frame rate measured over the last complete second.
+     *
+     * @return The presented frames per second.
+     */
+    public int getPresentedFps() {
+        return presentedFps;
+    }
+
+    /**
+     * Returns the most recent input-to-present latency.
+     *
+     * @return The latency in nanoseconds, or 0 if no input has been presented yet.
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    /**
+     * Returns the largest input-to-present latency seen so far.
+     *
+     * @return The maximum latency in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+}
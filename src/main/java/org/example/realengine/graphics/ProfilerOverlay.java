@@ -0,0 +1,109 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.FrameProfiler;
+
+import java.awt.*;
+
+/**
+ * Draws the per-phase timings of a {@link FrameProfiler} as a table over the game scene.
+ * <p>For each phase the last sample, the session p50 and p99, the session max and the worst of the
+ * recent {@link FrameProfiler#RING_SIZE} samples are shown in milliseconds.</p>
+ */
+public final class ProfilerOverlay {
+    /**
+     * The phases shown, one per row.
+     */
+    private static final EFramePhase[] PHASES = EFramePhase.values();
+    /**
+     * The font of the table.
+     */
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.BOLD, 14);
+    /**
+     * The translucent backdrop behind the table.
+     */
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    /**
+     * The height of one row in pixels.
+     */
+    private static final int LINE_HEIGHT = 18;
+    /**
+     * The width of the table in pixels.
+     */
+    private static final int WIDTH = 600;
+    /**
+     * The padding around the table in pixels.
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * Private constructor to prevent instantiation of this class.
+     */
+    private ProfilerOverlay() {
+    }
+
+    /**
+     * Returns the width of the table.
+     *
+     * @return The width in pixels.
+     */
+    public static int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Returns the height of the table.
+     *
+     * @param footer Whether a footer line is drawn.
+     * @return The height in pixels.
+     */
+    public static int getHeight(boolean footer) {
+        return (PHASES.length + (footer ? 2 : 1)) * LINE_HEIGHT + 2 * PADDING;
+    }
+
+    /**
+     * Draws the table with its top-left corner at the given position.
+     *
+     * @param g        The graphics context to draw on.
+     * @param profiler The profiler to read.
+     * @param x        The X-coordinate of the table.
+     * @param y        The Y-coordinate of the table.
+     * @param footer   An extra line drawn below the table, e.g. cache counters, or {@code null}.
+     */
+    public static void draw(Graphics2D g, FrameProfiler profiler, int x, int y, String footer) {
+        g.setColor(BACKGROUND);
+        g.fillRect(x, y, WIDTH, getHeight(footer != null));
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        int lineY = y + PADDING + LINE_HEIGHT - 4;
+        g.drawString(String.format("%-18s %7s %7s %7s %7s %7s", "phase (ms)", "last", "p50", "p99", "max", "recent"),
+                x + PADDING, lineY);
+        for (final EFramePhase phase : PHASES) {
+            final FrameProfiler.PhaseTimer timer = profiler.get(phase);
+            lineY += LINE_HEIGHT;
+            g.setColor(timer.getRecentMaxNanos() > 16_000_000L ? Color.ORANGE : Color.WHITE);
+            g.drawString(String.format("%-18s %7.2f %7.2f %7.2f %7.2f %7.2f", indent(phase) + phase.getLabel(),
+                    timer.getLastNanos() / 1e6, timer.getPercentileNanos(0.50) / 1e6,
+                    timer.getPercentileNanos(0.99) / 1e6, timer.getMaxNanos() / 1e6,
+                    timer.getRecentMaxNanos() / 1e6), x + PADDING, lineY);
+        }
+        if (footer != null) {
+            g.setColor(Color.WHITE);
+            g.drawString(footer, x + PADDING, lineY + LINE_HEIGHT);
+        }
+    }
+
+    /**
+     * Returns the indentation of a phase label: two spaces for every phase it is timed within.
+     *
+     * @param phase The phase.
+     * @return The indentation.
+     */
+    private static String indent(EFramePhase phase) {
+        int depth = 0;
+        for (EFramePhase parent = phase.getParent(); parent != null; parent = parent.getParent()) {
+            depth++;
+        }
+        return "  ".repeat(depth);
+    }
+}
@@ -1,7 +1,8 @@
 package org.example.realengine.graphics;
 
-import org.example.realengine.entity.Entity;
-import org.example.realengine.entity.Player;
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.EQualityLevel;
+import org.example.realengine.game.FrameProfiler;
 import org.example.realengine.map.ETile;
 import org.example.realengine.map.MapElementManager;
 import org.example.realengine.map.RMap;
@@ -9,8 +10,6 @@ import org.example.realengine.object.EObject;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.List;
 import java.util.Map;
 
 import static org.example.realengine.game.GameConstants.TILE_SIZE;
@@ -30,84 +29,442 @@ public class Render {
      * Used for rendering based on collision map data.
      */
     private static final Map<EObject, ETile> tiles = manager.getObjectToTileMap();
+    /**
+     * How much taller and narrower the player is drawn in the air when textures are off.
+     * Package-visible, because {@link DirtyRegionTracker} widens entity bounds by it.
+     */
+    static final int PLAYER_AIR_EXTRA_HEIGHT = 5;
 
     /**
      * A boolean flag indicating whether textures should be rendered. If false, solid colors are used instead.
+     * Read by the render thread and toggled from the event dispatch thread.
+     */
+    private volatile boolean texturesOn = true;
+    /**
+     * Times the render phases. Disabled unless a frontend installs its own profiler.
+     */
+    private FrameProfiler profiler = new FrameProfiler(false);
+    /**
+     * The quality level limiting what is drawn, chosen by the quality governor.
+     */
+    private volatile EQualityLevel quality = EQualityLevel.FULL;
+    /**
+     * Copies of the tile and sprite textures converted and scaled for the destination, so drawing them needs no scaling.
+     * The game textures are packed into an atlas.
+     */
+    private final ScaledTextureCache textures = new ScaledTextureCache(
+            TextureAtlas.listTextures(TextureAtlas.DEFAULT_TEXTURE_DIR), TILE_SIZE);
+    /**
+     * Draws the tiles in solid colors when textures are off.
+     */
+    private final FlatTileRenderer flatTiles = new FlatTileRenderer(tiles);
+    /**
+     * Pre-scaled levels of the tile textures, used while the camera is zoomed.
+     */
+    private final TileMipChain mipmaps = new TileMipChain(TILE_SIZE);
+    /**
+     * The edge and corner variants of the tile textures.
+     */
+    private final AutoTileSet autoTiles = new AutoTileSet();
+    /**
+     * A boolean flag indicating whether tiles are drawn with the variant matching their open sides.
+     */
+    private volatile boolean autoTiling = true;
+    /**
+     * Draws the background layers from images pre-scaled to the screen.
+     */
+    private final BackgroundRenderer background = new BackgroundRenderer();
+    /**
+     * The map tiles pre-rendered into chunk images.
+     */
+    private final TileChunkCache chunkCache = new TileChunkCache(TileChunkCache.DEFAULT_CAPACITY, this::paintTiles);
+    /**
+     * Reused for the part of the screen that has to be drawn in the current call.
      */
-    public static boolean texturesOn = true;
+    private final Rectangle drawArea = new Rectangle();
+    /**
+     * A boolean flag indicating whether the map is drawn from {@link #chunkCache} or tile by tile. Off by default.
+     */
+    private volatile boolean chunkCacheEnabled;
+    /**
+     * Draws the background and the map into an {@code int[]} framebuffer instead of with Java2D, or {@code null}.
+     */
+    private volatile SoftwareTileRasterizer rasterizer;
+    /**
+     * The light levels of dark maps.
+     */
+    private final LightMap lightMap = new LightMap();
+    /**
+     * The width and height of a tile in the baked darkness. The light fades smoothly over whole tiles, so the chunk
+     * images are scaled up when drawn instead of being baked at full resolution.
+     */
+    private static final int LIGHT_TILE_PIXELS = 12;
+    /**
+     * The darkness over the map baked into chunk images, rebaked when the light of a chunk changes.
+     * Its capacity grows with the area shown while the camera is zoomed out.
+     */
+    private final TileChunkCache lightCache = new TileChunkCache(TileChunkCache.DEFAULT_CAPACITY, LIGHT_TILE_PIXELS,
+            lightMap::paint, (_, chunkX, chunkY) -> lightMap.getStamp(chunkX, chunkY));
+    /**
+     * Reused for the screen area of a chunk whose light changed.
+     */
+    private final Rectangle lightArea = new Rectangle();
+    /**
+     * A boolean flag indicating whether dark maps are drawn with their light map.
+     */
+    private volatile boolean lightingEnabled = true;
 
     /**
      * Toggles the `texturesOn` flag, switching between texture rendering and solid color rendering.
      */
-    public static void reverseTexturesOn() {
+    public void reverseTexturesOn() {
         texturesOn = !texturesOn;
     }
 
+    /**
+     * Sets the profiler timing the render phases.
+     *
+     * @param profiler The profiler.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns whether textures are rendered.
+     *
+     * @return {@code true} if textures are rendered, {@code false} if solid colors are used instead.
+     */
+    public boolean isTexturesOn() {
+        return texturesOn;
+    }
+
+    /**
+     * Sets the quality level. Textures and the background are only drawn if both the level
+     * and the {@code texturesOn} flag allow them.
+     *
+     * @param quality The new quality level.
+     */
+    public void setQuality(EQualityLevel quality) {
+        this.quality = quality;
+    }
+
+    /**
+     * Sets whether the map is drawn from pre-rendered chunk images or tile by tile.
+     *
+     * @param chunkCacheEnabled If true, the chunk cache is used.
+     */
+    public void setChunkCacheEnabled(boolean chunkCacheEnabled) {
+        this.chunkCacheEnabled = chunkCacheEnabled;
+    }
+
+    /**
+     * Sets whether the background and the map are drawn by a {@link SoftwareTileRasterizer} instead of with Java2D.
+     * Replacing or disabling the rasterizer shuts down the pool of the previous one, so this must not be called
+     * while a frame is being drawn.
+     *
+     * @param parallelism The number of rasterizer threads, or 0 to draw with Java2D.
+     */
+    public void setSoftwareRasterizer(int parallelism) {
+        final SoftwareTileRasterizer previous = rasterizer;
+        rasterizer = parallelism > 0 ? new SoftwareTileRasterizer(parallelism, tiles) : null;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Sets whether tiles are drawn with the {@link AutoTileSet} variant matching the open sides of their cell.
+     * Must be called before the first frame is drawn, because map chunks already baked are not redrawn.
+     *
+     * @param autoTiling If true, terrain shows edges and rounded corners where it borders open cells.
+     */
+    public void setAutoTiling(boolean autoTiling) {
+        this.autoTiling = autoTiling;
+    }
+
+    /**
+     * Returns the texture drawn in a cell: its layer tile's texture, or the variant matching its open sides.
+     *
+     * @param snapshot The captured game state.
+     * @param x        The cell column.
+     * @param y        The cell row.
+     * @return The texture, or {@code null} if the tile has none.
+     */
+    private BufferedImage tileTexture(final RenderSnapshot snapshot, int x, int y) {
+        final BufferedImage texture = snapshot.getMap().getLayer()[x][y].getTexture();
+        return autoTiling ? autoTiles.get(texture, snapshot.getEdgeMask(x, y)) : texture;
+    }
+
+    /**
+     * Sets whether maps with a {@link EBackground#isDark() dark} background are darkened apart from
+     * the light of glowing tiles.
+     *
+     * @param lightingEnabled If true, dark maps are drawn with their {@link LightMap}.
+     */
+    public void setLightingEnabled(boolean lightingEnabled) {
+        this.lightingEnabled = lightingEnabled;
+    }
+
+    /**
+     * Returns whether the light map is drawn in the current frame.
+     *
+     * @return {@code true} if lighting is enabled and textures are drawn.
+     */
+    private boolean drawLight() {
+        return lightingEnabled && drawTextures();
+    }
+
+    /**
+     * Brings the light map up to date with a snapshot and adds the screen areas of the chunks whose light changed,
+     * so frames redrawn only in dirty regions also redraw the light that spread from a changed tile.
+     *
+     * @param snapshot The captured game state about to be drawn.
+     * @param dirty    The dirty regions of the frame.
+     */
+    public void markLightChanges(final RenderSnapshot snapshot, final DirtyRegionTracker dirty) {
+        if (!drawLight() || snapshot.isEmpty() || !lightMap.update(snapshot)) {
+            return;
+        }
+        for (int i = 0; i < lightMap.getChangedCount(); i++) {
+            lightMap.getChangedArea(i, snapshot, lightArea);
+            dirty.add(lightArea);
+        }
+    }
+
+    /**
+     * Returns the cache of pre-rendered map chunks, e.g. to read its counters.
+     *
+     * @return The chunk cache.
+     */
+    public TileChunkCache getChunkCache() {
+        return chunkCache;
+    }
+
+    /**
+     * Returns whether textures are drawn in the current frame.
+     *
+     * @return {@code true} if textures are drawn, {@code false} for solid colors.
+     */
+    private boolean drawTextures() {
+        return texturesOn && quality.isTextures();
+    }
+
     /**
      * The main method for rendering the entire game scene.
-     * Renders the background, the map, and all entities visible through the camera.
-     * If debug mode is enabled, additional information might be rendered.
+     * Renders the background, the map, the darkness of dark maps, and all entities visible through the camera.
+     * <p>Everything is read from a {@link RenderSnapshot} published by the game thread, never from the live map,
+     * so rendering may run concurrently with the next simulation tick. Positions in the snapshot are interpolated
+     * between the previous and the current tick, which decouples the render rate from the simulation rate.</p>
      *
-     * @param g      The graphics context to draw on.
-     * @param map    The game map ({@link RMap}) to be rendered.
-     * @param camera The camera ({@link Camera}) defining the view of the scene.
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state to draw.
      */
-    public void renderScene(final Graphics g, final RMap map, final Camera camera) {
-        if (texturesOn) renderBackground(g, camera, map);
-        renderMap(g, map, camera);
-        renderEntities(g, map.getEntities(), camera);
+    public void renderScene(final Graphics g, final RenderSnapshot snapshot) {
+        if (snapshot.isEmpty()) return;
+        final boolean background = drawTextures() && quality.isBackground();
+        final SoftwareTileRasterizer rasterizer = this.rasterizer;
+        long start;
+        if (rasterizer != null && g instanceof Graphics2D g2 && snapshot.getTiles() != null && snapshot.getZoom() == 1) {
+            rasterizer.render(g2, snapshot, drawArea(g, snapshot), background ? this::renderBackground : null,
+                    drawTextures(), autoTiling ? autoTiles : null, profiler);
+        } else {
+            start = profiler.start();
+            if (background) renderBackground(g, snapshot);
+            profiler.stop(EFramePhase.RENDER_BACKGROUND, start);
+            start = profiler.start();
+            renderMap(g, snapshot);
+            profiler.stop(EFramePhase.RENDER_MAP, start);
+        }
+        start = profiler.start();
+        renderLight(g, snapshot);
+        profiler.stop(EFramePhase.RENDER_LIGHT, start);
+        start = profiler.start();
+        renderEntities(g, snapshot);
+        profiler.stop(EFramePhase.RENDER_ENTITIES, start);
+    }
+
+    /**
+     * Renders the entire game scene on a surface, e.g. an image without any window.
+     *
+     * @param surface  The surface to draw on.
+     * @param snapshot The captured game state to draw.
+     * @see #renderScene(Graphics, RenderSnapshot)
+     */
+    public void renderScene(final RenderSurface surface, final RenderSnapshot snapshot) {
+        final Graphics2D g = surface.createGraphics();
+        try {
+            renderScene(g, snapshot);
+        } finally {
+            g.dispose();
+        }
     }
 
     /**
      * Renders the background of the scene.
-     * This method draws the appropriate background image based on the current map's path.
+     * This method draws the background layers of the current map from images pre-scaled to the screen size.
      *
-     * @param g      The graphics context.
-     * @param camera The camera (used to get screen dimensions).
-     * @param map    The current game map, used to determine the background image.
+     * @param g        The graphics context.
+     * @param snapshot The captured game state, used for the screen dimensions, the camera and the map path.
      */
-    public void renderBackground(final Graphics g, final Camera camera, final RMap map) {
-        g.drawImage(EBackground.backgrounds.getOrDefault(map.getPath(), EBackground.DEFAULT).getBackground(),
-                0, 0, camera.getScreenWidth(), camera.getScreenHeight(), null);
+    public void renderBackground(final Graphics g, final RenderSnapshot snapshot) {
+        background.draw(g, snapshot, profiler);
     }
 
     /**
      * Renders all visual layers of the map visible through the camera.
-     * Optimizes rendering by drawing only tiles within the camera's field of view.
+     * Draws the pre-rendered chunks of {@link TileChunkCache} if enabled, otherwise only the tiles within
+     * the camera's field of view, one by one. Only the part inside the clip is drawn.
+     * While the camera is zoomed, the tiles are drawn one by one from the {@link TileMipChain}.
      *
-     * @param g      The graphics context.
-     * @param map    The map to render.
-     * @param camera The camera defining the visible area.
+     * @param g        The graphics context.
+     * @param snapshot The captured game state, holding the camera and the copy of the collision map.
      */
-    public void renderMap(final Graphics g, final RMap map, final Camera camera) {
-        final float camX = camera.getX();
-        final float camY = camera.getY();
+    public void renderMap(final Graphics g, final RenderSnapshot snapshot) {
+        if (snapshot.getTiles() == null) {
+            return;
+        }
+        final Rectangle area = drawArea(g, snapshot);
+        if (snapshot.getZoom() != 1) {
+            paintZoomedTiles(g, snapshot, area);
+            return;
+        }
+        if (chunkCacheEnabled && g instanceof Graphics2D g2) {
+            chunkCache.draw(g2, snapshot, area, drawTextures());
+            return;
+        }
+        final RMap map = snapshot.getMap();
+        final float camX = snapshot.getCameraX();
+        final float camY = snapshot.getCameraY();
+
+        final var startTileX = Math.max(0, (int) ((camX + area.x) / TILE_SIZE));
+        final var startTileY = Math.max(0, (int) ((camY + area.y) / TILE_SIZE));
+        final var endTileX = Math.min(map.getWidth(), (int) ((camX + area.x + area.width) / TILE_SIZE) + 1);
+        final var endTileY = Math.min(map.getHeight(), (int) ((camY + area.y + area.height) / TILE_SIZE) + 1);
+        paintTiles(g, snapshot, startTileX, startTileY, endTileX, endTileY, camX, camY, drawTextures());
+    }
 
-        final var startTileX = Math.max(0, (int) (camX / TILE_SIZE));
-        final var startTileY = Math.max(0, (int) (camY / TILE_SIZE));
-        final var endTileX = Math.min(map.getWidth(), (int) ((camX + camera.getScreenWidth()) / TILE_SIZE) + 1);
-        final var endTileY = Math.min(map.getHeight(), (int) ((camY + camera.getScreenHeight()) / TILE_SIZE) + 1);
+    /**
+     * Darkens a {@link EBackground#isDark() dark} map apart from the light of glowing tiles, with one bilinear
+     * scaled blit of a low-resolution baked overlay per visible chunk. Entities are drawn over it and stay fully
+     * visible. While the camera is zoomed, the overlays are drawn through a scaled copy of the graphics context and
+     * the cache is grown to hold all chunks on the screen, so zooming out does not evict them every frame.
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     */
+    private void renderLight(final Graphics g, final RenderSnapshot snapshot) {
+        if (!drawLight() || !(g instanceof Graphics2D g2) || !lightMap.update(snapshot)) {
+            return;
+        }
+        final Rectangle area = drawArea(g, snapshot);
+        final float zoom = snapshot.getZoom();
+        final Graphics2D scaled = (Graphics2D) g2.create();
+        try {
+            if (zoom != 1) {
+                scaled.scale(zoom, zoom);
+                final int left = (int) Math.floor(area.x / zoom);
+                final int top = (int) Math.floor(area.y / zoom);
+                area.setBounds(left, top, (int) Math.ceil((area.x + area.width) / zoom) - left,
+                        (int) Math.ceil((area.y + area.height) / zoom) - top);
+                lightCache.ensureCapacity((int) Math.ceil(snapshot.getScreenWidth() / zoom),
+                        (int) Math.ceil(snapshot.getScreenHeight() / zoom));
+            }
+            lightCache.draw(scaled, snapshot, area, true);
+        } finally {
+            scaled.dispose();
+        }
+    }
+
+    /**
+     * Returns the part of the screen that has to be drawn: the whole screen, or the part of it inside the clip
+     * when only a region is redrawn.
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state, used for the screen dimensions.
+     * @return The area in screen coordinates; reused by the next call.
+     */
+    private Rectangle drawArea(final Graphics g, final RenderSnapshot snapshot) {
+        final int width = snapshot.getScreenWidth();
+        final int height = snapshot.getScreenHeight();
+        drawArea.setBounds(0, 0, width, height);
+        g.getClipBounds(drawArea);
+        final int left = Math.max(0, drawArea.x);
+        final int top = Math.max(0, drawArea.y);
+        final int right = Math.min(width, drawArea.x + drawArea.width);
+        final int bottom = Math.min(height, drawArea.y + drawArea.height);
+        drawArea.setBounds(left, top, Math.max(0, right - left), Math.max(0, bottom - top));
+        return drawArea;
+    }
 
-        EObject[][] collisionMap = map.getCollisionMap();
-        if (collisionMap == null) {
+    /**
+     * Draws a rectangle of tiles of the snapshot's collision map, using the textures of the map's layer
+     * or their {@link AutoTileSet} variants, or the {@link FlatTileRenderer} when textures are off.
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     * @param fromX    The first tile column, inclusive.
+     * @param fromY    The first tile row, inclusive.
+     * @param toX      The last tile column, exclusive.
+     * @param toY      The last tile row, exclusive.
+     * @param originX  The map X-coordinate drawn at the left edge.
+     * @param originY  The map Y-coordinate drawn at the top edge.
+     * @param textured If true, tiles are drawn with textures, otherwise with solid colors.
+     */
+    private void paintTiles(final Graphics g, final RenderSnapshot snapshot, int fromX, int fromY, int toX, int toY,
+                            float originX, float originY, boolean textured) {
+        final EObject[][] collisionMap = snapshot.getTiles();
+        if (!textured) {
+            flatTiles.paint(g, collisionMap, fromX, fromY, toX, toY, originX, originY, 1);
             return;
         }
+        for (int y = fromY; y < toY; y++) {
+            for (int x = fromX; x < toX; x++) {
+                EObject object = collisionMap[x][y];
+                if (object != null && object != EObject.EMPTY && object != EObject.PLAYER_SPAWN && object != EObject.ENEMY_SPAWN) {
+                    int screenX = (int) (x * TILE_SIZE - originX);
+                    int screenY = (int) (y * TILE_SIZE - originY);
+                    textures.draw(g, tileTexture(snapshot, x, y), screenX, screenY, TILE_SIZE, TILE_SIZE);
+                }
+            }
+        }
+    }
 
+    /**
+     * Draws the tiles within an area of the screen at the camera's zoom. The edges of every tile are rounded down
+     * separately, so neighbouring tiles never leave gaps.
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     * @param area     The area of the screen to draw.
+     */
+    private void paintZoomedTiles(final Graphics g, final RenderSnapshot snapshot, final Rectangle area) {
+        final RMap map = snapshot.getMap();
+        final EObject[][] collisionMap = snapshot.getTiles();
+        final float zoom = snapshot.getZoom();
+        final float camX = snapshot.getCameraX();
+        final float camY = snapshot.getCameraY();
+        final boolean textured = drawTextures();
+        final var startTileX = Math.max(0, (int) Math.floor((camX + area.x / zoom) / TILE_SIZE));
+        final var startTileY = Math.max(0, (int) Math.floor((camY + area.y / zoom) / TILE_SIZE));
+        final var endTileX = Math.min(map.getWidth(), (int) ((camX + (area.x + area.width) / zoom) / TILE_SIZE) + 1);
+        final var endTileY = Math.min(map.getHeight(), (int) ((camY + (area.y + area.height) / zoom) / TILE_SIZE) + 1);
+        if (!textured) {
+            flatTiles.paint(g, collisionMap, startTileX, startTileY, endTileX, endTileY, camX, camY, zoom);
+            return;
+        }
         for (int y = startTileY; y < endTileY; y++) {
+            final int top = (int) Math.floor((y * TILE_SIZE - camY) * zoom);
+            final int height = (int) Math.floor(((y + 1) * TILE_SIZE - camY) * zoom) - top;
             for (int x = startTileX; x < endTileX; x++) {
-                if (x >= 0 && x < map.getWidth() && y >= 0 && y < map.getHeight()) {
-                    EObject object = collisionMap[x][y];
-                    if (object != null && object != EObject.EMPTY && object != EObject.PLAYER_SPAWN && object != EObject.ENEMY_SPAWN) {
-                        int screenX = (int) (x * TILE_SIZE - camX);
-                        int screenY = (int) (y * TILE_SIZE - camY);
-                        if (texturesOn) {
-                            BufferedImage texture = map.getLayer()[x][y].getTexture();
-                            g.drawImage(texture, screenX, screenY, TILE_SIZE, TILE_SIZE, null);
-                        } else {
-                            Color color = tiles.get(object).getColor();
-                            g.setColor(color);
-                            g.fillRect(screenX, screenY, TILE_SIZE, TILE_SIZE);
-                        }
+                EObject object = collisionMap[x][y];
+                if (object != null && object != EObject.EMPTY && object != EObject.PLAYER_SPAWN && object != EObject.ENEMY_SPAWN) {
+                    final int left = (int) Math.floor((x * TILE_SIZE - camX) * zoom);
+                    final int width = (int) Math.floor(((x + 1) * TILE_SIZE - camX) * zoom) - left;
+                    if (g instanceof Graphics2D g2) {
+                        mipmaps.draw(g2, tileTexture(snapshot, x, y), left, top, width, height);
+                    } else {
+                        g.drawImage(tileTexture(snapshot, x, y), left, top, width, height, null);
                     }
                 }
             }
@@ -115,96 +472,100 @@ public class Render {
     }
 
     /**
-     * Renders all entities from the list that are visible through the camera.
+     * Renders all captured entities that are visible through the camera.
+     * While the camera is zoomed, they are drawn through a scaled copy of the graphics context.
      *
      * @param g        The graphics context.
-     * @param entities The list of entities to render.
-     * @param camera   The camera defining the visible area.
-     */
-    public void renderEntities(final Graphics g, final List<Entity> entities, final Camera camera) {
-        if (entities == null) return;
-
-        final float camX = camera.getX();
-        final float camY = camera.getY();
-        final int camW = camera.getScreenWidth();
-        final int camH = camera.getScreenHeight();
-
-        for (int i = 0; i < entities.size(); i++) {
-            Entity entity = entities.get(i);
-            if (entity != null) {
-                if (entity.getX() + entity.getWidth() >= camX && entity.getX() <= camX + camW &&
-                        entity.getY() + entity.getHeight() >= camY && entity.getY() <= camY + camH) {
-                    try {
-                        renderEntity(g, entity, camera);
-                    } catch (IOException _) {
-                    }
+     * @param snapshot The captured game state.
+     */
+    public void renderEntities(final Graphics g, final RenderSnapshot snapshot) {
+        final float zoom = snapshot.getZoom();
+        if (zoom != 1 && g instanceof Graphics2D g2) {
+            final Graphics2D zoomed = (Graphics2D) g2.create();
+            try {
+                zoomed.scale(zoom, zoom);
+                renderEntities(zoomed, snapshot, snapshot.getScreenWidth() / zoom, snapshot.getScreenHeight() / zoom);
+            } finally {
+                zoomed.dispose();
+            }
+        } else {
+            renderEntities(g, snapshot, snapshot.getScreenWidth(), snapshot.getScreenHeight());
+        }
+    }
+
+    /**
+     * Renders all captured entities within the camera's view, at one unit per world pixel.
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     * @param camW     The width of the view in world pixels.
+     * @param camH     The height of the view in world pixels.
+     */
+    private void renderEntities(final Graphics g, final RenderSnapshot snapshot, final float camW, final float camH) {
+        final float camX = snapshot.getCameraX();
+        final float camY = snapshot.getCameraY();
+
+        for (int i = 0; i < snapshot.getEntityCount(); i++) {
+            final float entityX = snapshot.getEntityX(i);
+            final float entityY = snapshot.getEntityY(i);
+            if (entityX + snapshot.getEntityWidth(i) >= camX && entityX <= camX + camW &&
+                    entityY + snapshot.getEntityHeight(i) >= camY && entityY <= camY + camH) {
+                final int screenX = (int) (entityX - camX);
+                final int screenY = (int) (entityY - camY);
+                if (g.hitClip(screenX, screenY, Math.max(TILE_SIZE, snapshot.getEntityWidth(i)),
+                        Math.max(TILE_SIZE, snapshot.getEntityHeight(i)) + PLAYER_AIR_EXTRA_HEIGHT)) {
+                    renderEntity(g, snapshot, i, screenX, screenY);
                 }
             }
         }
     }
 
     /**
-     * Renders a single entity if it is visible through the camera.
+     * Renders a single captured entity.
      * Uses the entity's texture if available, otherwise renders a colored rectangle.
-     * Can also render a health indicator.
-     *
-     * @param g      The graphics context.
-     * @param entity The entity to render.
-     * @param camera The camera defining the visible area.
-     * @throws IOException If an I/O error occurs while retrieving the entity's texture.
-     */
-    public void renderEntity(final Graphics g, final Entity entity, final Camera camera) throws IOException {
-        final var screenX = (int) (entity.getX() - camera.getX());
-        final var screenY = (int) (entity.getY() - camera.getY());
-
-        if (screenX + entity.getWidth() >= 0 && screenX <= camera.getScreenWidth() &&
-                screenY + entity.getHeight() >= 0 && screenY <= camera.getScreenHeight())
-            if (entity instanceof final Player p) {
-                renderPlayer(g, p, screenX, screenY);
-                return;
-            }
-        if (!texturesOn) {
-            g.setColor(switch (entity.getType()) {
+     *
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     * @param i        The index of the entity in the snapshot.
+     * @param screenX  The X-coordinate on the screen where the entity should be rendered.
+     * @param screenY  The Y-coordinate on the screen where the entity should be rendered.
+     */
+    public void renderEntity(final Graphics g, final RenderSnapshot snapshot, final int i, int screenX, int screenY) {
+        if (snapshot.isPlayer(i)) {
+            renderPlayer(g, snapshot, i, screenX, screenY);
+            return;
+        }
+        if (!drawTextures()) {
+            g.setColor(switch (snapshot.getEntityType(i)) {
                 case "enemy" -> Color.red;
                 case "jumping" -> Color.yellow;
                 default -> Color.orange;
             });
-            g.fillRect(screenX, screenY, entity.getWidth(), entity.getHeight());
+            g.fillRect(screenX, screenY, snapshot.getEntityWidth(i), snapshot.getEntityHeight(i));
         } else {
-            BufferedImage texture = entity.getTexture(entity.getCurrentAnimationState());
-            if (texture != null) {
-                g.drawImage(texture, screenX, screenY, TILE_SIZE, TILE_SIZE, null);
-            }
+            textures.draw(g, snapshot.getEntityTexture(i), screenX, screenY, TILE_SIZE, TILE_SIZE);
         }
-
     }
 
     /**
      * Renders the player character.
      * If textures are off, it renders a blue rectangle. Otherwise, it uses the player's current animation texture.
      *
-     * @param g       The graphics context.
-     * @param player  The player entity to render.
-     * @param screenX The X-coordinate on the screen where the player should be rendered.
-     * @param screenY The Y-coordinate on the screen where the player should be rendered.
+     * @param g        The graphics context.
+     * @param snapshot The captured game state.
+     * @param i        The index of the player in the snapshot.
+     * @param screenX  The X-coordinate on the screen where the player should be rendered.
+     * @param screenY  The Y-coordinate on the screen where the player should be rendered.
      */
-    public void renderPlayer(final Graphics g, final Player player, int screenX, int screenY) {
-        if (!texturesOn) {
+    public void renderPlayer(final Graphics g, final RenderSnapshot snapshot, final int i, int screenX, int screenY) {
+        if (!drawTextures()) {
             g.setColor(Color.blue);
-            if (!player.isOnGround()) g.fillRect(screenX, screenY, player.getWidth() - 5, player.getHeight() + 5);
-            else g.fillRect(screenX, screenY, player.getWidth(), player.getHeight());
+            final int width = snapshot.getEntityWidth(i);
+            final int height = snapshot.getEntityHeight(i);
+            if (!snapshot.isOnGround(i)) g.fillRect(screenX, screenY, width - PLAYER_AIR_EXTRA_HEIGHT, height + PLAYER_AIR_EXTRA_HEIGHT);
+            else g.fillRect(screenX, screenY, width, height);
         } else {
-            g.drawImage(getCurrentTexture(player), screenX, screenY, TILE_SIZE, TILE_SIZE, null);
+            textures.draw(g, snapshot.getEntityTexture(i), screenX, screenY, TILE_SIZE, TILE_SIZE);
         }
     }
-
-    /**
-     * Retrieves the current texture for the player based on their animation state.
-     *
-     * @param player The player entity.
-     * @return The {@link BufferedImage} representing the player's current texture.
-     */
-    private BufferedImage getCurrentTexture(Player player) {
-        return player.getTexture(player.getCurrentAnimationState());
-    }
 }
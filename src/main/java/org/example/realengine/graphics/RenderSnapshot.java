@@ -0,0 +1,432 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.entity.Entity;
+import org.example.realengine.entity.Player;
+import org.example.realengine.map.RMap;
+import org.example.realengine.map.TileChangeLog;
+import org.example.realengine.object.EObject;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>An immutable-while-read copy of everything the {@link Render} needs to draw one frame:
+ * the camera, the position, size and current texture of every entity, and a copy of the collision map
+ * with the {@link RMap#getEdgeMask(int, int) edge masks} of its cells.</p>
+ * <p>Snapshots are pooled by a {@link RenderSnapshotBuffer} and refilled in place, so capturing allocates nothing
+ * once the arrays have grown to the number of entities. The copy of the collision map is kept up to date by replaying
+ * the map's {@link TileChangeLog} since this snapshot was last filled, and copied in full only for a new map
+ * or when too many changes happened in between.</p>
+ * <p>The visual tile layer, the path and the size of the map are not copied, because they do not change after loading.</p>
+ */
+public final class RenderSnapshot {
+    /**
+     * Initial capacity of the entity arrays.
+     */
+    private static final int INITIAL_ENTITIES = 64;
+    /**
+     * The map the snapshot was captured from, or {@code null} if nothing was captured yet.
+     */
+    private RMap map;
+    /**
+     * Copy of the map's collision map.
+     */
+    private EObject[][] tiles;
+    /**
+     * Copy of the map's edge masks.
+     */
+    private byte[][] edgeMasks;
+    /**
+     * The {@link TileChangeLog} sequence {@link #tiles} is up to date with.
+     */
+    private long tileSequence;
+    /**
+     * The {@link TileChangeLog} generation {@link #tiles} is up to date with.
+     */
+    private long tileGeneration;
+    /**
+     * For every {@link TileChunkCache#CHUNK_SIZE chunk} of {@link #tiles}, the {@link TileChangeLog} sequence
+     * after the last change to one of its cells or to a cell next to it, since that changes the edge masks,
+     * or after the last full copy if that is later.
+     * Two snapshots of the same map generation showing the same stamp for a chunk show the same cells in it.
+     */
+    private long[] chunkStamps = new long[0];
+    /**
+     * The number of chunk columns in {@link #chunkStamps}.
+     */
+    private int chunkColumns;
+    /**
+     * The number of cells copied in the last capture, for diagnostics.
+     */
+    private int copiedTiles;
+    /**
+     * The fraction of a tick elapsed since the last simulation step.
+     */
+    private float alpha;
+    /**
+     * The camera position before and after the last tick.
+     */
+    private float cameraPrevX, cameraPrevY, cameraX, cameraY;
+    /**
+     * The size of the camera's viewport.
+     */
+    private int screenWidth, screenHeight;
+    /**
+     * The zoom factor of the camera.
+     */
+    private float zoom = 1;
+    /**
+     * The number of captured entities.
+     */
+    private int entityCount;
+    /**
+     * The entity positions before and after the last tick.
+     */
+    private float[] prevX = new float[INITIAL_ENTITIES], prevY = new float[INITIAL_ENTITIES],
+            x = new float[INITIAL_ENTITIES], y = new float[INITIAL_ENTITIES];
+    /**
+     * The entity sizes.
+     */
+    private int[] width = new int[INITIAL_ENTITIES], height = new int[INITIAL_ENTITIES];
+    /**
+     * The texture of each entity's current animation state, or {@code null}.
+     */
+    private BufferedImage[] texture = new BufferedImage[INITIAL_ENTITIES];
+    /**
+     * The entity types.
+     */
+    private String[] type = new String[INITIAL_ENTITIES];
+    /**
+     * Flags marking the player.
+     */
+    private boolean[] player = new boolean[INITIAL_ENTITIES];
+    /**
+     * Flags marking entities standing on the ground.
+     */
+    private boolean[] onGround = new boolean[INITIAL_ENTITIES];
+
+    /**
+     * Package-private constructor, snapshots are created by {@link RenderSnapshotBuffer}.
+     */
+    RenderSnapshot() {
+    }
+
+    /**
+     * Fills this snapshot from the live game state. Must be called on the thread that simulates the map.
+     *
+     * @param map    The map to capture.
+     * @param camera The camera to capture.
+     * @param alpha  The fraction of a tick elapsed since the last simulation step.
+     */
+    void capture(RMap map, Camera camera, float alpha) {
+        this.alpha = alpha;
+        this.cameraPrevX = camera.getRenderX(0);
+        this.cameraPrevY = camera.getRenderY(0);
+        this.cameraX = camera.getX();
+        this.cameraY = camera.getY();
+        this.screenWidth = camera.getScreenWidth();
+        this.screenHeight = camera.getScreenHeight();
+        this.zoom = camera.getZoom();
+        captureTiles(map);
+        captureEntities(map.getEntities());
+    }
+
+    /**
+     * Brings the copy of the collision map up to date, by replaying the change log if possible.
+     *
+     * @param source The map to copy.
+     */
+    private void captureTiles(RMap source) {
+        final TileChangeLog log = source.getChangeLog();
+        final EObject[][] collisionMap = source.getCollisionMap();
+        if (source == map && tiles != null && log.canReplay(tileSequence, tileGeneration)) {
+            copiedTiles = (int) (log.getSequence() - tileSequence);
+            for (long s = tileSequence; s < log.getSequence(); s++) {
+                final int column = log.getX(s);
+                final int row = log.getY(s);
+                tiles[column][row] = log.getObject(s);
+                final int fromX = Math.max(0, column - 1);
+                final int fromY = Math.max(0, row - 1);
+                final int toX = Math.min(tiles.length - 1, column + 1);
+                final int toY = Math.min(tiles[0].length - 1, row + 1);
+                for (int x = fromX; x <= toX; x++) {
+                    for (int y = fromY; y <= toY; y++) {
+                        edgeMasks[x][y] = (byte) source.getEdgeMask(x, y);
+                    }
+                }
+                for (int chunkY = fromY / TileChunkCache.CHUNK_SIZE; chunkY <= toY / TileChunkCache.CHUNK_SIZE; chunkY++) {
+                    for (int chunkX = fromX / TileChunkCache.CHUNK_SIZE; chunkX <= toX / TileChunkCache.CHUNK_SIZE; chunkX++) {
+                        chunkStamps[chunkY * chunkColumns + chunkX] = s + 1;
+                    }
+                }
+            }
+        } else {
+            if (tiles == null || tiles.length != source.getWidth() || tiles[0].length != source.getHeight()) {
+                tiles = new EObject[source.getWidth()][source.getHeight()];
+                edgeMasks = new byte[source.getWidth()][source.getHeight()];
+                chunkColumns = Math.ceilDiv(source.getWidth(), TileChunkCache.CHUNK_SIZE);
+                chunkStamps = new long[chunkColumns * Math.ceilDiv(source.getHeight(), TileChunkCache.CHUNK_SIZE)];
+            }
+            for (int column = 0; column < tiles.length; column++) {
+                System.arraycopy(collisionMap[column], 0, tiles[column], 0, tiles[column].length);
+                for (int row = 0; row < tiles[column].length; row++) {
+                    edgeMasks[column][row] = (byte) source.getEdgeMask(column, row);
+                }
+            }
+            Arrays.fill(chunkStamps, log.getSequence());
+            copiedTiles = source.getWidth() * source.getHeight();
+        }
+        map = source;
+        tileSequence = log.getSequence();
+        tileGeneration = log.getGeneration();
+    }
+
+    /**
+     * Copies the position, size and current texture of every entity.
+     *
+     * @param entities The entities of the map.
+     */
+    private void captureEntities(List<Entity> entities) {
+        final int count = entities.size();
+        if (count > x.length) {
+            grow(Math.max(count, x.length * 2));
+        }
+        for (int i = 0; i < count; i++) {
+            final Entity entity = entities.get(i);
+            prevX[i] = entity.getRenderX(0);
+            prevY[i] = entity.getRenderY(0);
+            x[i] = entity.getX();
+            y[i] = entity.getY();
+            width[i] = entity.getWidth();
+            height[i] = entity.getHeight();
+            texture[i] = entity.getTexture(entity.getCurrentAnimationState());
+            type[i] = entity.getType();
+            player[i] = entity instanceof Player;
+            onGround[i] = entity.isOnGround();
+        }
+        Arrays.fill(texture, count, Math.max(count, entityCount), null);
+        entityCount = count;
+    }
+
+    /**
+     * Enlarges the entity arrays.
+     *
+     * @param capacity The new capacity.
+     */
+    private void grow(int capacity) {
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        texture = Arrays.copyOf(texture, capacity);
+        type = Arrays.copyOf(type, capacity);
+        player = Arrays.copyOf(player, capacity);
+        onGround = Arrays.copyOf(onGround, capacity);
+    }
+
+    /**
+     * Returns whether anything has been captured yet.
+     *
+     * @return {@code true} if the snapshot holds no frame.
+     */
+    public boolean isEmpty() {
+        return map == null;
+    }
+
+    /**
+     * Returns the map the snapshot was captured from. Only its immutable parts (tile layer, path, size) may be read.
+     *
+     * @return The captured map.
+     */
+    public RMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the copy of the collision map.
+     *
+     * @return The collision map as it was at capture time.
+     */
+    public EObject[][] getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Returns the edge mask of a cell as it was at capture time.
+     *
+     * @param x The cell column.
+     * @param y The cell row.
+     * @return The mask, see {@link RMap#getEdgeMask(int, int)}.
+     */
+    public int getEdgeMask(int x, int y) {
+        return edgeMasks[x][y];
+    }
+
+    /**
+     * Returns the number of collision map cells copied by the last capture.
+     *
+     * @return The number of replayed changes, or the size of the map after a full copy.
+     */
+    public int getCopiedTiles() {
+        return copiedTiles;
+    }
+
+    /**
+     * Returns the {@link TileChangeLog} generation the copy of the collision map belongs to.
+     *
+     * @return The map generation.
+     */
+    public long getTileGeneration() {
+        return tileGeneration;
+    }
+
+    /**
+     * Returns the stamp of a chunk of the collision map. The stamp changes whenever a cell in the chunk
+     * or next to it changes,
+     * so an image baked from the chunk stays valid as long as the stamp and {@link #getTileGeneration()} stay the same.
+     *
+     * @param chunkX The chunk column.
+     * @param chunkY The chunk row.
+     * @return The stamp of the chunk.
+     */
+    public long getChunkStamp(int chunkX, int chunkY) {
+        return chunkStamps[chunkY * chunkColumns + chunkX];
+    }
+
+    /**
+     * Returns the interpolated X-coordinate of the camera.
+     *
+     * @return The camera X-coordinate to draw with.
+     */
+    public float getCameraX() {
+        return cameraPrevX + (cameraX - cameraPrevX) * alpha;
+    }
+
+    /**
+     * Returns the interpolated Y-coordinate of the camera.
+     *
+     * @return The camera Y-coordinate to draw with.
+     */
+    public float getCameraY() {
+        return cameraPrevY + (cameraY - cameraPrevY) * alpha;
+    }
+
+    /**
+     * Returns the width of the camera's viewport.
+     *
+     * @return The screen width.
+     */
+    public int getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * Returns the height of the camera's viewport.
+     *
+     * @return The screen height.
+     */
+    public int getScreenHeight() {
+        return screenHeight;
+    }
+
+    /**
+     * Returns the zoom factor of the camera: how many screen pixels one world pixel covers.
+     *
+     * @return The zoom factor.
+     */
+    public float getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Returns the number of captured entities.
+     *
+     * @return The entity count.
+     */
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Returns the interpolated X-coordinate of an entity.
+     *
+     * @param i The index of the entity.
+     * @return The X-coordinate to draw with.
+     */
+    public float getEntityX(int i) {
+        return prevX[i] + (x[i] - prevX[i]) * alpha;
+    }
+
+    /**
+     * Returns the interpolated Y-coordinate of an entity.
+     *
+     * @param i The index of the entity.
+     * @return The Y-coordinate to draw with.
+     */
+    public float getEntityY(int i) {
+        return prevY[i] + (y[i] - prevY[i]) * alpha;
+    }
+
+    /**
+     * Returns the width of an entity.
+     *
+     * @param i The index of the entity.
+     * @return The width in pixels.
+     */
+    public int getEntityWidth(int i) {
+        return width[i];
+    }
+
+    /**
+     * Returns the height of an entity.
+     *
+     * @param i The index of the entity.
+     * @return The height in pixels.
+     */
+    public int getEntityHeight(int i) {
+        return height[i];
+    }
+
+    /**
+     * Returns the texture of an entity's animation state at capture time.
+     *
+     * @param i The index of the entity.
+     * @return The texture, or {@code null} if the entity has none.
+     */
+    public BufferedImage getEntityTexture(int i) {
+        return texture[i];
+    }
+
+    /**
+     * Returns the type of an entity.
+     *
+     * @param i The index of the entity.
+     * @return The entity type, e.g. {@code "enemy"}.
+     */
+    public String getEntityType(int i) {
+        return type[i];
+    }
+
+    /**
+     * Returns whether an entity is the player.
+     *
+     * @param i The index of the entity.
+     * @return {@code true} for the player.
+     */
+    public boolean isPlayer(int i) {
+        return player[i];
+    }
+
+    /**
+     * Returns whether an entity stood on the ground at capture time.
+     *
+     * @param i The index of the entity.
+     * @return {@code true} if the entity was on the ground.
+     */
+    public boolean isOnGround(int i) {
+        return onGround[i];
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Hands {@link RenderSnapshot}s from the game thread to the render thread without locks (triple buffering).</p>
+ * <p>Of the three pooled snapshots, the writer owns one, the reader owns one, and the third holds the most
+ * recently published frame. Publishing and acquiring swap the owned snapshot with the shared one in a single atomic
+ * operation, so neither thread ever waits: the writer can capture tick N+1 while the reader still draws tick N,
+ * and a reader that falls behind simply skips to the newest frame.</p>
+ * <p>There must be exactly one writer thread and one reader thread.</p>
+ */
+public final class RenderSnapshotBuffer {
+    /**
+     * Bit set in {@link #shared} when it holds a frame the reader has not seen yet.
+     */
+    private static final int FRESH = 4;
+    /**
+     * Mask extracting the slot index from {@link #shared}.
+     */
+    private static final int INDEX_MASK = 3;
+    /**
+     * The three pooled snapshots.
+     */
+    private final RenderSnapshot[] slots = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    /**
+     * The index of the snapshot between the threads, possibly with the {@link #FRESH} bit.
+     */
+    private final AtomicInteger shared = new AtomicInteger(1);
+    /**
+     * The index of the snapshot owned by the writer.
+     */
+    private int back = 0;
+    /**
+     * The index of the snapshot owned by the reader.
+     */
+    private int front = 2;
+
+    /**
+     * Captures the current game state into the writer's snapshot and publishes it. Called by the game thread.
+     *
+     * @param map    The map to capture.
+     * @param camera The camera to capture.
+     * @param alpha  The fraction of a tick elapsed since the last simulation step.
+     */
+    public void publish(RMap map, Camera camera, float alpha) {
+        slots[back].capture(map, camera, alpha);
+        back = shared.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the most recently published snapshot. Called by the render thread.
+     * The snapshot stays valid and unchanged until the next call.
+     *
+     * @return The newest snapshot, which {@link RenderSnapshot#isEmpty() is empty} before the first publish.
+     */
+    public RenderSnapshot acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            front = shared.getAndSet(front) & INDEX_MASK;
+        }
+        return slots[front];
+    }
+}
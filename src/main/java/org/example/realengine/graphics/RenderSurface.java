@@ -0,0 +1,31 @@
+package org.example.realengine.graphics;
+
+import java.awt.*;
+
+/**
+ * <p>Something a frame can be drawn on, independent of where it ends up: a window, a back buffer or an image.</p>
+ * <p>{@link Render#renderScene(RenderSurface, RenderSnapshot)} draws a whole scene on a surface, which lets frames be
+ * rendered without any window, e.g. by the {@link OffscreenRenderer} under {@code java.awt.headless}.</p>
+ */
+public interface RenderSurface {
+    /**
+     * Returns the width of the surface.
+     *
+     * @return The width in pixels.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the surface.
+     *
+     * @return The height in pixels.
+     */
+    int getHeight();
+
+    /**
+     * Creates a graphics context drawing on the surface. The caller disposes it.
+     *
+     * @return The new graphics context.
+     */
+    Graphics2D createGraphics();
+}
@@ -0,0 +1,236 @@
+package org.example.realengine.graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Keeps a copy of every texture converted to the {@link GraphicsConfiguration} it is drawn to and
+ * pre-scaled to the exact size it is drawn at, so drawing it is a plain unscaled blit
+ * instead of a scaled draw from whatever color model the PNG was loaded in.</p>
+ * <p>Each copy is created as {@link Transparency#OPAQUE}, {@link Transparency#BITMASK} or
+ * {@link Transparency#TRANSLUCENT} depending on the alpha values actually used by the texture,
+ * which lets the pipeline skip blending for opaque tiles. Scaling uses nearest neighbour,
+ * like the scaled {@code drawImage} it replaces, so the output is pixel-identical.</p>
+ * <p>Copies are kept per configuration, so moving the window to another display or baking into an offscreen image
+ * creates new copies instead of drawing mismatched ones, and are rebuilt when requested at another size.
+ * The cache must only be used by one drawing thread at a time.</p>
+ * <p>If atlas textures are given, they are packed into a {@link TextureAtlas} per configuration on first use and drawn
+ * from its pages; other textures, or textures drawn at another size, fall back to individual copies.</p>
+ */
+public final class ScaledTextureCache {
+    /**
+     * The number of graphics configurations copies are kept for, e.g. the screen and the chunk images.
+     */
+    private static final int MAX_CONFIGURATIONS = 4;
+    /**
+     * The copies of each texture, per graphics configuration, keyed by the identity of the source texture.
+     */
+    private final Map<GraphicsConfiguration, Copies> configurations =
+            new LinkedHashMap<>(MAX_CONFIGURATIONS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<GraphicsConfiguration, Copies> eldest) {
+                    return size() > MAX_CONFIGURATIONS;
+                }
+            };
+    /**
+     * The paths of the textures packed into an atlas, empty for no atlas.
+     */
+    private final List<String> atlasTextures;
+    /**
+     * The size the atlas textures are scaled to.
+     */
+    private final int atlasTileSize;
+    /**
+     * The configuration of the last lookup, to skip the outer map lookup on nearly every call.
+     */
+    private GraphicsConfiguration lastConfiguration;
+    /**
+     * The copies for {@link #lastConfiguration}.
+     */
+    private Copies lastCopies;
+    /**
+     * The number of copies created, for diagnostics.
+     */
+    private long conversions;
+
+    /**
+     * Constructs a new {@code ScaledTextureCache} without an atlas.
+     */
+    public ScaledTextureCache() {
+        this(List.of(), 0);
+    }
+
+    /**
+     * Constructs a new {@code ScaledTextureCache} drawing the given textures from an atlas.
+     *
+     * @param atlasTextures The paths of the textures to pack.
+     * @param atlasTileSize The size the atlas textures are scaled to.
+     */
+    public ScaledTextureCache(List<String> atlasTextures, int atlasTileSize) {
+        this.atlasTextures = List.copyOf(atlasTextures);
+        this.atlasTileSize = atlasTileSize;
+    }
+
+    /**
+     * Draws a texture scaled to the given size, using its cached copy if the graphics context has a
+     * device configuration, or a scaled draw otherwise.
+     *
+     * @param g       The graphics context to draw on.
+     * @param texture The texture to draw, may be {@code null}.
+     * @param x       The X-coordinate of the top-left corner.
+     * @param y       The Y-coordinate of the top-left corner.
+     * @param width   The width to draw the texture at.
+     * @param height  The height to draw the texture at.
+     */
+    public void draw(Graphics g, BufferedImage texture, int x, int y, int width, int height) {
+        if (texture == null) {
+            return;
+        }
+        if (g instanceof Graphics2D g2) {
+            final Copies copies = copiesFor(g2.getDeviceConfiguration());
+            if (copies.atlas != null && width == atlasTileSize && height == atlasTileSize
+                    && copies.atlas.draw(g, texture, x, y)) {
+                return;
+            }
+            g.drawImage(get(g2.getDeviceConfiguration(), texture, width, height), x, y, null);
+        } else {
+            g.drawImage(texture, x, y, width, height, null);
+        }
+    }
+
+    /**
+     * Returns the copy of a texture for a graphics configuration and size, creating it on first use.
+     *
+     * @param configuration The configuration of the destination.
+     * @param texture       The source texture.
+     * @param width         The width to scale to.
+     * @param height        The height to scale to.
+     * @return The compatible, pre-scaled copy.
+     */
+    public Image get(GraphicsConfiguration configuration, BufferedImage texture, int width, int height) {
+        final Map<BufferedImage, BufferedImage> singles = copiesFor(configuration).singles;
+        BufferedImage scaled = singles.get(texture);
+        if (scaled == null || scaled.getWidth() != width || scaled.getHeight() != height) {
+            scaled = convert(configuration, texture, width, height);
+            singles.put(texture, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * Returns the atlas for a graphics configuration, building it on first use.
+     *
+     * @param configuration The configuration of the destination.
+     * @return The atlas, or {@code null} if this cache has no atlas textures.
+     */
+    public TextureAtlas getAtlas(GraphicsConfiguration configuration) {
+        return copiesFor(configuration).atlas;
+    }
+
+    /**
+     * Returns the copies for a graphics configuration, creating the atlas on first use.
+     *
+     * @param configuration The configuration of the destination.
+     * @return The copies.
+     */
+    private Copies copiesFor(GraphicsConfiguration configuration) {
+        if (configuration != lastConfiguration) {
+            lastCopies = configurations.computeIfAbsent(configuration, _ -> new Copies(atlasTextures.isEmpty() ? null
+                    : TextureAtlas.build(configuration, atlasTextures, atlasTileSize)));
+            lastConfiguration = configuration;
+        }
+        return lastCopies;
+    }
+
+    /**
+     * Drops all copies, e.g. after the display mode changed.
+     */
+    public void clear() {
+        configurations.clear();
+        lastConfiguration = null;
+        lastCopies = null;
+    }
+
+    /**
+     * Returns the number of copies created so far.
+     *
+     * @return The number of conversions.
+     */
+    public long getConversions() {
+        return conversions;
+    }
+
+    /**
+     * Creates a compatible copy of a texture, scaled with nearest neighbour.
+     *
+     * @param configuration The configuration of the destination.
+     * @param texture       The source texture.
+     * @param width         The width to scale to.
+     * @param height        The height to scale to.
+     * @return The new copy.
+     */
+    private BufferedImage convert(GraphicsConfiguration configuration, BufferedImage texture, int width, int height) {
+        conversions++;
+        final BufferedImage image = configuration.createCompatibleImage(width, height, transparencyOf(texture));
+        final Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(texture, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Determines the transparency a texture actually needs by scanning its alpha values.
+     *
+     * @param texture The texture to scan.
+     * @return {@link Transparency#OPAQUE} if every pixel is opaque, {@link Transparency#BITMASK}
+     * if every pixel is either opaque or fully transparent, {@link Transparency#TRANSLUCENT} otherwise.
+     */
+    static int transparencyOf(BufferedImage texture) {
+        if (!texture.getColorModel().hasAlpha()) {
+            return Transparency.OPAQUE;
+        }
+        int transparency = Transparency.OPAQUE;
+        for (int y = 0; y < texture.getHeight(); y++) {
+            for (int x = 0; x < texture.getWidth(); x++) {
+                final int alpha = texture.getRGB(x, y) >>> 24;
+                if (alpha == 0) {
+                    transparency = Transparency.BITMASK;
+                } else if (alpha != 0xFF) {
+                    return Transparency.TRANSLUCENT;
+                }
+            }
+        }
+        return transparency;
+    }
+
+    /**
+     * The atlas and the individual copies for one graphics configuration.
+     */
+    private static final class Copies {
+        /**
+         * The atlas, or {@code null}.
+         */
+        private final TextureAtlas atlas;
+        /**
+         * The individual copies, keyed by the identity of the source texture.
+         */
+        private final Map<BufferedImage, BufferedImage> singles = new IdentityHashMap<>();
+
+        /**
+         * Constructs new {@code Copies}.
+         *
+         * @param atlas The atlas, or {@code null}.
+         */
+        private Copies(TextureAtlas atlas) {
+            this.atlas = atlas;
+        }
+    }
+}
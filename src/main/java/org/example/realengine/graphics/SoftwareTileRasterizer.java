@@ -0,0 +1,433 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.game.EFramePhase;
+import org.example.realengine.game.FrameProfiler;
+import org.example.realengine.map.ETile;
+import org.example.realengine.map.RMap;
+import org.example.realengine.object.EObject;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>An alternative to drawing the map with one Java2D {@code drawImage} per tile: the visible tile window is
+ * written straight into the {@code int[]} pixels of a framebuffer by copying rows of pre-scaled textures,
+ * and the framebuffer is presented with a single {@code drawImage}.</p>
+ * <p>Every frame, the visible cells are first resolved on the calling thread into a plan of texture pixels and
+ * colors. The screen is then split into horizontal strips that are rasterized in parallel on a {@link ForkJoinPool};
+ * strips never share pixels, so no synchronization is needed. Opaque texture rows are copied with
+ * {@link System#arraycopy}, textures with fully transparent pixels skip them, and translucent ones are blended.</p>
+ * <p>The background is drawn into the framebuffer with Java2D before the tiles. The framebuffer is
+ * {@link BufferedImage#TYPE_INT_RGB}; without a background it is {@link BufferedImage#TYPE_INT_ARGB} cleared to
+ * transparent, so whatever was drawn below the map still shows through.</p>
+ * <p>On a single core it is not faster than Java2D: {@code RasterBenchmark} measures it at 0.6-0.95x the
+ * tile-by-tile path at 1080p and 0.4-1.1x at 4K, where presenting the full framebuffer dominates. It can only pay
+ * off when the strips run on several cores.</p>
+ * <p>The rasterizer must only be used by one drawing thread at a time.</p>
+ */
+public final class SoftwareTileRasterizer implements AutoCloseable {
+    /**
+     * Strips with at most this many rows are rasterized by a single task.
+     */
+    private static final int STRIP_ROWS = 32;
+    /**
+     * No tile drawn in a cell.
+     */
+    private static final byte NONE = 0;
+    /**
+     * A texture without transparent pixels, copied row by row.
+     */
+    private static final byte OPAQUE = 1;
+    /**
+     * A texture with only opaque and fully transparent pixels.
+     */
+    private static final byte BITMASK = 2;
+    /**
+     * A texture with partially transparent pixels, blended.
+     */
+    private static final byte TRANSLUCENT = 3;
+    /**
+     * A solid color, used when textures are off.
+     */
+    private static final byte FLAT = 4;
+    /**
+     * The pool the strips are rasterized on.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The tile of every collision object, for the solid colors.
+     */
+    private final Map<EObject, ETile> tiles;
+    /**
+     * The pixels of every texture scaled to {@code TILE_SIZE}, keyed by the identity of the source texture.
+     */
+    private final Map<BufferedImage, int[]> texturePixels = new IdentityHashMap<>();
+    /**
+     * The mode of every texture in {@link #texturePixels}.
+     */
+    private final Map<BufferedImage, Byte> textureModes = new IdentityHashMap<>();
+    /**
+     * The opaque framebuffer used with a background, and the transparent one used without.
+     */
+    private BufferedImage opaqueFrame, transparentFrame;
+    /**
+     * The visible cells of the current frame, row by row: what to draw, the texture pixels and the solid color.
+     */
+    private byte[] cellModes = new byte[0];
+    /**
+     * The texture pixels of every planned cell.
+     */
+    private int[][] cellPixels = new int[0][];
+    /**
+     * The solid color of every planned cell.
+     */
+    private int[] cellColors = new int[0];
+
+    /**
+     * Constructs a new {@code SoftwareTileRasterizer} with its own pool.
+     *
+     * @param parallelism The number of worker threads.
+     * @param tiles       The tile of every collision object, for the solid colors.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public SoftwareTileRasterizer(int parallelism, Map<EObject, ETile> tiles) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.tiles = tiles;
+    }
+
+    /**
+     * Draws the background and the map tiles within an area of the screen.
+     *
+     * @param g          The graphics context to present to.
+     * @param snapshot   The captured game state.
+     * @param area       The area of the screen to draw.
+     * @param background Draws the background into the framebuffer, or {@code null} for no background.
+     * @param textured   If true, tiles are drawn with textures, otherwise with solid colors.
+     * @param autoTiles  The edge variants textures are drawn with, or {@code null} for the base textures.
+     * @param profiler   The profiler timing the background and the map.
+     */
+    public void render(Graphics2D g, RenderSnapshot snapshot, Rectangle area, BackgroundPainter background,
+                       boolean textured, AutoTileSet autoTiles, FrameProfiler profiler) {
+        if (area.width <= 0 || area.height <= 0) {
+            return;
+        }
+        long start = profiler.start();
+        final BufferedImage frame = frame(snapshot.getScreenWidth(), snapshot.getScreenHeight(), background != null);
+        final Graphics2D frameGraphics = frame.createGraphics();
+        try {
+            frameGraphics.setClip(area.x, area.y, area.width, area.height);
+            if (background != null) {
+                background.paint(frameGraphics, snapshot);
+            } else {
+                frameGraphics.setComposite(AlphaComposite.Clear);
+                frameGraphics.fillRect(area.x, area.y, area.width, area.height);
+            }
+        } finally {
+            frameGraphics.dispose();
+        }
+        profiler.stop(EFramePhase.RENDER_BACKGROUND, start);
+        start = profiler.start();
+        final float camX = snapshot.getCameraX();
+        final float camY = snapshot.getCameraY();
+        final RMap map = snapshot.getMap();
+        final int startX = Math.max(0, (int) ((camX + area.x) / TILE_SIZE));
+        final int startY = Math.max(0, (int) ((camY + area.y) / TILE_SIZE));
+        final int endX = Math.min(map.getWidth(), (int) ((camX + area.x + area.width) / TILE_SIZE) + 1);
+        final int endY = Math.min(map.getHeight(), (int) ((camY + area.y + area.height) / TILE_SIZE) + 1);
+        if (endX > startX && endY > startY) {
+            plan(snapshot, startX, startY, endX, endY, textured, autoTiles);
+            final int[] pixels = ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+            pool.invoke(new StripTask(new Frame(pixels, frame.getWidth(), background == null, area,
+                    startX, startY, endX, endY, camX, camY), area.y, area.y + area.height));
+        }
+        g.drawImage(frame, area.x, area.y, area.x + area.width, area.y + area.height,
+                area.x, area.y, area.x + area.width, area.y + area.height, null);
+        profiler.stop(EFramePhase.RENDER_MAP, start);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return The parallelism of the pool.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns the framebuffer for the screen size, creating it if the size changed.
+     *
+     * @param width  The screen width.
+     * @param height The screen height.
+     * @param opaque If true, the opaque framebuffer is returned, otherwise the transparent one.
+     * @return The framebuffer.
+     */
+    private BufferedImage frame(int width, int height, boolean opaque) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        BufferedImage frame = opaque ? opaqueFrame : transparentFrame;
+        if (frame == null || frame.getWidth() != width || frame.getHeight() != height) {
+            frame = new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            if (opaque) {
+                opaqueFrame = frame;
+            } else {
+                transparentFrame = frame;
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * Resolves the visible cells into modes, texture pixels and colors, so the workers only read plain arrays.
+     *
+     * @param snapshot  The captured game state.
+     * @param startX    The first tile column, inclusive.
+     * @param startY    The first tile row, inclusive.
+     * @param endX      The last tile column, exclusive.
+     * @param endY      The last tile row, exclusive.
+     * @param textured  If true, tiles are drawn with textures, otherwise with solid colors.
+     * @param autoTiles The edge variants textures are drawn with, or {@code null} for the base textures.
+     */
+    private void plan(RenderSnapshot snapshot, int startX, int startY, int endX, int endY, boolean textured,
+                      AutoTileSet autoTiles) {
+        final int columns = endX - startX;
+        final int cells = columns * (endY - startY);
+        if (cellModes.length < cells) {
+            cellModes = new byte[cells];
+            cellPixels = new int[cells][];
+            cellColors = new int[cells];
+        }
+        final EObject[][] collisionMap = snapshot.getTiles();
+        final ETile[][] layer = snapshot.getMap().getLayer();
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                final int cell = (y - startY) * columns + x - startX;
+                final EObject object = collisionMap[x][y];
+                cellModes[cell] = NONE;
+                cellPixels[cell] = null;
+                if (object == null || object == EObject.EMPTY || object == EObject.PLAYER_SPAWN || object == EObject.ENEMY_SPAWN) {
+                    continue;
+                }
+                if (!textured) {
+                    cellModes[cell] = FLAT;
+                    cellColors[cell] = tiles.get(object).getColor().getRGB();
+                    continue;
+                }
+                final BufferedImage base = layer[x][y].getTexture();
+                final BufferedImage texture = autoTiles == null ? base : autoTiles.get(base, snapshot.getEdgeMask(x, y));
+                if (texture != null) {
+                    cellPixels[cell] = pixelsOf(texture);
+                    cellModes[cell] = textureModes.get(texture);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pixels of a texture scaled to {@code TILE_SIZE} with nearest neighbour, converting it on first use.
+     *
+     * @param texture The source texture.
+     * @return The ARGB pixels, row by row.
+     */
+    private int[] pixelsOf(BufferedImage texture) {
+        int[] pixels = texturePixels.get(texture);
+        if (pixels == null) {
+            final BufferedImage scaled = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D g = scaled.createGraphics();
+            try {
+                g.setComposite(AlphaComposite.Src);
+                g.drawImage(texture, 0, 0, TILE_SIZE, TILE_SIZE, null);
+            } finally {
+                g.dispose();
+            }
+            pixels = scaled.getRGB(0, 0, TILE_SIZE, TILE_SIZE, null, 0, TILE_SIZE);
+            texturePixels.put(texture, pixels);
+            textureModes.put(texture, switch (ScaledTextureCache.transparencyOf(texture)) {
+                case Transparency.OPAQUE -> OPAQUE;
+                case Transparency.BITMASK -> BITMASK;
+                default -> TRANSLUCENT;
+            });
+        }
+        return pixels;
+    }
+
+    /**
+     * Everything a strip task needs about the frame being rasterized.
+     *
+     * @param pixels      The framebuffer pixels.
+     * @param width       The framebuffer width.
+     * @param transparent If true, the framebuffer is cleared to transparent and texture pixels are copied unblended.
+     * @param area        The area of the screen to draw.
+     * @param startX      The first planned tile column.
+     * @param startY      The first planned tile row.
+     * @param endX        The last planned tile column, exclusive.
+     * @param endY        The last planned tile row, exclusive.
+     * @param camX        The camera X-coordinate.
+     * @param camY        The camera Y-coordinate.
+     */
+    private record Frame(int[] pixels, int width, boolean transparent, Rectangle area,
+                         int startX, int startY, int endX, int endY, float camX, float camY) {
+    }
+
+    /**
+     * Rasterizes a range of framebuffer rows, splitting it in halves until it is at most {@link #STRIP_ROWS} high.
+     */
+    private final class StripTask extends RecursiveAction {
+        /**
+         * The frame being rasterized.
+         */
+        private final Frame frame;
+        /**
+         * The first row of the strip, inclusive.
+         */
+        private final int from;
+        /**
+         * The end of the strip, exclusive.
+         */
+        private final int to;
+
+        /**
+         * Constructs a new {@code StripTask}.
+         *
+         * @param frame The frame being rasterized.
+         * @param from  The first row of the strip, inclusive.
+         * @param to    The end of the strip, exclusive.
+         */
+        private StripTask(Frame frame, int from, int to) {
+            this.frame = frame;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Rasterizes the strip, or forks both halves.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > STRIP_ROWS) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new StripTask(frame, from, middle), new StripTask(frame, middle, to));
+                return;
+            }
+            final int columns = frame.endX() - frame.startX();
+            final int left = frame.area().x;
+            final int right = left + frame.area().width;
+            for (int y = frame.startY(); y < frame.endY(); y++) {
+                final int top = (int) (y * TILE_SIZE - frame.camY());
+                final int rowFrom = Math.max(from, top);
+                final int rowTo = Math.min(to, top + TILE_SIZE);
+                if (rowFrom >= rowTo) {
+                    continue;
+                }
+                for (int x = frame.startX(); x < frame.endX(); x++) {
+                    final int cell = (y - frame.startY()) * columns + x - frame.startX();
+                    final byte mode = cellModes[cell];
+                    if (mode == NONE) {
+                        continue;
+                    }
+                    final int tileLeft = (int) (x * TILE_SIZE - frame.camX());
+                    final int columnFrom = Math.max(left, tileLeft);
+                    final int columnTo = Math.min(right, tileLeft + TILE_SIZE);
+                    if (columnFrom < columnTo) {
+                        drawCell(mode, cell, tileLeft, top, columnFrom, columnTo, rowFrom, rowTo);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Writes the visible part of one cell into the framebuffer.
+         *
+         * @param mode       How the cell is drawn.
+         * @param cell       The index of the cell in the plan.
+         * @param tileLeft   The screen X-coordinate of the tile.
+         * @param tileTop    The screen Y-coordinate of the tile.
+         * @param columnFrom The first screen column to write, inclusive.
+         * @param columnTo   The last screen column to write, exclusive.
+         * @param rowFrom    The first screen row to write, inclusive.
+         * @param rowTo      The last screen row to write, exclusive.
+         */
+        private void drawCell(byte mode, int cell, int tileLeft, int tileTop, int columnFrom, int columnTo, int rowFrom, int rowTo) {
+            final int[] pixels = frame.pixels();
+            final int length = columnTo - columnFrom;
+            if (mode == FLAT) {
+                for (int row = rowFrom; row < rowTo; row++) {
+                    final int offset = row * frame.width() + columnFrom;
+                    Arrays.fill(pixels, offset, offset + length, cellColors[cell]);
+                }
+                return;
+            }
+            final int[] source = cellPixels[cell];
+            for (int row = rowFrom; row < rowTo; row++) {
+                final int sourceOffset = (row - tileTop) * TILE_SIZE + columnFrom - tileLeft;
+                final int offset = row * frame.width() + columnFrom;
+                if (mode == OPAQUE || frame.transparent()) {
+                    System.arraycopy(source, sourceOffset, pixels, offset, length);
+                } else if (mode == BITMASK) {
+                    for (int i = 0; i < length; i++) {
+                        final int argb = source[sourceOffset + i];
+                        if (argb >>> 24 != 0) {
+                            pixels[offset + i] = argb;
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        pixels[offset + i] = blend(source[sourceOffset + i], pixels[offset + i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Blends a non-premultiplied ARGB pixel over an opaque RGB pixel.
+     *
+     * @param argb The source pixel.
+     * @param rgb  The destination pixel.
+     * @return The blended RGB pixel.
+     */
+    private static int blend(int argb, int rgb) {
+        final int alpha = argb >>> 24;
+        if (alpha == 0xFF) {
+            return argb;
+        }
+        if (alpha == 0) {
+            return rgb;
+        }
+        final int inverse = 0xFF - alpha;
+        final int red = (((argb >> 16) & 0xFF) * alpha + ((rgb >> 16) & 0xFF) * inverse + 127) / 0xFF;
+        final int green = (((argb >> 8) & 0xFF) * alpha + ((rgb >> 8) & 0xFF) * inverse + 127) / 0xFF;
+        final int blue = ((argb & 0xFF) * alpha + (rgb & 0xFF) * inverse + 127) / 0xFF;
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * Callback drawing the background into the framebuffer.
+     */
+    @FunctionalInterface
+    public interface BackgroundPainter {
+        /**
+         * Draws the background.
+         *
+         * @param g        The graphics context of the framebuffer, clipped to the drawn area.
+         * @param snapshot The captured game state.
+         */
+        void paint(Graphics g, RenderSnapshot snapshot);
+    }
+}
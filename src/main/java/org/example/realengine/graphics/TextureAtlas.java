@@ -0,0 +1,246 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.resource.ResourceManager;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.List;
+
+/**
+ * <p>Packs textures, pre-scaled to a fixed size, into a few large atlas pages compatible with a
+ * {@link GraphicsConfiguration}, and draws them as sub-regions of those pages.</p>
+ * <p>Textures are grouped by the transparency they need ({@link Transparency#OPAQUE}, {@link Transparency#BITMASK}
+ * or {@link Transparency#TRANSLUCENT}) so opaque tiles keep skipping blending, and placed with a shelf packer,
+ * leaving {@link #PADDING} transparent pixels around each region so filtered or fractional draws do not bleed
+ * into the neighbours.</p>
+ * <p>The layout is packed on every build; for the few dozen game textures, loading and drawing them into the pages
+ * costs far more than packing them.</p>
+ */
+public final class TextureAtlas {
+    /**
+     * The directory the game textures are loaded from.
+     */
+    public static final String DEFAULT_TEXTURE_DIR = "resources/textures";
+    /**
+     * The width and height of an atlas page in pixels.
+     */
+    public static final int PAGE_SIZE = 512;
+    /**
+     * The free pixels around every region.
+     */
+    public static final int PADDING = 1;
+    /**
+     * The atlas pages.
+     */
+    private final BufferedImage[] pages;
+    /**
+     * The region of every packed texture, keyed by the identity of the texture returned by {@link ResourceManager}.
+     */
+    private final Map<BufferedImage, Region> regions;
+    /**
+     * The width and height every texture was scaled to.
+     */
+    private final int tileSize;
+
+    /**
+     * Private constructor, atlases are created by {@link #build(GraphicsConfiguration, List, int)}.
+     *
+     * @param pages    The atlas pages.
+     * @param regions  The region of every packed texture.
+     * @param tileSize The size every texture was scaled to.
+     */
+    private TextureAtlas(BufferedImage[] pages, Map<BufferedImage, Region> regions, int tileSize) {
+        this.pages = pages;
+        this.regions = regions;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Lists the paths of all PNG textures in a directory, sorted by name.
+     *
+     * @param directory The directory to list.
+     * @return The texture paths, empty if the directory does not exist.
+     */
+    public static List<String> listTextures(String directory) {
+        final File[] files = new File(directory).listFiles((_, name) -> name.endsWith(".png"));
+        if (files == null) {
+            return List.of();
+        }
+        Arrays.sort(files);
+        final List<String> paths = new ArrayList<>(files.length);
+        for (final File file : files) {
+            paths.add(directory + "/" + file.getName());
+        }
+        return paths;
+    }
+
+    /**
+     * Builds an atlas of the given textures. Textures that cannot be loaded are skipped with a warning.
+     *
+     * @param configuration The configuration the pages are created for.
+     * @param paths         The paths of the textures, as passed to {@link ResourceManager#getTexture(String)}.
+     * @param tileSize      The width and height every texture is scaled to.
+     * @return The new atlas.
+     */
+    public static TextureAtlas build(GraphicsConfiguration configuration, List<String> paths, int tileSize) {
+        final Map<String, BufferedImage> textures = new LinkedHashMap<>();
+        for (final String path : paths) {
+            try {
+                textures.put(path, ResourceManager.getTexture(path));
+            } catch (IOException e) {
+                System.out.println("WARN: Texture " + path + " not added to the atlas: " + e.getMessage());
+            }
+        }
+        final Layout layout = Layout.pack(textures, tileSize);
+        final BufferedImage[] pages = new BufferedImage[layout.transparencies.length];
+        final Graphics2D[] graphics = new Graphics2D[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = configuration.createCompatibleImage(PAGE_SIZE, PAGE_SIZE, layout.transparencies[i]);
+            graphics[i] = pages[i].createGraphics();
+            graphics[i].setComposite(AlphaComposite.Src);
+        }
+        final Map<BufferedImage, Region> regions = new IdentityHashMap<>();
+        for (final Placement placement : layout.placements) {
+            final BufferedImage texture = textures.get(placement.path());
+            final Region region = new Region(placement.page(), placement.x(), placement.y(), tileSize, tileSize);
+            graphics[region.page()].drawImage(texture, region.x(), region.y(), tileSize, tileSize, null);
+            regions.put(texture, region);
+        }
+        for (final Graphics2D g : graphics) {
+            g.dispose();
+        }
+        return new TextureAtlas(pages, regions, tileSize);
+    }
+
+    /**
+     * Draws a packed texture at its atlas size.
+     *
+     * @param g       The graphics context to draw on.
+     * @param texture The texture to draw.
+     * @param x       The X-coordinate of the top-left corner.
+     * @param y       The Y-coordinate of the top-left corner.
+     * @return {@code true} if the texture is in the atlas and was drawn, {@code false} otherwise.
+     */
+    public boolean draw(Graphics g, BufferedImage texture, int x, int y) {
+        final Region region = regions.get(texture);
+        if (region == null) {
+            return false;
+        }
+        g.drawImage(pages[region.page()], x, y, x + region.width(), y + region.height(),
+                region.x(), region.y(), region.x() + region.width(), region.y() + region.height(), null);
+        return true;
+    }
+
+    /**
+     * Returns the region of a texture.
+     *
+     * @param texture The texture.
+     * @return The region, or {@code null} if the texture is not in the atlas.
+     */
+    public Region find(BufferedImage texture) {
+        return regions.get(texture);
+    }
+
+    /**
+     * Returns an atlas page.
+     *
+     * @param index The page index of a {@link Region}.
+     * @return The page image.
+     */
+    public BufferedImage getPage(int index) {
+        return pages[index];
+    }
+
+    /**
+     * Returns the number of atlas pages.
+     *
+     * @return The page count.
+     */
+    public int getPageCount() {
+        return pages.length;
+    }
+
+    /**
+     * Returns the width and height every texture was scaled to.
+     *
+     * @return The tile size in pixels.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * A packed texture's place in the atlas.
+     *
+     * @param page   The page index.
+     * @param x      The X-coordinate of the region in the page.
+     * @param y      The Y-coordinate of the region in the page.
+     * @param width  The width of the region.
+     * @param height The height of the region.
+     */
+    public record Region(int page, int x, int y, int width, int height) {
+    }
+
+    /**
+     * The position of one texture in the layout.
+     *
+     * @param path The texture path.
+     * @param page The page index.
+     * @param x    The X-coordinate in the page.
+     * @param y    The Y-coordinate in the page.
+     */
+    private record Placement(String path, int page, int x, int y) {
+    }
+
+    /**
+     * The placement of every texture and the transparency of every page.
+     *
+     * @param placements    The texture placements.
+     * @param transparencies The transparency of each page.
+     */
+    private record Layout(List<Placement> placements, int[] transparencies) {
+        /**
+         * Packs the textures with a shelf packer, one set of pages per transparency.
+         * Textures larger than a page are left out and drawn on their own.
+         *
+         * @param textures The textures by path.
+         * @param tileSize The size every texture is scaled to.
+         * @return The new layout.
+         */
+        private static Layout pack(Map<String, BufferedImage> textures, int tileSize) {
+            final int cell = tileSize + 2 * PADDING;
+            final List<Placement> placements = new ArrayList<>();
+            final List<Integer> transparencies = new ArrayList<>();
+            if (cell > PAGE_SIZE) {
+                System.out.println("WARN: Tile size " + tileSize + " does not fit an atlas page");
+                return new Layout(placements, new int[0]);
+            }
+            for (final int transparency : new int[]{Transparency.OPAQUE, Transparency.BITMASK, Transparency.TRANSLUCENT}) {
+                int page = -1;
+                int x = PAGE_SIZE;
+                int y = PAGE_SIZE;
+                for (final Map.Entry<String, BufferedImage> entry : textures.entrySet()) {
+                    if (ScaledTextureCache.transparencyOf(entry.getValue()) != transparency) {
+                        continue;
+                    }
+                    if (x + cell > PAGE_SIZE) {
+                        x = 0;
+                        y += cell;
+                    }
+                    if (y + cell > PAGE_SIZE) {
+                        page = transparencies.size();
+                        transparencies.add(transparency);
+                        x = 0;
+                        y = 0;
+                    }
+                    placements.add(new Placement(entry.getKey(), page, x + PADDING, y + PADDING));
+                    x += cell;
+                }
+            }
+            return new Layout(placements, transparencies.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
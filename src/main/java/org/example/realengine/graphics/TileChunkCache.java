@@ -0,0 +1,535 @@
+package org.example.realengine.graphics;
+
+import org.example.realengine.map.RMap;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+import static org.example.realengine.game.GameConstants.TILE_SIZE;
+
+/**
+ * <p>Caches the tiles of the map pre-rendered into chunk images of {@link #CHUNK_SIZE}×{@link #CHUNK_SIZE} tiles,
+ * so drawing the map costs a handful of blits per frame instead of one scaled {@code drawImage} per visible tile.</p>
+ * <p>A chunk is rebaked only when its {@link RenderSnapshot#getChunkStamp(int, int) stamp} changes, i.e. when
+ * a cell in it was changed by a pushed or falling box or a falling platform. A new map, a replaced collision map
+ * or switching between textures and solid colors drops all chunks.</p>
+ * <p>The cache holds at most {@code capacity} chunks and evicts the least recently drawn one. Evicted images
+ * are reused for the next chunk, so once the cache is full, baking allocates nothing. Chunk images can be baked
+ * with fewer pixels per tile than the screen has and are then scaled up when drawn, for content without fine detail
+ * such as the darkness of a {@link LightMap}.</p>
+ * <p>Chunk images are translucent, so every drawn pixel is blended. After baking, the cells of a chunk that received
+ * any pixel are merged into a few rectangles and only those are drawn, so the empty sky around the terrain costs
+ * nothing.
+ * The cache must only be used by one drawing thread at a time.</p>
+ */
+public final class TileChunkCache {
+    /**
+     * The width and height of a chunk in tiles.
+     */
+    public static final int CHUNK_SIZE = 16;
+    /**
+     * The width and height of a chunk image in pixels.
+     */
+    private static final int CHUNK_PIXELS = CHUNK_SIZE * TILE_SIZE;
+    /**
+     * The default number of cached chunks, about twice the chunks visible on a 1080p screen.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+    /**
+     * The maximum number of cached chunks.
+     */
+    private int capacity;
+    /**
+     * The width and height of a tile in a chunk image, in pixels.
+     */
+    private final int tilePixels;
+    /**
+     * The width and height of a chunk image in pixels, {@link #CHUNK_PIXELS} unless chunks are baked at a
+     * reduced resolution.
+     */
+    private final int imagePixels;
+    /**
+     * Draws the tiles of a chunk into its image.
+     */
+    private final ChunkPainter painter;
+    /**
+     * Tells when a chunk has to be baked again.
+     */
+    private final ChunkStamps stamps;
+    /**
+     * The map the cached chunks belong to.
+     */
+    private RMap map;
+    /**
+     * The collision map generation the cached chunks belong to.
+     */
+    private long generation;
+    /**
+     * Whether the cached chunks were baked with textures or with solid colors.
+     */
+    private boolean textured;
+    /**
+     * The cached chunk for every chunk position of the map, or {@code null}.
+     */
+    private Chunk[] grid = new Chunk[0];
+    /**
+     * The number of chunk columns of the map.
+     */
+    private int gridColumns;
+    /**
+     * The most and least recently drawn cached chunk.
+     */
+    private Chunk head, tail;
+    /**
+     * Chunks dropped by {@link #clear()} whose images can be reused, linked through {@link Chunk#next}.
+     */
+    private Chunk free;
+    /**
+     * The number of cached chunks.
+     */
+    private int size;
+    /**
+     * Counters of chunks drawn from the cache, baked for the first time, rebaked after a change and evicted.
+     */
+    private long hits, misses, rebakes, evictions;
+    /**
+     * Reused for the alpha of one row of cells of a chunk image while its rectangles are computed.
+     */
+    private int[] alphaRow = new int[0];
+    /**
+     * Reused for the open rectangle above every cell column while the rectangles of a chunk are computed.
+     */
+    private final int[] openRect = new int[CHUNK_SIZE];
+
+    /**
+     * Constructs a new {@code TileChunkCache}.
+     *
+     * @param capacity The maximum number of cached chunks. Should be at least the number of chunks visible at once.
+     * @param painter  The callback drawing tiles into a chunk image.
+     */
+    public TileChunkCache(int capacity, ChunkPainter painter) {
+        this(capacity, painter, RenderSnapshot::getChunkStamp);
+    }
+
+    /**
+     * Constructs a new {@code TileChunkCache} for chunk images that change with something other than
+     * their own cells, such as the light spreading from neighbouring chunks.
+     *
+     * @param capacity The maximum number of cached chunks. Should be at least the number of chunks visible at once.
+     * @param painter  The callback drawing a chunk image.
+     * @param stamps   The stamp of every chunk, which changes whenever its image has to be baked again.
+     */
+    public TileChunkCache(int capacity, ChunkPainter painter, ChunkStamps stamps) {
+        this(capacity, TILE_SIZE, painter, stamps);
+    }
+
+    /**
+     * Constructs a new {@code TileChunkCache} whose chunk images have {@code tilePixels} pixels per tile and are
+     * scaled up to the size of the chunk when drawn.
+     *
+     * @param capacity   The maximum number of cached chunks. Should be at least the number of chunks visible at once.
+     * @param tilePixels The width and height of a tile in a chunk image, at most {@code TILE_SIZE}.
+     * @param painter    The callback drawing a chunk image, in map pixels; the scale is applied for it.
+     * @param stamps     The stamp of every chunk, which changes whenever its image has to be baked again.
+     */
+    public TileChunkCache(int capacity, int tilePixels, ChunkPainter painter, ChunkStamps stamps) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (tilePixels <= 0 || tilePixels > TILE_SIZE) {
+            throw new IllegalArgumentException("Tile pixels must be between 1 and " + TILE_SIZE + ": " + tilePixels);
+        }
+        this.capacity = capacity;
+        this.tilePixels = tilePixels;
+        this.imagePixels = CHUNK_SIZE * tilePixels;
+        this.painter = painter;
+        this.stamps = stamps;
+    }
+
+    /**
+     * Draws all chunks overlapping an area of the screen, baking the missing and changed ones first.
+     * Chunks baked at a reduced resolution are scaled with the interpolation hint of {@code g}.
+     *
+     * @param g        The graphics context to draw on.
+     * @param snapshot The captured game state.
+     * @param area     The area of the screen to cover, e.g. the whole screen or a redrawn region.
+     * @param textured If true, tiles are drawn with textures, otherwise with solid colors.
+     */
+    public void draw(Graphics2D g, RenderSnapshot snapshot, Rectangle area, boolean textured) {
+        final RMap snapshotMap = snapshot.getMap();
+        if (snapshotMap != map || snapshot.getTileGeneration() != generation || textured != this.textured) {
+            clear();
+            map = snapshotMap;
+            generation = snapshot.getTileGeneration();
+            this.textured = textured;
+            gridColumns = Math.ceilDiv(map.getWidth(), CHUNK_SIZE);
+            final int cells = gridColumns * Math.ceilDiv(map.getHeight(), CHUNK_SIZE);
+            if (grid.length != cells) {
+                grid = new Chunk[cells];
+            }
+        }
+        final float camX = snapshot.getCameraX();
+        final float camY = snapshot.getCameraY();
+        final int startX = Math.max(0, (int) ((camX + area.x) / CHUNK_PIXELS));
+        final int startY = Math.max(0, (int) ((camY + area.y) / CHUNK_PIXELS));
+        final int endX = Math.min(gridColumns, (int) ((camX + area.x + area.width) / CHUNK_PIXELS) + 1);
+        final int endY = Math.min(grid.length / gridColumns, (int) ((camY + area.y + area.height) / CHUNK_PIXELS) + 1);
+        for (int chunkY = startY; chunkY < endY; chunkY++) {
+            for (int chunkX = startX; chunkX < endX; chunkX++) {
+                final Chunk chunk = obtain(g, snapshot, chunkX, chunkY);
+                // floor rather than a cast, so chunks starting off screen keep their tiles on whole pixels
+                final int x = (int) Math.floor(chunkX * CHUNK_PIXELS - camX);
+                final int y = (int) Math.floor(chunkY * CHUNK_PIXELS - camY);
+                for (int i = 0; i < chunk.rectCount; i += 4) {
+                    final int[] rects = chunk.rects;
+                    g.drawImage(chunk.image, x + rects[i] * TILE_SIZE, y + rects[i + 1] * TILE_SIZE,
+                            x + rects[i + 2] * TILE_SIZE, y + rects[i + 3] * TILE_SIZE,
+                            rects[i] * tilePixels, rects[i + 1] * tilePixels,
+                            rects[i + 2] * tilePixels, rects[i + 3] * tilePixels, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the up-to-date cached chunk at the given position, baking it if it is missing or stale.
+     *
+     * @param g        The graphics context the chunk will be drawn on, used to create compatible images.
+     * @param snapshot The captured game state.
+     * @param chunkX   The chunk column.
+     * @param chunkY   The chunk row.
+     * @return The chunk, now the most recently drawn one.
+     */
+    private Chunk obtain(Graphics2D g, RenderSnapshot snapshot, int chunkX, int chunkY) {
+        final int index = chunkY * gridColumns + chunkX;
+        final long stamp = stamps.getStamp(snapshot, chunkX, chunkY);
+        Chunk chunk = grid[index];
+        if (chunk != null) {
+            unlink(chunk);
+            if (chunk.stamp == stamp) {
+                hits++;
+            } else {
+                rebakes++;
+                bake(chunk, snapshot, chunkX, chunkY);
+            }
+        } else {
+            misses++;
+            if (free != null) {
+                chunk = free;
+                free = chunk.next;
+            } else if (size == capacity) {
+                chunk = tail;
+                unlink(chunk);
+                grid[chunk.index] = null;
+                size--;
+                evictions++;
+            } else {
+                chunk = new Chunk(g.getDeviceConfiguration()
+                        .createCompatibleImage(imagePixels, imagePixels, Transparency.TRANSLUCENT));
+            }
+            chunk.index = index;
+            grid[index] = chunk;
+            size++;
+            bake(chunk, snapshot, chunkX, chunkY);
+        }
+        chunk.stamp = stamp;
+        chunk.next = head;
+        if (head != null) {
+            head.prev = chunk;
+        }
+        head = chunk;
+        if (tail == null) {
+            tail = chunk;
+        }
+        return chunk;
+    }
+
+    /**
+     * Clears the chunk image, draws the tiles of the chunk into it and computes the rectangles to draw.
+     *
+     * @param chunk    The chunk to bake.
+     * @param snapshot The captured game state.
+     * @param chunkX   The chunk column.
+     * @param chunkY   The chunk row.
+     */
+    private void bake(Chunk chunk, RenderSnapshot snapshot, int chunkX, int chunkY) {
+        final Graphics2D g = chunk.image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, imagePixels, imagePixels);
+            g.setComposite(AlphaComposite.SrcOver);
+            if (imagePixels != CHUNK_PIXELS) {
+                g.scale((double) tilePixels / TILE_SIZE, (double) tilePixels / TILE_SIZE);
+            }
+            final int fromX = chunkX * CHUNK_SIZE;
+            final int fromY = chunkY * CHUNK_SIZE;
+            painter.paint(g, snapshot, fromX, fromY,
+                    Math.min(map.getWidth(), fromX + CHUNK_SIZE), Math.min(map.getHeight(), fromY + CHUNK_SIZE),
+                    fromX * TILE_SIZE, fromY * TILE_SIZE, textured);
+        } finally {
+            g.dispose();
+        }
+        findRects(chunk);
+    }
+
+    /**
+     * Covers the cells of a baked chunk that contain any non-transparent pixel with rectangles: runs of such cells
+     * in a row, extended downwards while the rows below have the same run.
+     *
+     * @param chunk The baked chunk.
+     */
+    private void findRects(Chunk chunk) {
+        final WritableRaster alpha = chunk.image.getAlphaRaster();
+        chunk.rectCount = 0;
+        if (alpha == null) {
+            addRect(chunk, 0, 0, CHUNK_SIZE, CHUNK_SIZE);
+            return;
+        }
+        if (alphaRow.length != imagePixels * tilePixels) {
+            alphaRow = new int[imagePixels * tilePixels];
+        }
+        Arrays.fill(openRect, -1);
+        for (int row = 0; row < CHUNK_SIZE; row++) {
+            alpha.getPixels(0, row * tilePixels, imagePixels, tilePixels, alphaRow);
+            int column = 0;
+            while (column < CHUNK_SIZE) {
+                if (!isCellUsed(column)) {
+                    openRect[column++] = -1;
+                    continue;
+                }
+                final int start = column;
+                while (column < CHUNK_SIZE && isCellUsed(column)) {
+                    column++;
+                }
+                final int open = openRect[start];
+                if (open >= 0 && chunk.rects[open] == start && chunk.rects[open + 2] == column
+                        && chunk.rects[open + 3] == row) {
+                    chunk.rects[open + 3] = row + 1;
+                } else {
+                    addRect(chunk, start, row, column, row + 1);
+                    Arrays.fill(openRect, start, column, -1);
+                    openRect[start] = chunk.rectCount - 4;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether a cell of the row in {@link #alphaRow} has a non-transparent pixel.
+     *
+     * @param column The cell column in the chunk.
+     * @return {@code true} if the cell has to be drawn.
+     */
+    private boolean isCellUsed(int column) {
+        for (int y = 0; y < tilePixels; y++) {
+            final int from = y * imagePixels + column * tilePixels;
+            for (int i = from; i < from + tilePixels; i++) {
+                if (alphaRow[i] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a rectangle of cells to a chunk.
+     *
+     * @param chunk The chunk.
+     * @param fromX The first cell column, inclusive.
+     * @param fromY The first cell row, inclusive.
+     * @param toX   The last cell column, exclusive.
+     * @param toY   The last cell row, exclusive.
+     */
+    private static void addRect(Chunk chunk, int fromX, int fromY, int toX, int toY) {
+        if (chunk.rectCount == chunk.rects.length) {
+            chunk.rects = Arrays.copyOf(chunk.rects, chunk.rects.length * 2);
+        }
+        chunk.rects[chunk.rectCount++] = fromX;
+        chunk.rects[chunk.rectCount++] = fromY;
+        chunk.rects[chunk.rectCount++] = toX;
+        chunk.rects[chunk.rectCount++] = toY;
+    }
+
+    /**
+     * Raises the capacity so that an area of the screen fits into the cache, e.g. while the camera is zoomed out.
+     * The capacity never shrinks.
+     *
+     * @param width  The width of the area in map pixels.
+     * @param height The height of the area in map pixels.
+     */
+    public void ensureCapacity(int width, int height) {
+        capacity = Math.max(capacity, (Math.ceilDiv(width, CHUNK_PIXELS) + 1) * (Math.ceilDiv(height, CHUNK_PIXELS) + 1));
+    }
+
+    /**
+     * Removes a chunk from the recently drawn list.
+     *
+     * @param chunk The chunk to remove.
+     */
+    private void unlink(Chunk chunk) {
+        if (chunk.prev != null) {
+            chunk.prev.next = chunk.next;
+        } else {
+            head = chunk.next;
+        }
+        if (chunk.next != null) {
+            chunk.next.prev = chunk.prev;
+        } else {
+            tail = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+    }
+
+    /**
+     * Drops all cached chunks, keeping their images for reuse.
+     */
+    public void clear() {
+        while (head != null) {
+            final Chunk chunk = head;
+            unlink(chunk);
+            grid[chunk.index] = null;
+            chunk.next = free;
+            free = chunk;
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the number of chunks drawn from the cache without baking.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of chunks baked because they were not cached.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of cached chunks baked again because one of their cells changed.
+     *
+     * @return The rebake count.
+     */
+    public long getRebakes() {
+        return rebakes;
+    }
+
+    /**
+     * Returns the number of chunks evicted to make room for another one.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of cached chunks.
+     *
+     * @return The number of chunks.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the counters in a single line, for diagnostics.
+     *
+     * @return The counters.
+     */
+    @Override
+    public String toString() {
+        return "chunks " + size + "/" + capacity + ", hits " + hits + ", misses " + misses
+                + ", rebakes " + rebakes + ", evictions " + evictions;
+    }
+
+    /**
+     * Callback drawing a rectangle of tiles.
+     */
+    @FunctionalInterface
+    public interface ChunkPainter {
+        /**
+         * Draws the tiles in the given rectangle, with the tile at ({@code originX}, {@code originY}) in map pixels
+         * drawn at (0, 0).
+         *
+         * @param g        The graphics context to draw on.
+         * @param snapshot The captured game state.
+         * @param fromX    The first tile column, inclusive.
+         * @param fromY    The first tile row, inclusive.
+         * @param toX      The last tile column, exclusive.
+         * @param toY      The last tile row, exclusive.
+         * @param originX  The map X-coordinate drawn at the left edge.
+         * @param originY  The map Y-coordinate drawn at the top edge.
+         * @param textured If true, tiles are drawn with textures, otherwise with solid colors.
+         */
+        void paint(Graphics g, RenderSnapshot snapshot, int fromX, int fromY, int toX, int toY,
+                   float originX, float originY, boolean textured);
+    }
+
+    /**
+     * Callback returning the stamp of a chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkStamps {
+        /**
+         * Returns the stamp of a chunk. A cached chunk is baked again when its stamp differs from the one
+         * it was baked with.
+         *
+         * @param snapshot The captured game state.
+         * @param chunkX   The chunk column.
+         * @param chunkY   The chunk row.
+         * @return The stamp.
+         */
+        long getStamp(RenderSnapshot snapshot, int chunkX, int chunkY);
+    }
+
+    /**
+     * A cached chunk image and its place in the recently drawn list.
+     */
+    private static final class Chunk {
+        /**
+         * The baked tiles.
+         */
+        private final BufferedImage image;
+        /**
+         * The position of the chunk in {@link #grid}.
+         */
+        private int index;
+        /**
+         * The snapshot stamp of the chunk when it was baked.
+         */
+        private long stamp;
+        /**
+         * The neighbours in the recently drawn list.
+         */
+        private Chunk prev, next;
+        /**
+         * The rectangles of cells to draw, as first column, first row, last column and last row, exclusive.
+         */
+        private int[] rects = new int[16];
+        /**
+         * The number of entries used in {@link #rects}, four per rectangle.
+         */
+        private int rectCount;
+
+        /**
+         * Constructs a new {@code Chunk}.
+         *
+         * @param image The image to bake into.
+         */
+        private Chunk(BufferedImage image) {
+            this.image = image;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.realengine.graphics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>Draws tile textures at zoomed sizes from a chain of pre-scaled copies, so a zoomed-out map never scales a full
+ * texture down on every draw.</p>
+ * <p>The chain of a texture has {@link #LEVELS} levels at power-of-two multiples of the base size, from four times
+ * to a quarter of it. The levels above the base are scaled up with nearest neighbour to keep the pixel art sharp;
+ * the levels below are made by halving the previous one with a 2x2 box filter, weighted by alpha so transparent
+ * pixels do not darken the edges. A texture is drawn from the smallest level at least as large as the drawn size,
+ * which is an unscaled blit at power-of-two zooms and a reduction by less than half otherwise.</p>
+ * <p>Chains are built on first use, as images compatible with the destination, and dropped when the graphics
+ * configuration changes. The chain must only be used by one drawing thread at a time.</p>
+ */
+public final class TileMipChain {
+    /**
+     * The number of levels of every chain.
+     */
+    public static final int LEVELS = 5;
+    /**
+     * The index of the level at the base size.
+     */
+    private static final int BASE_LEVEL = 2;
+    /**
+     * The size textures are drawn at without zoom.
+     */
+    private final int baseSize;
+    /**
+     * The levels of every texture, largest first, keyed by the identity of the source texture.
+     */
+    private final Map<BufferedImage, BufferedImage[]> chains = new IdentityHashMap<>();
+    /**
+     * The configuration the chains were created for.
+     */
+    private GraphicsConfiguration configuration;
+    /**
+     * The number of chains built, for diagnostics.
+     */
+    private long built;
+
+    /**
+     * Constructs a new {@code TileMipChain}.
+     *
+     * @param baseSize The size textures are drawn at without zoom.
+     */
+    public TileMipChain(int baseSize) {
+        this.baseSize = baseSize;
+    }
+
+    /**
+     * Draws a texture from the best level of its chain.
+     *
+     * @param g       The graphics context to draw on.
+     * @param texture The source texture; nothing is drawn if it is {@code null}.
+     * @param x       The X-coordinate of the top-left corner.
+     * @param y       The Y-coordinate of the top-left corner.
+     * @param width   The drawn width.
+     * @param height  The drawn height.
+     */
+    public void draw(Graphics2D g, BufferedImage texture, int x, int y, int width, int height) {
+        if (texture == null || width <= 0 || height <= 0) {
+            return;
+        }
+        final BufferedImage level = level(g.getDeviceConfiguration(), texture, Math.max(width, height));
+        if (level.getWidth() == width && level.getHeight() == height) {
+            g.drawImage(level, x, y, null);
+        } else {
+            g.drawImage(level, x, y, width, height, null);
+        }
+    }
+
+    /**
+     * Returns the smallest level of a texture's chain that is at least the given size, or the largest level.
+     *
+     * @param configuration The configuration of the destination.
+     * @param texture       The source texture.
+     * @param size          The drawn size.
+     * @return The level image.
+     */
+    public BufferedImage level(GraphicsConfiguration configuration, BufferedImage texture, int size) {
+        if (configuration != this.configuration) {
+            chains.clear();
+            this.configuration = configuration;
+        }
+        final BufferedImage[] chain = chains.computeIfAbsent(texture, _ -> build(configuration, texture));
+        for (int i = LEVELS - 1; i > 0; i--) {
+            if (chain[i].getWidth() >= size) {
+                return chain[i];
+            }
+        }
+        return chain[0];
+    }
+
+    /**
+     * Returns the number of chains built, which should only grow with new textures or display changes.
+     *
+     * @return The number of chains built.
+     */
+    public long getBuilt() {
+        return built;
+    }
+
+    /**
+     * Builds the chain of a texture.
+     *
+     * @param configuration The configuration of the destination.
+     * @param texture       The source texture.
+     * @return The levels, largest first.
+     */
+    private BufferedImage[] build(GraphicsConfiguration configuration, BufferedImage texture) {
+        built++;
+        final BufferedImage[] levels = new BufferedImage[LEVELS];
+        for (int i = 0; i <= BASE_LEVEL; i++) {
+            final int size = Math.max(1, (baseSize << BASE_LEVEL) >> i);
+            levels[i] = scale(texture, size);
+        }
+        for (int i = BASE_LEVEL + 1; i < LEVELS; i++) {
+            levels[i] = halve(levels[i - 1]);
+        }
+        for (int i = 0; i < LEVELS; i++) {
+            levels[i] = compatible(configuration, levels[i]);
+        }
+        return levels;
+    }
+
+    /**
+     * Scales a texture to a square with nearest neighbour.
+     *
+     * @param texture The source texture.
+     * @param size    The width and height.
+     * @return The scaled ARGB image.
+     */
+    private static BufferedImage scale(BufferedImage texture, int size) {
+        final BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = scaled.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(texture, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Halves an image with a 2x2 box filter. Colors are averaged weighted by alpha.
+     *
+     * @param image The ARGB image to halve.
+     * @return The halved ARGB image, at least 1x1.
+     */
+    private static BufferedImage halve(BufferedImage image) {
+        final int sourceWidth = image.getWidth();
+        final int sourceHeight = image.getHeight();
+        final int width = Math.max(1, sourceWidth / 2);
+        final int height = Math.max(1, sourceHeight / 2);
+        final int[] source = image.getRGB(0, 0, sourceWidth, sourceHeight, null, 0, sourceWidth);
+        final int[] halved = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int alpha = 0, red = 0, green = 0, blue = 0, samples = 0;
+                for (int sy = 2 * y; sy < Math.min(sourceHeight, 2 * y + 2); sy++) {
+                    for (int sx = 2 * x; sx < Math.min(sourceWidth, 2 * x + 2); sx++) {
+                        final int argb = source[sy * sourceWidth + sx];
+                        final int a = argb >>> 24;
+                        alpha += a;
+                        red += ((argb >> 16) & 0xFF) * a;
+                        green += ((argb >> 8) & 0xFF) * a;
+                        blue += (argb & 0xFF) * a;
+                        samples++;
+                    }
+                }
+                if (alpha > 0) {
+                    halved[y * width + x] = ((alpha + samples / 2) / samples) << 24
+                            | (red + alpha / 2) / alpha << 16 | (green + alpha / 2) / alpha << 8 | (blue + alpha / 2) / alpha;
+                }
+            }
+        }
+        final BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        result.setRGB(0, 0, width, height, halved, 0, width);
+        return result;
+    }
+
+    /**
+     * Copies a level into an image compatible with the destination, with the transparency it needs.
+     *
+     * @param configuration The configuration of the destination.
+     * @param level         The level image.
+     * @return The compatible copy.
+     */
+    private static BufferedImage compatible(GraphicsConfiguration configuration, BufferedImage level) {
+        final BufferedImage image = configuration.createCompatibleImage(level.getWidth(), level.getHeight(),
+                ScaledTextureCache.transparencyOf(level));
+        final Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(level, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.realengine.graphics.hud;
+
+import org.example.realengine.graphics.DirtyRegionTracker;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Draws the HUD over the game scene from cached widget images.</p>
+ * <p>Each frame every {@link HudWidget} is asked whether its content changed; only changed widgets are repainted
+ * into their image, all others are just blitted. Static text is therefore rendered once, and a clock is redrawn
+ * once per second. Apart from repainting changed widgets, drawing the HUD allocates nothing.</p>
+ * <p>Widgets are added and removed on the thread that draws the HUD.</p>
+ */
+public final class HudCompositor {
+    /**
+     * The widgets in drawing order.
+     */
+    private final List<HudWidget> widgets = new ArrayList<>();
+    /**
+     * Reused for the area a widget covered before it was repainted.
+     */
+    private final Rectangle previousBounds = new Rectangle();
+    /**
+     * The area covered by widgets removed since the last {@link #refresh(GraphicsConfiguration, DirtyRegionTracker)},
+     * or {@code null}.
+     */
+    private Rectangle removedBounds;
+
+    /**
+     * Adds a widget on top of the existing ones.
+     *
+     * @param widget The widget to add.
+     * @param <W>    The type of the widget.
+     * @return The added widget.
+     */
+    public <W extends HudWidget> W add(W widget) {
+        widgets.add(widget);
+        return widget;
+    }
+
+    /**
+     * Removes a widget.
+     *
+     * @param widget The widget to remove.
+     */
+    public void remove(HudWidget widget) {
+        if (widgets.remove(widget) && widget.getScreenBounds(previousBounds)) {
+            removedBounds = removedBounds == null ? new Rectangle(previousBounds) : removedBounds.union(previousBounds);
+        }
+    }
+
+    /**
+     * Repaints the changed widgets and draws all of them.
+     *
+     * @param g The graphics context of the frame.
+     */
+    public void draw(Graphics2D g) {
+        final GraphicsConfiguration config = g.getDeviceConfiguration();
+        for (int i = 0; i < widgets.size(); i++) {
+            final HudWidget widget = widgets.get(i);
+            widget.refresh(config);
+            widget.draw(g);
+        }
+    }
+
+    /**
+     * Repaints the changed widgets without drawing them, and adds the screen areas they covered before and
+     * after repainting to a dirty region tracker. Followed by {@link #drawWidgets(Graphics2D)} for every redrawn region.
+     *
+     * @param config The graphics configuration the HUD is drawn with.
+     * @param dirty  The tracker collecting the areas to redraw.
+     */
+    public void refresh(GraphicsConfiguration config, DirtyRegionTracker dirty) {
+        if (removedBounds != null) {
+            dirty.add(removedBounds);
+            removedBounds = null;
+        }
+        for (int i = 0; i < widgets.size(); i++) {
+            final HudWidget widget = widgets.get(i);
+            final boolean painted = widget.getScreenBounds(previousBounds);
+            if (widget.refresh(config)) {
+                if (painted) {
+                    dirty.add(previousBounds);
+                }
+                widget.getScreenBounds(previousBounds);
+                dirty.add(previousBounds);
+            }
+        }
+    }
+
+    /**
+     * Draws all widgets from their cached images without checking for changes.
+     *
+     * @param g The graphics context of the frame, possibly clipped to a redrawn region.
+     */
+    public void drawWidgets(Graphics2D g) {
+        for (int i = 0; i < widgets.size(); i++) {
+            widgets.get(i).draw(g);
+        }
+    }
+}
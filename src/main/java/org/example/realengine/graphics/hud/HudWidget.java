@@ -0,0 +1,118 @@
+package org.example.realengine.graphics.hud;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * <p>A part of the HUD that is drawn into its own cached image and only redrawn when its content changes.</p>
+ * <p>Subclasses report changes through {@link #hasChanged()}, tell the compositor where the content lies relative
+ * to the widget's anchor point and paint it; the {@link HudCompositor} blits the cached image every frame. Checking for changes must not allocate.</p>
+ */
+public abstract class HudWidget {
+    /**
+     * The X-coordinate of the widget's anchor point on the screen.
+     */
+    private final int x;
+    /**
+     * The Y-coordinate of the widget's anchor point on the screen.
+     */
+    private final int y;
+    /**
+     * The cached content, or {@code null} before the first paint.
+     */
+    private BufferedImage image;
+    /**
+     * The bounds of the current content relative to the anchor point; its size is the used part of {@link #image}.
+     */
+    private final Rectangle bounds = new Rectangle();
+
+    /**
+     * Constructs a new {@code HudWidget}.
+     *
+     * @param x The X-coordinate of the widget's anchor point on the screen.
+     * @param y The Y-coordinate of the widget's anchor point on the screen.
+     */
+    protected HudWidget(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns whether the content differs from the cached image. Called every frame, so it must not allocate.
+     * The first call after construction must return {@code true}.
+     *
+     * @return {@code true} if the widget has to be repainted.
+     */
+    protected abstract boolean hasChanged();
+
+    /**
+     * Prepares the content for painting and returns its bounds. Called only after {@link #hasChanged()} returned true.
+     *
+     * @param config The graphics configuration the HUD is drawn with, e.g. for font metrics.
+     * @return The bounds of the content in pixels, relative to the widget's anchor point.
+     */
+    protected abstract Rectangle layout(GraphicsConfiguration config);
+
+    /**
+     * Paints the content into the cleared cached image, with its top-left corner at the origin.
+     *
+     * @param g The graphics context of the cached image.
+     */
+    protected abstract void paint(Graphics2D g);
+
+    /**
+     * Repaints the cached image if the content has changed. The image is only reallocated when it grows.
+     *
+     * @param config The graphics configuration the HUD is drawn with.
+     * @return {@code true} if the image was repainted.
+     */
+    final boolean refresh(GraphicsConfiguration config) {
+        if (image != null && !hasChanged()) {
+            return false;
+        }
+        bounds.setBounds(layout(config));
+        bounds.width = Math.max(1, bounds.width);
+        bounds.height = Math.max(1, bounds.height);
+        if (image == null || image.getWidth() < bounds.width || image.getHeight() < bounds.height) {
+            image = config.createCompatibleImage(bounds.width, bounds.height, Transparency.TRANSLUCENT);
+        }
+        final Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            paint(g);
+        } finally {
+            g.dispose();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the screen area covered by the current content.
+     *
+     * @param out The rectangle receiving the area.
+     * @return {@code false} if nothing was painted yet and {@code out} is unchanged, {@code true} otherwise.
+     */
+    final boolean getScreenBounds(Rectangle out) {
+        if (image == null) {
+            return false;
+        }
+        out.setBounds(x + bounds.x, y + bounds.y, bounds.width, bounds.height);
+        return true;
+    }
+
+    /**
+     * Draws the cached image.
+     *
+     * @param g The graphics context of the frame.
+     */
+    final void draw(Graphics2D g) {
+        if (image != null) {
+            final int left = x + bounds.x;
+            final int top = y + bounds.y;
+            g.drawImage(image, left, top, left + bounds.width, top + bounds.height,
+                    0, 0, bounds.width, bounds.height, null);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.realengine.graphics.hud;
+
+import java.awt.*;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A single line of HUD text built from a number of {@code long} values.</p>
+ * <p>Every frame the values are read and compared with the ones last drawn; the text is only formatted and
+ * repainted when one of them changed. A widget without values is static text that is rendered exactly once.</p>
+ */
+public final class TextWidget extends HudWidget {
+    /**
+     * The font of the text.
+     */
+    private final Font font;
+    /**
+     * The color of the text.
+     */
+    private final Color color;
+    /**
+     * Builds the text from the current values.
+     */
+    private final Formatter formatter;
+    /**
+     * The sources of the values shown.
+     */
+    private final LongSupplier[] sources;
+    /**
+     * The values the cached image was painted with.
+     */
+    private final long[] values;
+    /**
+     * Flag indicating if the text has never been painted.
+     */
+    private boolean firstPaint = true;
+    /**
+     * The text of the cached image.
+     */
+    private String text = "";
+    /**
+     * The metrics of {@link #font}, obtained on the first layout.
+     */
+    private FontMetrics metrics;
+
+    /**
+     * Constructs a new {@code TextWidget}.
+     *
+     * @param x         The X-coordinate of the text on the screen.
+     * @param y         The Y-coordinate of the text's baseline on the screen, as for {@code Graphics.drawString}.
+     * @param font      The font of the text.
+     * @param color     The color of the text.
+     * @param formatter Builds the text from the current values.
+     * @param sources   The sources of the values shown.
+     */
+    public TextWidget(int x, int y, Font font, Color color, Formatter formatter, LongSupplier... sources) {
+        super(x, y);
+        this.font = font;
+        this.color = color;
+        this.formatter = formatter;
+        this.sources = sources;
+        this.values = new long[sources.length];
+    }
+
+    /**
+     * Creates a widget showing fixed text, which is rendered once and then only blitted.
+     *
+     * @param x     The X-coordinate of the text on the screen.
+     * @param y     The Y-coordinate of the text's baseline on the screen.
+     * @param font  The font of the text.
+     * @param color The color of the text.
+     * @param text  The text.
+     * @return The new widget.
+     */
+    public static TextWidget of(int x, int y, Font font, Color color, String text) {
+        return new TextWidget(x, y, font, color, _ -> text);
+    }
+
+    /**
+     * Reads all values and returns whether any of them differs from the painted ones.
+     *
+     * @return {@code true} if the text has to be repainted.
+     */
+    @Override
+    protected boolean hasChanged() {
+        boolean changed = firstPaint;
+        for (int i = 0; i < sources.length; i++) {
+            final long value = sources[i].getAsLong();
+            if (value != values[i]) {
+                values[i] = value;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Formats the text and measures it.
+     *
+     * @param config The graphics configuration the HUD is drawn with.
+     * @return The bounds of the text relative to the start of its baseline.
+     */
+    @Override
+    protected Rectangle layout(GraphicsConfiguration config) {
+        firstPaint = false;
+        text = formatter.format(values);
+        if (metrics == null) {
+            final Graphics2D g = config.createCompatibleImage(1, 1).createGraphics();
+            try {
+                metrics = g.getFontMetrics(font);
+            } finally {
+                g.dispose();
+            }
+        }
+        return new Rectangle(0, -metrics.getAscent(), metrics.stringWidth(text) + 1, metrics.getHeight());
+    }
+
+    /**
+     * Paints the text.
+     *
+     * @param g The graphics context of the cached image.
+     */
+    @Override
+    protected void paint(Graphics2D g) {
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, 0, metrics.getAscent());
+    }
+
+    /**
+     * Builds the text of a {@link TextWidget} from its values.
+     */
+    @FunctionalInterface
+    public interface Formatter {
+        /**
+         * Formats the values.
+         *
+         * @param values The current values, in the order of the sources.
+         * @return The text to show.
+         */
+        String format(long[] values);
+    }
+}
@@ -24,7 +24,27 @@ import static org.example.realengine.game.GameConstants.TILE_SIZE;
  * Provides static methods for loading maps from images, including creating entities from spawn points.
  */
 public class RMap {
-    private final static Random random = new Random();
+    /**
+     * Bit of an edge mask set when the cell above is open.
+     */
+    public static final int EDGE_NORTH = 1;
+    /**
+     * Bit of an edge mask set when the cell to the right is open.
+     */
+    public static final int EDGE_EAST = 2;
+    /**
+     * Bit of an edge mask set when the cell below is open.
+     */
+    public static final int EDGE_SOUTH = 4;
+    /**
+     * Bit of an edge mask set when the cell to the left is open.
+     */
+    public static final int EDGE_WEST = 8;
+    /**
+     * Source of randomness for this map, e.g. the initial direction of entities.
+     * Each map has its own instance so that worlds do not share state.
+     */
+    private final Random random;
     /**
      * List of entities currently present on the map (loaded or added later).
      */
@@ -45,6 +65,14 @@ public class RMap {
      * Collision map determining solid and passable areas.
      */
     private EObject[][] collisionMap;
+    /**
+     * The cells of {@link #collisionMap} changed through {@link #setObjectAt(int, int, EObject)}.
+     */
+    private final TileChangeLog changeLog = new TileChangeLog();
+    /**
+     * The edge mask of every cell, see {@link #getEdgeMask(int, int)}.
+     */
+    private final byte[][] edgeMasks;
     private String path;
 
     /**
@@ -56,17 +84,45 @@ public class RMap {
      * @throws IllegalArgumentException if the width or height is non-positive.
      */
     public RMap(int width, int height) {
+        this(width, height, new Random());
+    }
+
+    /**
+     * Creates a new empty map with the specified dimensions and a seeded source of randomness,
+     * so that simulations on the map are reproducible.
+     *
+     * @param width  The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     * @param seed   The seed of the map's random number generator.
+     * @throws IllegalArgumentException if the width or height is non-positive.
+     */
+    public RMap(int width, int height, long seed) {
+        this(width, height, new Random(seed));
+    }
+
+    /**
+     * Creates a new empty map with the specified dimensions and source of randomness.
+     *
+     * @param width  The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     * @param random The map's random number generator.
+     * @throws IllegalArgumentException if the width or height is non-positive.
+     */
+    private RMap(int width, int height, Random random) {
         if (width <= 0 || height <= 0) {
             throw new IllegalArgumentException("Map dimensions must be positive. Got: " + width + "x" + height);
         }
         this.width = width;
         this.height = height;
+        this.random = random;
         this.collisionMap = new EObject[width][height];
         for (int x = 0; x < width; x++) {
             for (int y = 0; y < height; y++) {
                 collisionMap[x][y] = EObject.EMPTY;
             }
         }
+        this.edgeMasks = new byte[width][height];
+        updateEdgeMasks(0, 0, width, height);
         System.out.println("Created new RMap (" + width + "x" + height + ")");
     }
 
@@ -91,6 +147,31 @@ public class RMap {
      * @throws IOException If an error occurs while loading the file.
      */
     public static RMap loadFromPng(final String imagePath) throws IOException {
+        return loadFromPng(imagePath, new Random());
+    }
+
+    /**
+     * Loads a map from a PNG file with a seeded source of randomness, so that simulations on the map are reproducible.
+     *
+     * @param imagePath The path to the PNG file.
+     * @param seed      The seed of the map's random number generator.
+     * @return A new RMap instance.
+     * @throws IOException If an error occurs while loading the file.
+     * @see #loadFromPng(String)
+     */
+    public static RMap loadFromPng(final String imagePath, long seed) throws IOException {
+        return loadFromPng(imagePath, new Random(seed));
+    }
+
+    /**
+     * Loads a map from a PNG file.
+     *
+     * @param imagePath The path to the PNG file.
+     * @param random    The map's random number generator.
+     * @return A new RMap instance.
+     * @throws IOException If an error occurs while loading the file.
+     */
+    private static RMap loadFromPng(final String imagePath, final Random random) throws IOException {
         final BufferedImage image = loadImage(imagePath);
         if (image == null) {
             throw new IOException("Failed to load image: " + imagePath);
@@ -100,7 +181,7 @@ public class RMap {
         final MapElementManager manager = new MapElementManager();
         final ETile[][] tileLayer = manager.createTileLayerFromImage(image);
         final EObject[][] collisionData = manager.createCollisionMapFromImage(image);
-        final RMap map = new RMap(width, height);
+        final RMap map = new RMap(width, height, random);
         map.setPath(imagePath);
         map.setLayer(tileLayer);
         map.setCollisionMap(collisionData);
@@ -192,6 +273,8 @@ public class RMap {
     /**
      * Nastaví typ kolizního objektu {@link EObject} na daných souřadnicích mapy.
      * Umožňuje dynamickou úpravu kolizní mapy během hry.
+     * <p>All runtime changes of the collision map must go through this method, so that they are recorded
+     * in the {@link TileChangeLog} read by render snapshots.</p>
      *
      * @param x      Souřadnice X (sloupec).
      * @param y      Souřadnice Y (řádek).
@@ -199,10 +282,22 @@ public class RMap {
      */
     public void setObjectAt(int x, int y, EObject object) {
         if (x >= 0 && x < width && y >= 0 && y < height) {
-            collisionMap[x][y] = (object != null) ? object : EObject.EMPTY;
+            final EObject value = (object != null) ? object : EObject.EMPTY;
+            collisionMap[x][y] = value;
+            updateEdgeMasks(x - 1, y - 1, x + 2, y + 2);
+            changeLog.record(x, y, value);
         }
     }
 
+    /**
+     * Returns the log of collision map cells changed through {@link #setObjectAt(int, int, EObject)}.
+     *
+     * @return The {@code TileChangeLog} of this map.
+     */
+    public TileChangeLog getChangeLog() {
+        return changeLog;
+    }
+
     /**
      * @return Kolizní mapa (2D pole {@link EObject}).
      */
@@ -224,9 +319,61 @@ public class RMap {
                     + ") do not match RMap dimensions (" + width + "x" + height + ").");
         }
         this.collisionMap = map;
+        updateEdgeMasks(0, 0, width, height);
+        changeLog.invalidate();
         System.out.println("Collision map set for RMap.");
     }
 
+    /**
+     * Returns which sides of a solid cell border an open cell, so the tile drawn in it can show an edge there.
+     * A cell is open if nothing is drawn in it: it is empty or a spawn point. Cells outside the map count as closed,
+     * and cells that are not solid have no edges, so decorations behind the terrain stay seamless.
+     * The masks are computed when the collision map is set and, for the 3×3 neighbourhood of the cell,
+     * whenever a cell changes through {@link #setObjectAt(int, int, EObject)}.
+     *
+     * @param x The cell column.
+     * @param y The cell row.
+     * @return The combination of {@link #EDGE_NORTH}, {@link #EDGE_EAST}, {@link #EDGE_SOUTH} and {@link #EDGE_WEST}.
+     */
+    public int getEdgeMask(int x, int y) {
+        return edgeMasks[x][y];
+    }
+
+    /**
+     * Recomputes the edge masks of a rectangle of cells, clipped to the map.
+     *
+     * @param fromX The first column, inclusive.
+     * @param fromY The first row, inclusive.
+     * @param toX   The last column, exclusive.
+     * @param toY   The last row, exclusive.
+     */
+    private void updateEdgeMasks(int fromX, int fromY, int toX, int toY) {
+        for (int x = Math.max(0, fromX); x < Math.min(width, toX); x++) {
+            for (int y = Math.max(0, fromY); y < Math.min(height, toY); y++) {
+                int mask = 0;
+                if (!collisionMap[x][y].isSolid()) {
+                    edgeMasks[x][y] = 0;
+                    continue;
+                }
+                if (y > 0 && isOpen(collisionMap[x][y - 1])) mask |= EDGE_NORTH;
+                if (x < width - 1 && isOpen(collisionMap[x + 1][y])) mask |= EDGE_EAST;
+                if (y < height - 1 && isOpen(collisionMap[x][y + 1])) mask |= EDGE_SOUTH;
+                if (x > 0 && isOpen(collisionMap[x - 1][y])) mask |= EDGE_WEST;
+                edgeMasks[x][y] = (byte) mask;
+            }
+        }
+    }
+
+    /**
+     * Returns whether a cell with an object exposes the edges of its neighbours.
+     *
+     * @param object The object, may be {@code null}.
+     * @return {@code true} if nothing is drawn for the object.
+     */
+    private static boolean isOpen(EObject object) {
+        return object == null || object == EObject.EMPTY || object == EObject.PLAYER_SPAWN || object == EObject.ENEMY_SPAWN;
+    }
+
     /**
      * @return Šířka mapy v počtu dlaždic.
      */
@@ -241,6 +388,24 @@ public class RMap {
         return height;
     }
 
+    /**
+     * Returns the width of the map in pixels.
+     *
+     * @return The width in tiles multiplied by {@code TILE_SIZE}.
+     */
+    public int getPixelWidth() {
+        return width * TILE_SIZE;
+    }
+
+    /**
+     * Returns the height of the map in pixels.
+     *
+     * @return The height in tiles multiplied by {@code TILE_SIZE}.
+     */
+    public int getPixelHeight() {
+        return height * TILE_SIZE;
+    }
+
     public String getPath() {
         return path;
     }
@@ -0,0 +1,134 @@
+package org.example.realengine.map;
+
+import org.example.realengine.object.EObject;
+
+/**
+ * A bounded log of the collision map cells changed at runtime, in the order they were written.
+ * <p>Readers that keep their own copy of the collision map, such as render snapshots, remember the
+ * {@link #getSequence() sequence} they are up to date with and later {@link #replay(long, EObject[][]) replay}
+ * only the changes made since then. Replaying is idempotent because every entry carries the full new value of its cell.
+ * When more changes than {@link #CAPACITY} happened in between, or the whole map was replaced
+ * (a new {@link #getGeneration() generation}), the reader has to copy the whole map instead.</p>
+ * <p>The log is written and read by the thread that simulates the map only.</p>
+ */
+public final class TileChangeLog {
+    /**
+     * The number of changes kept. Must be a power of two.
+     */
+    public static final int CAPACITY = 4096;
+    /**
+     * The column of each change.
+     */
+    private final int[] xs = new int[CAPACITY];
+    /**
+     * The row of each change.
+     */
+    private final int[] ys = new int[CAPACITY];
+    /**
+     * The new value of each change.
+     */
+    private final EObject[] objects = new EObject[CAPACITY];
+    /**
+     * The number of changes ever recorded.
+     */
+    private long sequence = 0;
+    /**
+     * Incremented whenever the whole collision map is replaced.
+     */
+    private long generation = 0;
+
+    /**
+     * Records that a cell has been set.
+     *
+     * @param x      The column of the cell.
+     * @param y      The row of the cell.
+     * @param object The new value of the cell.
+     */
+    void record(int x, int y, EObject object) {
+        final int index = (int) (sequence & (CAPACITY - 1));
+        xs[index] = x;
+        ys[index] = y;
+        objects[index] = object;
+        sequence++;
+    }
+
+    /**
+     * Records that the whole collision map has been replaced, so no earlier sequence can be replayed.
+     */
+    void invalidate() {
+        generation++;
+    }
+
+    /**
+     * Returns the number of changes ever recorded; a reader that is up to date stores this value.
+     *
+     * @return The current sequence.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the generation of the collision map, which changes when the whole map is replaced.
+     *
+     * @return The current generation.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns whether all changes since the given point are still in the log.
+     *
+     * @param fromSequence   The sequence the reader is up to date with.
+     * @param fromGeneration The generation the reader is up to date with.
+     * @return {@code true} if {@link #replay(long, EObject[][])} brings the reader up to date.
+     */
+    public boolean canReplay(long fromSequence, long fromGeneration) {
+        return fromGeneration == generation && fromSequence <= sequence && sequence - fromSequence <= CAPACITY;
+    }
+
+    /**
+     * Applies all changes made since {@code fromSequence} to a copy of the collision map.
+     * Only valid if {@link #canReplay(long, long)} returned {@code true}.
+     *
+     * @param fromSequence The sequence the copy is up to date with.
+     * @param target       The copy of the collision map to update.
+     */
+    public void replay(long fromSequence, EObject[][] target) {
+        for (long s = fromSequence; s < sequence; s++) {
+            final int index = (int) (s & (CAPACITY - 1));
+            target[xs[index]][ys[index]] = objects[index];
+        }
+    }
+
+    /**
+     * Returns the column of a logged change. Only valid for sequences {@link #canReplay(long, long) still in the log}.
+     *
+     * @param sequence The sequence of the change, between the reader's sequence and {@link #getSequence()}.
+     * @return The column of the changed cell.
+     */
+    public int getX(long sequence) {
+        return xs[(int) (sequence & (CAPACITY - 1))];
+    }
+
+    /**
+     * Returns the row of a logged change. Only valid for sequences {@link #canReplay(long, long) still in the log}.
+     *
+     * @param sequence The sequence of the change, between the reader's sequence and {@link #getSequence()}.
+     * @return The row of the changed cell.
+     */
+    public int getY(long sequence) {
+        return ys[(int) (sequence & (CAPACITY - 1))];
+    }
+
+    /**
+     * Returns the new value of a logged change. Only valid for sequences {@link #canReplay(long, long) still in the log}.
+     *
+     * @param sequence The sequence of the change, between the reader's sequence and {@link #getSequence()}.
+     * @return The new value of the changed cell.
+     */
+    public EObject getObject(long sequence) {
+        return objects[(int) (sequence & (CAPACITY - 1))];
+    }
+}
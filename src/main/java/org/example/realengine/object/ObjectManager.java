@@ -1,5 +1,6 @@
 package org.example.realengine.object;
 
+import org.example.realengine.game.GameClock;
 import org.example.realengine.map.RMap;
 
 import java.util.ArrayList;
@@ -11,20 +12,71 @@ import java.util.List;
  */
 public class ObjectManager {
     /**
-     * The delay in game ticks before a falling platform starts to fall after being stepped on.
+     * The delay in seconds before a falling platform starts to fall after being stepped on,
+     * a whole number of ticks at 30, 60, 120 and 240 Hz.
      */
-    private static final int FALL_DELAY = 30;
+    private static final float FALL_DELAY = 16 / 60f;
     /**
-     * The delay in game ticks before a fallen platform respawns.
+     * The delay in seconds before a fallen platform respawns.
      */
-    private static final int RESPAWN_DELAY = 100;
+    private static final float RESPAWN_DELAY = 100 / 60f;
     /**
      * A list to keep track of the current state of falling platforms.
      */
     private final List<FallingPlatformState> fallingPlatforms = new ArrayList<>();
+    /**
+     * {@link #FALL_DELAY} converted to ticks of the current clock.
+     */
+    private int fallDelayTicks;
+    /**
+     * {@link #RESPAWN_DELAY} converted to ticks of the current clock.
+     */
+    private int respawnDelayTicks;
+
+    /**
+     * Constructs a new {@code ObjectManager}.
+     *
+     * @param clock The simulation clock used to convert delays to ticks.
+     */
+    public ObjectManager(GameClock clock) {
+        setClock(clock);
+    }
 
     /**
-     * Updates the state of all falling platforms in the game.
+     * Sets the simulation clock and converts the platform delays to its ticks.
+     *
+     * @param clock The new simulation clock.
+     */
+    public void setClock(GameClock clock) {
+        this.fallDelayTicks = clock.toTicks(FALL_DELAY);
+        this.respawnDelayTicks = clock.toTicks(RESPAWN_DELAY);
+    }
+
+    /**
+     * Starts the fall timer of the falling platform at the given tile, if there is one and it is not already falling.
+     * The tick the platform is triggered on counts as the first tick of {@link #FALL_DELAY}, whether it is triggered
+     * before or after {@link #updateFallingPlatforms(RMap, int, int)} in that tick.
+     *
+     * @param rMap The current game map.
+     * @param x    The X-coordinate of the tile.
+     * @param y    The Y-coordinate of the tile.
+     */
+    public void triggerFallingPlatform(RMap rMap, int x, int y) {
+        if (x < 0 || x >= rMap.getWidth() || y < 0 || y >= rMap.getHeight()
+                || rMap.getCollisionMap()[x][y] != EObject.FALLING_PLATFORM) {
+            return;
+        }
+        for (int i = 0; i < fallingPlatforms.size(); i++) {
+            FallingPlatformState s = fallingPlatforms.get(i);
+            if (s.x == x && s.y == y) {
+                return;
+            }
+        }
+        fallingPlatforms.add(new FallingPlatformState(x, y));
+    }
+
+    /**
+     * Updates the state of all falling platforms in the game. Must be called exactly once per tick.
      * This method checks if the player is on a falling platform to initiate its fall,
      * manages the falling timer, and handles the respawn of fallen platforms.
      *
@@ -33,44 +85,27 @@ public class ObjectManager {
      * @param playerY The player's current Y-coordinate.
      */
     public void updateFallingPlatforms(RMap rMap, int playerX, int playerY) {
-        final EObject[][] collisionMap = rMap.getCollisionMap();
-        for (int y = 0; y < rMap.getHeight(); y++) {
-            for (int x = 0; x < rMap.getWidth(); x++) {
-                if (collisionMap[x][y] == EObject.FALLING_PLATFORM) {
-                    boolean found = false;
-                    for (int i = 0; i < fallingPlatforms.size(); i++) {
-                        FallingPlatformState s = fallingPlatforms.get(i);
-                        if (s.x == x && s.y == y) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (playerX == x && playerY == y && !found) {
-                        fallingPlatforms.add(new FallingPlatformState(x, y));
-                    }
-                }
-            }
-        }
         for (int i = 0; i < fallingPlatforms.size(); ) {
             FallingPlatformState state = fallingPlatforms.get(i);
             if (!state.falling) {
                 state.timer++;
-                if (state.timer >= FALL_DELAY) {
-                    collisionMap[state.x][state.y] = EObject.EMPTY;
+                if (state.timer >= fallDelayTicks) {
+                    rMap.setObjectAt(state.x, state.y, EObject.EMPTY);
                     state.falling = true;
                     state.respawnTimer = 0;
                 }
                 i++;
             } else {
                 state.respawnTimer++;
-                if (state.respawnTimer >= RESPAWN_DELAY) {
-                    collisionMap[state.x][state.y] = EObject.FALLING_PLATFORM;
+                if (state.respawnTimer >= respawnDelayTicks) {
+                    rMap.setObjectAt(state.x, state.y, EObject.FALLING_PLATFORM);
                     fallingPlatforms.remove(i);
                 } else {
                     i++;
                 }
             }
         }
+        triggerFallingPlatform(rMap, playerX, playerY);
     }
 
     /**
@@ -80,13 +115,27 @@ public class ObjectManager {
      * @param rMap The current game map, used to access and modify the collision map.
      */
     public void applyBoxGravity(RMap rMap) {
+        applyBoxGravity(rMap, 0, rMap.getWidth());
+    }
+
+    /**
+     * Applies gravity to the boxes in a range of columns only, e.g. the columns around the camera
+     * when off-screen simulation is reduced.
+     *
+     * @param rMap  The current game map, used to access and modify the collision map.
+     * @param fromX The first column, inclusive.
+     * @param toX   The last column, exclusive.
+     */
+    public void applyBoxGravity(RMap rMap, int fromX, int toX) {
         final EObject[][] collisionMap = rMap.getCollisionMap();
+        final int startX = Math.max(0, fromX);
+        final int endX = Math.min(rMap.getWidth(), toX);
         for (int y = rMap.getHeight() - 2; y >= 0; y--) {
-            for (int x = 0; x < rMap.getWidth(); x++) {
+            for (int x = startX; x < endX; x++) {
                 if (collisionMap[x][y] == EObject.BOX) {
                     if (y + 1 < rMap.getHeight() && collisionMap[x][y + 1] == EObject.EMPTY) {
-                        collisionMap[x][y + 1] = EObject.BOX;
-                        collisionMap[x][y] = EObject.EMPTY;
+                        rMap.setObjectAt(x, y + 1, EObject.BOX);
+                        rMap.setObjectAt(x, y, EObject.EMPTY);
                     }
                 }
             }
@@ -113,7 +162,7 @@ public class ObjectManager {
         private FallingPlatformState(int x, int y) {
             this.x = x;
             this.y = y;
-            this.timer = 0;
+            this.timer = 1;
             this.falling = false;
             this.respawnTimer = 0;
         }
@@ -1,23 +1,45 @@
 package org.example.realengine.resource;
 
 import javax.imageio.ImageIO;
+import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages game resources, specifically textures, by providing a caching mechanism.
  * This class ensures that textures are loaded only once and reused across the application
  * to optimize performance and memory usage.
+ * <p>Variants derived from a texture, such as its mirror image, are generated on first use instead of being
+ * shipped as separate files, and kept in a cache of at most {@link #VARIANT_CAPACITY} images that drops
+ * the least recently requested one.</p>
  */
 public class ResourceManager {
+    /**
+     * The maximum number of derived texture variants kept in memory.
+     */
+    public static final int VARIANT_CAPACITY = 64;
     /**
      * A cache to store loaded {@link BufferedImage} textures, mapped by their file paths.
      * This prevents redundant loading of the same texture from disk.
+     * Concurrent, because worlds may be created on several threads at once.
+     */
+    private static final Map<String, BufferedImage> textureCache = new ConcurrentHashMap<>();
+    /**
+     * The derived variants in least recently requested order, limited to {@link #VARIANT_CAPACITY}.
+     * Synchronized, because worlds may be created on several threads at once.
      */
-    private static final Map<String, BufferedImage> textureCache = new HashMap<>();
+    private static final Map<Variant, BufferedImage> variantCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Variant, BufferedImage> eldest) {
+                    return size() > VARIANT_CAPACITY;
+                }
+            });
 
     /**
      * Retrieves a texture ({@link BufferedImage}) from the specified file path.
@@ -26,14 +48,130 @@ public class ResourceManager {
      *
      * @param path The absolute or relative path to the texture file.
      * @return The loaded {@link BufferedImage} representing the texture.
-     * @throws IOException If an I/O error occurs during the loading of the image.
+     * @throws IOException If an I/O error occurs during the loading of the image, or the file is not a readable image.
      */
     public static BufferedImage getTexture(String path) throws IOException {
-        if (textureCache.containsKey(path)) {
-            return textureCache.get(path);
+        final BufferedImage cached = textureCache.get(path);
+        if (cached != null) {
+            return cached;
         }
         BufferedImage img = ImageIO.read(new File(path));
-        textureCache.put(path, img);
-        return img;
+        if (img == null) {
+            throw new IOException("Unsupported image: " + path);
+        }
+        final BufferedImage previous = textureCache.putIfAbsent(path, img);
+        return previous != null ? previous : img;
+    }
+
+    /**
+     * Retrieves a texture mirrored horizontally, e.g. a sprite facing the other way.
+     *
+     * @param path The path to the texture file.
+     * @return The mirrored texture, the same instance for as long as it stays cached.
+     * @throws IOException If an I/O error occurs during the loading of the image.
+     */
+    public static BufferedImage getMirroredTexture(String path) throws IOException {
+        return getVariant(path, EVariant.MIRRORED, 0);
+    }
+
+    /**
+     * Retrieves a texture with its colors multiplied by a tint. Transparency is kept.
+     *
+     * @param path The path to the texture file.
+     * @param tint The tint; white leaves the texture unchanged.
+     * @return The tinted texture, the same instance for as long as it stays cached.
+     * @throws IOException If an I/O error occurs during the loading of the image.
+     */
+    public static BufferedImage getTintedTexture(String path, Color tint) throws IOException {
+        return getVariant(path, EVariant.TINTED, tint.getRGB());
+    }
+
+    /**
+     * Retrieves the white silhouette of a texture, shown briefly when an entity is hit.
+     *
+     * @param path The path to the texture file.
+     * @return The silhouette with the transparency of the texture, the same instance for as long as it stays cached.
+     * @throws IOException If an I/O error occurs during the loading of the image.
+     */
+    public static BufferedImage getHitFlashTexture(String path) throws IOException {
+        return getVariant(path, EVariant.HIT_FLASH, 0);
+    }
+
+    /**
+     * Returns a derived variant of a texture from the cache, generating it from the base texture if needed.
+     *
+     * @param path    The path to the texture file.
+     * @param variant The kind of variant.
+     * @param color   The color parameter of the variant, 0 if it has none.
+     * @return The variant.
+     * @throws IOException If an I/O error occurs during the loading of the image.
+     */
+    private static BufferedImage getVariant(String path, EVariant variant, int color) throws IOException {
+        final Variant key = new Variant(path, variant, color);
+        final BufferedImage cached = variantCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final BufferedImage base = getTexture(path);
+        return variantCache.computeIfAbsent(key, _ -> derive(base, variant, color));
+    }
+
+    /**
+     * Generates a variant of a texture.
+     *
+     * @param base    The base texture.
+     * @param variant The kind of variant.
+     * @param color   The color parameter of the variant.
+     * @return The new ARGB image.
+     */
+    private static BufferedImage derive(BufferedImage base, EVariant variant, int color) {
+        final int width = base.getWidth();
+        final int height = base.getHeight();
+        final int[] pixels = base.getRGB(0, 0, width, height, null, 0, width);
+        final int[] derived = new int[pixels.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final int argb = pixels[y * width + x];
+                derived[y * width + x] = switch (variant) {
+                    case MIRRORED -> pixels[y * width + width - 1 - x];
+                    case TINTED -> argb & 0xFF000000
+                            | ((argb >> 16) & 0xFF) * ((color >> 16) & 0xFF) / 255 << 16
+                            | ((argb >> 8) & 0xFF) * ((color >> 8) & 0xFF) / 255 << 8
+                            | (argb & 0xFF) * (color & 0xFF) / 255;
+                    case HIT_FLASH -> argb & 0xFF000000 | 0xFFFFFF;
+                };
+            }
+        }
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, derived, 0, width);
+        return image;
+    }
+
+    /**
+     * The kinds of derived texture variants.
+     */
+    private enum EVariant {
+        /**
+         * Mirrored horizontally.
+         */
+        MIRRORED,
+        /**
+         * Colors multiplied by a tint.
+         */
+        TINTED,
+        /**
+         * A white silhouette.
+         */
+        HIT_FLASH
+    }
+
+    /**
+     * The key of a derived variant.
+     *
+     * @param path    The path of the base texture.
+     * @param variant The kind of variant.
+     * @param color   The color parameter of the variant, 0 if it has none.
+     */
+    private record Variant(String path, EVariant variant, int color) {
     }
-}
\ No newline at end of file
+}